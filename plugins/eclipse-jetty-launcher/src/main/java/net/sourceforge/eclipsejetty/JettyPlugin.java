@@ -14,6 +14,10 @@ package net.sourceforge.eclipsejetty;
 import java.io.File;
 import java.net.URL;
 
+import net.sourceforge.eclipsejetty.launch.util.JettyLaunchClasspathCache;
+
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.DefaultScope;
@@ -77,6 +81,9 @@ public class JettyPlugin extends AbstractUIPlugin
     {
         super.start(context);
         plugin = this;
+
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(JettyLaunchClasspathCache.getInstance(),
+            IResourceChangeEvent.POST_CHANGE);
     }
 
     /**
@@ -87,6 +94,8 @@ public class JettyPlugin extends AbstractUIPlugin
     @Override
     public void stop(final BundleContext context) throws Exception
     {
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(JettyLaunchClasspathCache.getInstance());
+
         plugin = null;
         super.stop(context);
     }
@@ -206,6 +215,14 @@ public class JettyPlugin extends AbstractUIPlugin
         getDefault().getLog().log(status);
     }
 
+    public static void debug(String message)
+    {
+        if (getDefault().isDebugging())
+        {
+            log(IStatus.INFO, message, null);
+        }
+    }
+
     public static void info(String message)
     {
         log(IStatus.INFO, message, null);
@@ -20,6 +20,9 @@ public class Messages extends NLS
     public static String adapter_defaultConfigName;
     public static String adapter_noDefaultScope;
     public static String adapter_noHasAttribute;
+    public static String advConfigTab_acceptQueueSizeLabel;
+    public static String advConfigTab_acceptQueueSizeSpinnerTip;
+    public static String advConfigTab_acceptQueueSizeUnit;
     public static String advConfigTab_acceptorLimitCountSpinnerTip;
     public static String advConfigTab_acceptorLimitCountUnit;
     public static String advConfigTab_acceptorLimitEnabledButton;
@@ -27,8 +30,75 @@ public class Messages extends NLS
     public static String advConfigTab_ajpPortSpinnerTip;
     public static String advConfigTab_ajpSupportButton;
     public static String advConfigTab_ajpSupportButtonTip;
+    public static String advConfigTab_annotationScanGroupTitle;
+    public static String advConfigTab_annotationsMaxWaitLabel;
+    public static String advConfigTab_annotationsMaxWaitSpinnerTip;
+    public static String advConfigTab_annotationsMaxWaitUnit;
+    public static String advConfigTab_annotationsMultiThreadedButton;
+    public static String advConfigTab_annotationsMultiThreadedButtonTip;
     public static String advConfigTab_clientCacheDisabledButton;
     public static String advConfigTab_clientCacheDisabledButtonTip;
+    public static String advConfigTab_compressionGroupTitle;
+    public static String advConfigTab_connectorGroupTitle;
+    public static String advConfigTab_connectorIdleTimeoutLabel;
+    public static String advConfigTab_connectorIdleTimeoutSpinnerTip;
+    public static String advConfigTab_connectorIdleTimeoutUnit;
+    public static String advConfigTab_connectorTuningEnabledButton;
+    public static String advConfigTab_connectorTuningEnabledButtonTip;
+    public static String advConfigTab_containerIncludeJarPatternLabel;
+    public static String advConfigTab_containerIncludeJarPatternTextTip;
+    public static String advConfigTab_etagsEnabledButton;
+    public static String advConfigTab_etagsEnabledButtonTip;
+    public static String advConfigTab_fileMappedBufferEnabledButton;
+    public static String advConfigTab_fileMappedBufferEnabledButtonTip;
+    public static String advConfigTab_fileMappedBufferThresholdLabel;
+    public static String advConfigTab_fileMappedBufferThresholdSpinnerTip;
+    public static String advConfigTab_fileMappedBufferThresholdUnit;
+    public static String advConfigTab_gzipCompressionLevelLabel;
+    public static String advConfigTab_gzipCompressionLevelSpinnerTip;
+    public static String advConfigTab_gzipCompressionLevelUnit;
+    public static String advConfigTab_gzipEnabledButton;
+    public static String advConfigTab_gzipEnabledButtonTip;
+    public static String advConfigTab_gzipMimeTypesLabel;
+    public static String advConfigTab_gzipMimeTypesTextTip;
+    public static String advConfigTab_gzipMinSizeLabel;
+    public static String advConfigTab_gzipMinSizeSpinnerTip;
+    public static String advConfigTab_gzipMinSizeUnit;
+    public static String advConfigTab_headerCacheSizeLabel;
+    public static String advConfigTab_headerCacheSizeSpinnerTip;
+    public static String advConfigTab_headerCacheSizeUnit;
+    public static String advConfigTab_http2SupportButton;
+    public static String advConfigTab_http2SupportButtonTip;
+    public static String advConfigTab_includeJarPatternInvalid;
+    public static String advConfigTab_outputBufferSizeLabel;
+    public static String advConfigTab_outputBufferSizeSpinnerTip;
+    public static String advConfigTab_outputBufferSizeUnit;
+    public static String advConfigTab_precompressedEnabledButton;
+    public static String advConfigTab_precompressedEnabledButtonTip;
+    public static String advConfigTab_quickstartEnabledButton;
+    public static String advConfigTab_quickstartEnabledButtonTip;
+    public static String advConfigTab_requestHeaderSizeLabel;
+    public static String advConfigTab_requestHeaderSizeSpinnerTip;
+    public static String advConfigTab_requestHeaderSizeUnit;
+    public static String advConfigTab_reservedThreadsCountSpinnerTip;
+    public static String advConfigTab_reservedThreadsCountUnit;
+    public static String advConfigTab_reservedThreadsLabel;
+    public static String advConfigTab_reuseAddressButton;
+    public static String advConfigTab_reuseAddressButtonTip;
+    public static String advConfigTab_selectorsLabel;
+    public static String advConfigTab_selectorsSpinnerTip;
+    public static String advConfigTab_selectorsUnit;
+    public static String advConfigTab_serverCacheLimitsEnabledButton;
+    public static String advConfigTab_serverCacheLimitsEnabledButtonTip;
+    public static String advConfigTab_serverCacheMaxFileSizeLabel;
+    public static String advConfigTab_serverCacheMaxFileSizeSpinnerTip;
+    public static String advConfigTab_serverCacheMaxFileSizeUnit;
+    public static String advConfigTab_serverCacheMaxFilesLabel;
+    public static String advConfigTab_serverCacheMaxFilesSpinnerTip;
+    public static String advConfigTab_serverCacheMaxFilesUnit;
+    public static String advConfigTab_serverCacheMaxSizeLabel;
+    public static String advConfigTab_serverCacheMaxSizeSpinnerTip;
+    public static String advConfigTab_serverCacheMaxSizeUnit;
     public static String advConfigTab_sniCheckDisabledButton;
     public static String advConfigTab_sniCheckDisabledButtonTip;
     public static String advConfigTab_consoleEnabledButton;
@@ -90,6 +160,26 @@ public class Messages extends NLS
     public static String advConfigTab_jettyGroupTitle;
     public static String advConfigTab_jmxSupportButton;
     public static String advConfigTab_jmxSupportButtonTip;
+    public static String advConfigTab_staticContentGroupTitle;
+    public static String advConfigTab_statisticsEnabledButton;
+    public static String advConfigTab_statisticsEnabledButtonTip;
+    public static String advConfigTab_threadPoolIdleTimeoutLabel;
+    public static String advConfigTab_threadPoolIdleTimeoutSpinnerTip;
+    public static String advConfigTab_threadPoolIdleTimeoutUnit;
+    public static String advConfigTab_threadPoolMinimumCountSpinnerTip;
+    public static String advConfigTab_threadPoolMinimumCountUnit;
+    public static String advConfigTab_threadPoolMinimumLabel;
+    public static String advConfigTab_threadPoolTypeLabel;
+    public static String advConfigTab_threadPoolTypeQueuedButton;
+    public static String advConfigTab_threadPoolTypeQueuedButtonTip;
+    public static String advConfigTab_threadPoolTypeReservedButton;
+    public static String advConfigTab_threadPoolTypeReservedButtonTip;
+    public static String advConfigTab_threadPoolTypeVirtualButton;
+    public static String advConfigTab_threadPoolTypeVirtualButtonTip;
+    public static String advConfigTab_webInfIncludeJarPatternDerivedButton;
+    public static String advConfigTab_webInfIncludeJarPatternDerivedButtonTip;
+    public static String advConfigTab_webInfIncludeJarPatternLabel;
+    public static String advConfigTab_webInfIncludeJarPatternTextTip;
     public static String advConfigTab_websocketSupportButton;
     public static String advConfigTab_websocketSupportButtonTip;
     public static String advConfigTab_jndiSupportButton;
@@ -142,6 +232,11 @@ public class Messages extends NLS
     public static String configTab_projectTextTip;
     public static String configTab_serverHTTPLink;
     public static String configTab_serverHTTPsLink;
+    public static String configTab_unixDomainEnableButton;
+    public static String configTab_unixDomainEnableButtonTip;
+    public static String configTab_unixDomainPathLabel;
+    public static String configTab_unixDomainPathMissing;
+    public static String configTab_unixDomainPathTextTip;
     public static String configTab_webAppBrowseButton;
     public static String configTab_webAppBrowseButtonTip;
     public static String configTab_webAppBrowseMessage;
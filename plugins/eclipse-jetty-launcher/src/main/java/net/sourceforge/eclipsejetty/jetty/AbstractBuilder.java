@@ -14,8 +14,19 @@ package net.sourceforge.eclipsejetty.jetty;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import net.sourceforge.eclipsejetty.util.DOMBuilder;
+import net.sourceforge.eclipsejetty.util.StAXBuilder;
+import net.sourceforge.eclipsejetty.util.XMLBuilder;
 
 /**
  * Abstract builder for configuration XML files
@@ -27,13 +38,65 @@ public abstract class AbstractBuilder
 
     protected static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final Map<String, WrittenFile> WRITTEN_FILES = new ConcurrentHashMap<String, WrittenFile>();
+    private static final AtomicLong WRITE_COUNT = new AtomicLong();
+    private static final AtomicLong SKIP_COUNT = new AtomicLong();
+
+    /**
+     * Describes a file written by a builder
+     */
+    private static class WrittenFile
+    {
+        private final String fingerprint;
+        private final long length;
+        private final long lastModified;
+
+        public WrittenFile(String fingerprint, File file)
+        {
+            super();
+
+            this.fingerprint = fingerprint;
+
+            length = file.length();
+            lastModified = file.lastModified();
+        }
+
+        public boolean isUnchanged(String fingerprint, File file)
+        {
+            return (this.fingerprint.equals(fingerprint)) && (file.exists()) && (file.length() == length)
+                && (file.lastModified() == lastModified);
+        }
+    }
+
+    /**
+     * Returns the number of files written by builders.
+     * 
+     * @return the number of written files
+     */
+    public static long getWriteCount()
+    {
+        return WRITE_COUNT.get();
+    }
+
+    /**
+     * Returns the number of times writing a file was skipped, because an identical file already existed.
+     * 
+     * @return the number of skipped writes
+     */
+    public static long getSkipCount()
+    {
+        return SKIP_COUNT.get();
+    }
+
     public AbstractBuilder()
     {
         super();
     }
 
     /**
-     * Builds the xml.
+     * Builds the xml as DOM.
      * 
      * @param warning true to add a warning, that the file automatically generated.
      * @return the builder
@@ -42,6 +105,19 @@ public abstract class AbstractBuilder
     {
         DOMBuilder builder = new DOMBuilder();
 
+        build(builder, warning);
+
+        return builder;
+    }
+
+    /**
+     * Builds the xml using the specified builder.
+     * 
+     * @param builder the builder
+     * @param warning true to add a warning, that the file automatically generated.
+     */
+    protected void build(XMLBuilder builder, boolean warning)
+    {
         if (warning)
         {
             StringBuilder comment = new StringBuilder();
@@ -58,8 +134,6 @@ public abstract class AbstractBuilder
         }
 
         buildBody(builder);
-
-        return builder;
     }
 
     /**
@@ -67,10 +141,12 @@ public abstract class AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected abstract void buildBody(DOMBuilder builder);
+    protected abstract void buildBody(XMLBuilder builder);
 
     /**
-     * Builds and write the content to the specified file
+     * Builds and write the content to the specified file. The content is streamed by a {@link StAXBuilder}, the output
+     * is the same as the one of the {@link DOMBuilder}. Skips building and writing, if the file has been written before
+     * with the same fingerprint (see {@link #computeFingerprint(boolean)}) and has not been changed since.
      * 
      * @param file the file
      * @param formatted true to be formatted
@@ -78,16 +154,89 @@ public abstract class AbstractBuilder
      */
     public void write(File file, boolean formatted) throws IOException
     {
+        String key = file.getAbsolutePath();
+        String fingerprint = computeFingerprint(formatted);
+        WrittenFile writtenFile = WRITTEN_FILES.get(key);
+
+        if ((fingerprint != null) && (writtenFile != null) && (writtenFile.isUnchanged(fingerprint, file)))
+        {
+            SKIP_COUNT.incrementAndGet();
+
+            return;
+        }
+
+        WRITTEN_FILES.remove(key);
+
         FileOutputStream out = new FileOutputStream(file);
 
         try
         {
-            build(formatted).write(out, formatted);
+            StAXBuilder builder = new StAXBuilder(out, formatted);
+
+            build(builder, formatted);
+
+            builder.close();
         }
         finally
         {
             out.close();
         }
+
+        WRITE_COUNT.incrementAndGet();
+
+        if (fingerprint != null)
+        {
+            WRITTEN_FILES.put(key, new WrittenFile(fingerprint, file));
+        }
+    }
+
+    /**
+     * Computes a fingerprint of all inputs of the builder. These are the class of the builder and the values collected
+     * by {@link #collectFingerprintInputs(List)}.
+     * 
+     * @param formatted true if the file will be formatted
+     * @return the fingerprint, null if it could not be computed
+     */
+    protected String computeFingerprint(boolean formatted)
+    {
+        List<Object> inputs = new ArrayList<Object>();
+
+        collectFingerprintInputs(inputs);
+
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+
+            digest.update((getClass().getName() + "|" + formatted).getBytes(UTF_8));
+
+            for (Object input : inputs)
+            {
+                digest.update("|".getBytes(UTF_8));
+                digest.update(((input instanceof Object[]) ? Arrays.deepToString((Object[]) input) : String
+                    .valueOf(input)).getBytes(UTF_8));
+            }
+
+            StringBuilder builder = new StringBuilder();
+
+            for (byte b : digest.digest())
+            {
+                builder.append(String.format("%02x", b & 0xff));
+            }
+
+            return builder.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            return null;
+        }
     }
 
+    /**
+     * Collects the values of all properties, that influence the content of the file. Implementations have to add the
+     * values of all their setters.
+     * 
+     * @param inputs the list of values
+     */
+    protected abstract void collectFingerprintInputs(List<Object> inputs);
+
 }
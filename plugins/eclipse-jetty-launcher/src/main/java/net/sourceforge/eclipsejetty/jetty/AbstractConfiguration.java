@@ -13,7 +13,7 @@ package net.sourceforge.eclipsejetty.jetty;
 
 import java.util.Collection;
 
-import net.sourceforge.eclipsejetty.util.DOMBuilder;
+import net.sourceforge.eclipsejetty.util.XMLBuilder;
 
 /**
  * Abstract base class for building Jetty configurations
@@ -41,9 +41,9 @@ public abstract class AbstractConfiguration extends AbstractBuilder
      * @see net.sourceforge.eclipsejetty.jetty.AbstractBuilder#buildBody(net.sourceforge.eclipsejetty.jetty.JettyConfigBuilder)
      */
     @Override
-    protected void buildBody(DOMBuilder domBuilder)
+    protected void buildBody(XMLBuilder xmlBuilder)
     {
-        JettyConfigBuilder builder = new JettyConfigBuilder(domBuilder, getJettyVersionType());
+        JettyConfigBuilder builder = new JettyConfigBuilder(xmlBuilder, getJettyVersionType());
 
         builder.beginConfigure(getIdToConfigure(), getClassToConfigure());
         {
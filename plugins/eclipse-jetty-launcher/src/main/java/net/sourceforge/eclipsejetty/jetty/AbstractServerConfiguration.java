@@ -14,6 +14,7 @@ package net.sourceforge.eclipsejetty.jetty;
 import java.io.File;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * Abstract builder for a Jetty configuration
@@ -30,16 +31,39 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
     private Integer microVersion;
 
     private boolean annotationsEnabled = false;
+    private Boolean annotationScanMultiThreaded;
+    private Integer annotationScanMaxWait;
+    private String containerIncludeJarPattern;
+    private String webInfIncludeJarPattern;
+    private String quickstartPath;
+    private boolean quickstartGenerate = false;
     private boolean jndiEnabled = false;
     private boolean jmxEnabled = false;
     private boolean websocketEnabled = false;
     private boolean sniCheckEnabled = true;
+    private boolean http2Enabled = false;
 
     private Integer port;
     private Integer sslPort;
+    private String unixDomainPath;
     private Integer gracefulShutdown;
     private Integer threadPoolLimit;
+    private JettyThreadPoolType threadPoolType = JettyThreadPoolType.QUEUED;
+    private Integer threadPoolMinimum;
+    private Integer threadPoolIdleTimeout;
+    private Integer reservedThreads;
     private Integer acceptorLimit;
+    private Integer selectors;
+    private Integer acceptQueueSize;
+    private Boolean reuseAddress;
+    private Integer connectorIdleTimeout;
+    private Integer outputBufferSize;
+    private Integer requestHeaderSize;
+    private Integer headerCacheSize;
+    private boolean gzipEnabled = false;
+    private Integer gzipMinSize;
+    private String[] gzipMimeTypes;
+    private Integer gzipCompressionLevel;
 
     private String keyStorePath;
     private String keyStorePassword;
@@ -106,6 +130,130 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
         this.annotationsEnabled = annotationsEnabled;
     }
 
+    /**
+     * Returns true if the annotations should be scanned by multiple threads.
+     *
+     * @return true for multiple threads, null for the default of Jetty
+     */
+    public Boolean getAnnotationScanMultiThreaded()
+    {
+        return annotationScanMultiThreaded;
+    }
+
+    /**
+     * Set to true if the annotations should be scanned by multiple threads.
+     *
+     * @param annotationScanMultiThreaded true for multiple threads, null for the default of Jetty
+     */
+    public void setAnnotationScanMultiThreaded(Boolean annotationScanMultiThreaded)
+    {
+        this.annotationScanMultiThreaded = annotationScanMultiThreaded;
+    }
+
+    /**
+     * Returns the maximum time to wait for a multi-threaded annotation scan.
+     *
+     * @return the time (in seconds), null for the default of Jetty
+     */
+    public Integer getAnnotationScanMaxWait()
+    {
+        return annotationScanMaxWait;
+    }
+
+    /**
+     * Sets the maximum time to wait for a multi-threaded annotation scan.
+     *
+     * @param annotationScanMaxWait the time (in seconds), null for the default of Jetty
+     */
+    public void setAnnotationScanMaxWait(Integer annotationScanMaxWait)
+    {
+        this.annotationScanMaxWait = annotationScanMaxWait;
+    }
+
+    /**
+     * Returns the pattern for the jars of the container, that should be scanned for annotations, fragments and TLDs.
+     *
+     * @return the regular expression, null for the default of Jetty
+     */
+    public String getContainerIncludeJarPattern()
+    {
+        return containerIncludeJarPattern;
+    }
+
+    /**
+     * Sets the pattern for the jars of the container, that should be scanned for annotations, fragments and TLDs.
+     *
+     * @param containerIncludeJarPattern the regular expression, null for the default of Jetty
+     */
+    public void setContainerIncludeJarPattern(String containerIncludeJarPattern)
+    {
+        this.containerIncludeJarPattern = containerIncludeJarPattern;
+    }
+
+    /**
+     * Returns the pattern for the jars of the web application, that should be scanned for annotations, fragments and
+     * TLDs.
+     *
+     * @return the regular expression, null to scan all jars
+     */
+    public String getWebInfIncludeJarPattern()
+    {
+        return webInfIncludeJarPattern;
+    }
+
+    /**
+     * Sets the pattern for the jars of the web application, that should be scanned for annotations, fragments and
+     * TLDs.
+     *
+     * @param webInfIncludeJarPattern the regular expression, null to scan all jars
+     */
+    public void setWebInfIncludeJarPattern(String webInfIncludeJarPattern)
+    {
+        this.webInfIncludeJarPattern = webInfIncludeJarPattern;
+    }
+
+    /**
+     * Returns the path of the quickstart descriptor.
+     *
+     * @return the path of the quickstart descriptor, null if quickstart is disabled
+     */
+    public String getQuickstartPath()
+    {
+        return quickstartPath;
+    }
+
+    /**
+     * Sets the path of the quickstart descriptor, null to disable quickstart. Depending on
+     * {@link #setQuickstartGenerate(boolean)}, the descriptor gets either generated while starting the web
+     * application, or it is used instead of scanning the web application.
+     *
+     * @param quickstartPath the path of the quickstart descriptor
+     */
+    public void setQuickstartPath(String quickstartPath)
+    {
+        this.quickstartPath = quickstartPath;
+    }
+
+    /**
+     * Returns true if the quickstart descriptor should be generated.
+     *
+     * @return true to generate, false to use an existing descriptor
+     */
+    public boolean isQuickstartGenerate()
+    {
+        return quickstartGenerate;
+    }
+
+    /**
+     * Set to true, if the quickstart descriptor should be generated.
+     *
+     * @param quickstartGenerate true to generate, false to use an existing descriptor
+     */
+    public void setQuickstartGenerate(boolean quickstartGenerate)
+    {
+        this.quickstartGenerate = quickstartGenerate;
+    }
+
     /**
      * Returns true if JNDI support is enabled.
      *
@@ -166,6 +314,26 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
         this.sniCheckEnabled = sniCheckEnabled;
     }
 
+    /**
+     * Returns true if HTTP/2 is enabled. Adds h2c to the HTTP connector and h2 (using ALPN) to the HTTPs connector.
+     *
+     * @return true if HTTP/2 is enabled
+     */
+    public boolean isHttp2Enabled()
+    {
+        return http2Enabled;
+    }
+
+    /**
+     * Toggles the HTTP/2 support.
+     *
+     * @param http2Enabled true to enable HTTP/2
+     */
+    public void setHttp2Enabled(boolean http2Enabled)
+    {
+        this.http2Enabled = http2Enabled;
+    }
+
     public boolean isWebsocketEnabled()
     {
         return websocketEnabled;
@@ -217,6 +385,27 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
         this.sslPort = sslPort;
     }
 
+    /**
+     * Returns the path of the Unix-domain socket.
+     *
+     * @return the path of the Unix-domain socket, null if disabled
+     */
+    public String getUnixDomainPath()
+    {
+        return unixDomainPath;
+    }
+
+    /**
+     * Sets the path of the Unix-domain socket, null to disable. The connector uses the HTTP config, thus it needs the
+     * (HTTP) port, too.
+     *
+     * @param unixDomainPath the path of the Unix-domain socket
+     */
+    public void setUnixDomainPath(String unixDomainPath)
+    {
+        this.unixDomainPath = unixDomainPath;
+    }
+
     /**
      * Return the graceful shutdown timeout (in milliseconds).
      *
@@ -257,6 +446,89 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
         this.threadPoolLimit = threadPoolLimit;
     }
 
+    /**
+     * Returns the type of the thread pool.
+     *
+     * @return the type of the thread pool
+     */
+    public JettyThreadPoolType getThreadPoolType()
+    {
+        return threadPoolType;
+    }
+
+    /**
+     * Sets the type of the thread pool. Types, that are not supported by the Jetty version, fall back to
+     * {@link JettyThreadPoolType#QUEUED}.
+     *
+     * @param threadPoolType the type of the thread pool, null for {@link JettyThreadPoolType#QUEUED}
+     */
+    public void setThreadPoolType(JettyThreadPoolType threadPoolType)
+    {
+        this.threadPoolType = (threadPoolType != null) ? threadPoolType : JettyThreadPoolType.QUEUED;
+    }
+
+    /**
+     * Returns the minimum number of threads in the thread pool.
+     *
+     * @return the minimum number of threads in the thread pool
+     */
+    public Integer getThreadPoolMinimum()
+    {
+        return threadPoolMinimum;
+    }
+
+    /**
+     * Sets the minimum number of threads in the thread pool, null for the default.
+     *
+     * @param threadPoolMinimum the minimum number of threads in the thread pool
+     */
+    public void setThreadPoolMinimum(Integer threadPoolMinimum)
+    {
+        this.threadPoolMinimum = threadPoolMinimum;
+    }
+
+    /**
+     * Returns the time (in milliseconds) an idle thread is kept in the thread pool.
+     *
+     * @return the idle timeout (in milliseconds)
+     */
+    public Integer getThreadPoolIdleTimeout()
+    {
+        return threadPoolIdleTimeout;
+    }
+
+    /**
+     * Sets the time (in milliseconds) an idle thread is kept in the thread pool, null for the default.
+     *
+     * @param threadPoolIdleTimeout the idle timeout (in milliseconds)
+     */
+    public void setThreadPoolIdleTimeout(Integer threadPoolIdleTimeout)
+    {
+        this.threadPoolIdleTimeout = threadPoolIdleTimeout;
+    }
+
+    /**
+     * Returns the number of threads reserved by the ReservedThreadExecutor. Only used with
+     * {@link JettyThreadPoolType#RESERVED}.
+     *
+     * @return the number of reserved threads
+     */
+    public Integer getReservedThreads()
+    {
+        return reservedThreads;
+    }
+
+    /**
+     * Sets the number of threads reserved by the ReservedThreadExecutor. Only used with
+     * {@link JettyThreadPoolType#RESERVED}.
+     *
+     * @param reservedThreads the number of reserved threads
+     */
+    public void setReservedThreads(Integer reservedThreads)
+    {
+        this.reservedThreads = reservedThreads;
+    }
+
     /**
      * Returns the acceptor limit.
      *
@@ -277,6 +549,227 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
         this.acceptorLimit = acceptorLimit;
     }
 
+    /**
+     * Returns the number of selectors of the connectors.
+     *
+     * @return the number of selectors
+     */
+    public Integer getSelectors()
+    {
+        return selectors;
+    }
+
+    /**
+     * Sets the number of selectors of the connectors, null for Jetty's heuristic.
+     *
+     * @param selectors the number of selectors
+     */
+    public void setSelectors(Integer selectors)
+    {
+        this.selectors = selectors;
+    }
+
+    /**
+     * Returns the size of the accept queue (the backlog) of the server sockets.
+     *
+     * @return the size of the accept queue
+     */
+    public Integer getAcceptQueueSize()
+    {
+        return acceptQueueSize;
+    }
+
+    /**
+     * Sets the size of the accept queue (the backlog) of the server sockets, null for the default of the operating
+     * system.
+     *
+     * @param acceptQueueSize the size of the accept queue
+     */
+    public void setAcceptQueueSize(Integer acceptQueueSize)
+    {
+        this.acceptQueueSize = acceptQueueSize;
+    }
+
+    /**
+     * Returns true if the server sockets reuse the address.
+     *
+     * @return true if the server sockets reuse the address, null for the default
+     */
+    public Boolean getReuseAddress()
+    {
+        return reuseAddress;
+    }
+
+    /**
+     * Set to true if the server sockets should reuse the address, null for the default.
+     *
+     * @param reuseAddress true to reuse the address
+     */
+    public void setReuseAddress(Boolean reuseAddress)
+    {
+        this.reuseAddress = reuseAddress;
+    }
+
+    /**
+     * Returns the idle timeout of the connections (in milliseconds).
+     *
+     * @return the idle timeout (in milliseconds)
+     */
+    public Integer getConnectorIdleTimeout()
+    {
+        return connectorIdleTimeout;
+    }
+
+    /**
+     * Sets the idle timeout of the connections (in milliseconds), null for the default.
+     *
+     * @param connectorIdleTimeout the idle timeout (in milliseconds)
+     */
+    public void setConnectorIdleTimeout(Integer connectorIdleTimeout)
+    {
+        this.connectorIdleTimeout = connectorIdleTimeout;
+    }
+
+    /**
+     * Returns the size of the output buffer of a response (in bytes).
+     *
+     * @return the size of the output buffer (in bytes)
+     */
+    public Integer getOutputBufferSize()
+    {
+        return outputBufferSize;
+    }
+
+    /**
+     * Sets the size of the output buffer of a response (in bytes), null for the default.
+     *
+     * @param outputBufferSize the size of the output buffer (in bytes)
+     */
+    public void setOutputBufferSize(Integer outputBufferSize)
+    {
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    /**
+     * Returns the maximum size of the headers of a request (in bytes).
+     *
+     * @return the maximum size of the request headers (in bytes)
+     */
+    public Integer getRequestHeaderSize()
+    {
+        return requestHeaderSize;
+    }
+
+    /**
+     * Sets the maximum size of the headers of a request (in bytes), null for the default.
+     *
+     * @param requestHeaderSize the maximum size of the request headers (in bytes)
+     */
+    public void setRequestHeaderSize(Integer requestHeaderSize)
+    {
+        this.requestHeaderSize = requestHeaderSize;
+    }
+
+    /**
+     * Returns the size of the header field cache (in bytes).
+     *
+     * @return the size of the header field cache (in bytes)
+     */
+    public Integer getHeaderCacheSize()
+    {
+        return headerCacheSize;
+    }
+
+    /**
+     * Sets the size of the header field cache (in bytes), null for the default.
+     *
+     * @param headerCacheSize the size of the header field cache (in bytes)
+     */
+    public void setHeaderCacheSize(Integer headerCacheSize)
+    {
+        this.headerCacheSize = headerCacheSize;
+    }
+
+    /**
+     * Returns true, if the handler should be wrapped by a GzipHandler.
+     *
+     * @return true, if the responses should be compressed
+     */
+    public boolean isGzipEnabled()
+    {
+        return gzipEnabled;
+    }
+
+    /**
+     * Set to true, if the handler should be wrapped by a GzipHandler.
+     *
+     * @param gzipEnabled true to compress the responses
+     */
+    public void setGzipEnabled(boolean gzipEnabled)
+    {
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    /**
+     * Returns the minimum size of a response to be compressed.
+     *
+     * @return the minimum size (in bytes), null for the default of Jetty
+     */
+    public Integer getGzipMinSize()
+    {
+        return gzipMinSize;
+    }
+
+    /**
+     * Sets the minimum size of a response to be compressed.
+     *
+     * @param gzipMinSize the minimum size (in bytes), null for the default of Jetty
+     */
+    public void setGzipMinSize(Integer gzipMinSize)
+    {
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    /**
+     * Returns the MIME types to be compressed.
+     *
+     * @return the MIME types, null for the default of Jetty
+     */
+    public String[] getGzipMimeTypes()
+    {
+        return gzipMimeTypes;
+    }
+
+    /**
+     * Sets the MIME types to be compressed.
+     *
+     * @param gzipMimeTypes the MIME types, null for the default of Jetty
+     */
+    public void setGzipMimeTypes(String... gzipMimeTypes)
+    {
+        this.gzipMimeTypes = gzipMimeTypes;
+    }
+
+    /**
+     * Returns the compression level (0-9).
+     *
+     * @return the compression level, null for the default of Jetty
+     */
+    public Integer getGzipCompressionLevel()
+    {
+        return gzipCompressionLevel;
+    }
+
+    /**
+     * Sets the compression level (0-9).
+     *
+     * @param gzipCompressionLevel the compression level, null for the default of Jetty
+     */
+    public void setGzipCompressionLevel(Integer gzipCompressionLevel)
+    {
+        this.gzipCompressionLevel = gzipCompressionLevel;
+    }
+
     /**
      * Returns the key store path.
      *
@@ -420,6 +913,59 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractBuilder#collectFingerprintInputs(java.util.List)
+     */
+    @Override
+    protected void collectFingerprintInputs(List<Object> inputs)
+    {
+        inputs.add(getMajorVersion());
+        inputs.add(getMinorVersion());
+        inputs.add(getMicroVersion());
+        inputs.add(isAnnotationsEnabled());
+        inputs.add(getAnnotationScanMultiThreaded());
+        inputs.add(getAnnotationScanMaxWait());
+        inputs.add(getContainerIncludeJarPattern());
+        inputs.add(getWebInfIncludeJarPattern());
+        inputs.add(getQuickstartPath());
+        inputs.add(isQuickstartGenerate());
+        inputs.add(isJndiEnabled());
+        inputs.add(isJmxEnabled());
+        inputs.add(isWebsocketEnabled());
+        inputs.add(isSniCheckEnabled());
+        inputs.add(isHttp2Enabled());
+        inputs.add(getPort());
+        inputs.add(getSslPort());
+        inputs.add(getUnixDomainPath());
+        inputs.add(getGracefulShutdown());
+        inputs.add(getThreadPoolLimit());
+        inputs.add(getThreadPoolType());
+        inputs.add(getThreadPoolMinimum());
+        inputs.add(getThreadPoolIdleTimeout());
+        inputs.add(getReservedThreads());
+        inputs.add(getAcceptorLimit());
+        inputs.add(getSelectors());
+        inputs.add(getAcceptQueueSize());
+        inputs.add(getReuseAddress());
+        inputs.add(getConnectorIdleTimeout());
+        inputs.add(getOutputBufferSize());
+        inputs.add(getRequestHeaderSize());
+        inputs.add(getHeaderCacheSize());
+        inputs.add(isGzipEnabled());
+        inputs.add(getGzipMinSize());
+        inputs.add(getGzipMimeTypes());
+        inputs.add(getGzipCompressionLevel());
+        inputs.add(getKeyStorePath());
+        inputs.add(getKeyStorePassword());
+        inputs.add(getKeyManagerPassword());
+        inputs.add(getDefaultWar());
+        inputs.add(getDefaultContextPath());
+        inputs.add(getCustomWebDefaultsFile());
+        inputs.add(getDefaultClasspath());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -434,7 +980,7 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
     /**
      * {@inheritDoc}
      *
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractConfiguration#buildContent(net.sourceforge.eclipsejetty.util.DOMBuilder)
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractConfiguration#buildContent(net.sourceforge.eclipsejetty.util.XMLBuilder)
      */
     @Override
     protected void buildContent(JettyConfigBuilder builder)
@@ -444,6 +990,7 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
         buildHttpConnector(builder);
         buildHttpsConfig(builder);
         buildHttpsConnector(builder);
+        buildUnixDomainConnector(builder);
         buildHandler(builder);
         buildAnnotations(builder);
         buildJNDI(builder);
@@ -487,6 +1034,19 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
      */
     protected abstract void buildHttpsConnector(JettyConfigBuilder builder);
 
+    /**
+     * Builds the Unix-domain connector part, if enabled. Not supported by default.
+     *
+     * @param builder the builder
+     */
+    protected void buildUnixDomainConnector(JettyConfigBuilder builder)
+    {
+        if (getUnixDomainPath() != null)
+        {
+            builder.comment("Unix-domain sockets are not supported by this Jetty version");
+        }
+    }
+
     /**
      * Builds the handler part.
      *
@@ -494,7 +1054,66 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
      */
     protected void buildHandler(JettyConfigBuilder builder)
     {
-        buildDefaultHandler(builder);
+        if (isGzipEnabled())
+        {
+            buildGzipHandler(builder);
+        }
+        else
+        {
+            buildDefaultHandler(builder);
+        }
+    }
+
+    /**
+     * Builds the GzipHandler, that wraps the default handler.
+     *
+     * @param builder the builder
+     */
+    protected void buildGzipHandler(JettyConfigBuilder builder)
+    {
+        String gzipHandlerClass = getGzipHandlerClass();
+
+        if (gzipHandlerClass == null)
+        {
+            builder.comment("The GzipHandler is not supported by this Jetty version");
+
+            buildDefaultHandler(builder);
+
+            return;
+        }
+
+        builder.comment("Gzip Handler");
+
+        builder.beginSet("handler");
+        {
+            builder.beginNew(gzipHandlerClass);
+            {
+                buildGzipHandlerSetters(builder);
+                buildDefaultHandler(builder);
+            }
+            builder.end();
+        }
+        builder.end();
+    }
+
+    /**
+     * Returns the class of the GzipHandler.
+     *
+     * @return the class of the GzipHandler, null if not supported
+     */
+    protected String getGzipHandlerClass()
+    {
+        return null;
+    }
+
+    /**
+     * Builds the setters of the GzipHandler.
+     *
+     * @param builder the builder
+     */
+    protected void buildGzipHandlerSetters(JettyConfigBuilder builder)
+    {
+        // intentionally left blank
     }
 
     /**
@@ -551,6 +1170,57 @@ public abstract class AbstractServerConfiguration extends AbstractConfiguration
     protected void buildDefaultHandlerSetters(JettyConfigBuilder builder)
     {
         builder.set("extraClasspath", link(defaultClasspath));
+
+        buildDefaultHandlerAttributes(builder);
+        buildQuickstart(builder);
+    }
+
+    /**
+     * Builds the attributes of the default handler.
+     *
+     * @param builder the builder
+     */
+    protected void buildDefaultHandlerAttributes(JettyConfigBuilder builder)
+    {
+        buildDefaultHandlerAttribute(builder, "org.eclipse.jetty.server.webapp.ContainerIncludeJarPattern",
+            getContainerIncludeJarPattern());
+        buildDefaultHandlerAttribute(builder, "org.eclipse.jetty.server.webapp.WebInfIncludeJarPattern",
+            getWebInfIncludeJarPattern());
+    }
+
+    /**
+     * Builds the quickstart part of the default handler, if enabled. Not supported by default.
+     *
+     * @param builder the builder
+     */
+    protected void buildQuickstart(JettyConfigBuilder builder)
+    {
+        if (getQuickstartPath() != null)
+        {
+            builder.comment("Quickstart is not supported by this Jetty version");
+        }
+    }
+
+    /**
+     * Builds one attribute of the default handler, if the value is not null.
+     *
+     * @param builder the builder
+     * @param name the name of the attribute
+     * @param value the value of the attribute
+     */
+    protected void buildDefaultHandlerAttribute(JettyConfigBuilder builder, String name, Object value)
+    {
+        if (value == null)
+        {
+            return;
+        }
+
+        builder.beginCall("setAttribute");
+        {
+            builder.arg(name);
+            builder.arg(value);
+        }
+        builder.end();
     }
 
     /**
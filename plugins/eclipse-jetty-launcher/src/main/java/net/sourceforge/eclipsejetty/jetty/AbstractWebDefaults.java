@@ -11,7 +11,9 @@
 // limitations under the License.
 package net.sourceforge.eclipsejetty.jetty;
 
-import net.sourceforge.eclipsejetty.util.DOMBuilder;
+import java.util.List;
+
+import net.sourceforge.eclipsejetty.util.XMLBuilder;
 
 /**
  * An abstract builder for the web defaults file.
@@ -22,7 +24,14 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
 {
 
     private boolean serverCacheEnabled = true;
+    private Integer maxCacheSize;
+    private Integer maxCachedFileSize;
+    private Integer maxCachedFiles;
     private boolean clientCacheEnabled = true;
+    private boolean precompressedEnabled = false;
+    private boolean useFileMappedBuffer = false;
+    private Integer fileMappedBufferThreshold;
+    private boolean etagsEnabled = true;
 
     public AbstractWebDefaults()
     {
@@ -49,6 +58,67 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
         this.serverCacheEnabled = serverCacheEnabled;
     }
 
+    /**
+     * Returns the max cache size, if the server cache is enabled. Defaults to the value of the Jetty version.
+     * 
+     * @return the max cache size (in bytes)
+     */
+    public int getMaxCacheSize()
+    {
+        return (maxCacheSize != null) ? maxCacheSize.intValue() : getDefaultMaxCacheSize();
+    }
+
+    /**
+     * Sets the max cache size.
+     * 
+     * @param maxCacheSize the max cache size (in bytes), null for the default of the Jetty version
+     */
+    public void setMaxCacheSize(Integer maxCacheSize)
+    {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Returns the max cached file size, if the server cache is enabled. Defaults to the value of the Jetty version.
+     * 
+     * @return the max cached file size (in bytes)
+     */
+    public int getMaxCachedFileSize()
+    {
+        return (maxCachedFileSize != null) ? maxCachedFileSize.intValue() : getDefaultMaxCachedFileSize();
+    }
+
+    /**
+     * Sets the max cached file size.
+     * 
+     * @param maxCachedFileSize the max cached file size (in bytes), null for the default of the Jetty version
+     */
+    public void setMaxCachedFileSize(Integer maxCachedFileSize)
+    {
+        this.maxCachedFileSize = maxCachedFileSize;
+    }
+
+    /**
+     * Returns the number of max cached files, if the server cache is enabled. Defaults to the value of the Jetty
+     * version.
+     * 
+     * @return the number of max cached files
+     */
+    public int getMaxCachedFiles()
+    {
+        return (maxCachedFiles != null) ? maxCachedFiles.intValue() : getDefaultMaxCachedFiles();
+    }
+
+    /**
+     * Sets the number of max cached files.
+     * 
+     * @param maxCachedFiles the number of max cached files, null for the default of the Jetty version
+     */
+    public void setMaxCachedFiles(Integer maxCachedFiles)
+    {
+        this.maxCachedFiles = maxCachedFiles;
+    }
+
     /**
      * Returns true if the client cache should be enabled.
      * 
@@ -69,13 +139,117 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
         this.clientCacheEnabled = clientCacheEnabled;
     }
 
+    /**
+     * Returns true if the default servlet should serve precompressed (br and gzip) variants of static files.
+     * 
+     * @return true if precompressed files should be served
+     */
+    public boolean isPrecompressedEnabled()
+    {
+        return precompressedEnabled;
+    }
+
+    /**
+     * Set to true if the default servlet should serve precompressed (br and gzip) variants of static files. Needs
+     * Jetty 9.4 or better, older versions serve gzipped files only.
+     * 
+     * @param precompressedEnabled true if precompressed files should be served
+     */
+    public void setPrecompressedEnabled(boolean precompressedEnabled)
+    {
+        this.precompressedEnabled = precompressedEnabled;
+    }
+
+    /**
+     * Returns true if the default servlet should use file mapped buffers for static content.
+     * 
+     * @return true if file mapped buffers should be used
+     */
+    public boolean isUseFileMappedBuffer()
+    {
+        return useFileMappedBuffer;
+    }
+
+    /**
+     * Set to true if the default servlet should use file mapped buffers for static content. Mapped files may be
+     * locked by the operating system, while the server is running.
+     * 
+     * @param useFileMappedBuffer true if file mapped buffers should be used
+     */
+    public void setUseFileMappedBuffer(boolean useFileMappedBuffer)
+    {
+        this.useFileMappedBuffer = useFileMappedBuffer;
+    }
+
+    /**
+     * Returns the size, above which files are served from file mapped buffers only, instead of being cached on the
+     * heap. Only used, if file mapped buffers are enabled.
+     * 
+     * @return the threshold (in bytes), null to use the max cached file size
+     */
+    public Integer getFileMappedBufferThreshold()
+    {
+        return fileMappedBufferThreshold;
+    }
+
+    /**
+     * Sets the size, above which files are served from file mapped buffers only, instead of being cached on the heap.
+     * Since Jetty 9, the cache of the default servlet accepts files of any size, if mapped buffers are enabled, and
+     * copies only files up to the max cached file size to the heap. Older versions stream files above the threshold.
+     * 
+     * @param fileMappedBufferThreshold the threshold (in bytes), null to use the max cached file size
+     */
+    public void setFileMappedBufferThreshold(Integer fileMappedBufferThreshold)
+    {
+        this.fileMappedBufferThreshold = fileMappedBufferThreshold;
+    }
+
+    /**
+     * Returns true if the default servlet should send ETags for static content.
+     * 
+     * @return true if ETags should be sent
+     */
+    public boolean isEtagsEnabled()
+    {
+        return etagsEnabled;
+    }
+
+    /**
+     * Set to true if the default servlet should send ETags for static content.
+     * 
+     * @param etagsEnabled true if ETags should be sent
+     */
+    public void setEtagsEnabled(boolean etagsEnabled)
+    {
+        this.etagsEnabled = etagsEnabled;
+    }
+
     /**
      * {@inheritDoc}
      * 
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractBuilder#buildBody(net.sourceforge.eclipsejetty.util.DOMBuilder)
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractBuilder#collectFingerprintInputs(java.util.List)
      */
     @Override
-    protected void buildBody(DOMBuilder builder)
+    protected void collectFingerprintInputs(List<Object> inputs)
+    {
+        inputs.add(isServerCacheEnabled());
+        inputs.add(getMaxCacheSize());
+        inputs.add(getMaxCachedFileSize());
+        inputs.add(getMaxCachedFiles());
+        inputs.add(isClientCacheEnabled());
+        inputs.add(isPrecompressedEnabled());
+        inputs.add(isUseFileMappedBuffer());
+        inputs.add(getFileMappedBufferThreshold());
+        inputs.add(isEtagsEnabled());
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractBuilder#buildBody(net.sourceforge.eclipsejetty.util.XMLBuilder)
+     */
+    @Override
+    protected void buildBody(XMLBuilder builder)
     {
         builder.begin("web-app");
         builder.attribute("xmlns", "http://java.sun.com/xml/ns/javaee");
@@ -95,7 +269,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildContent(DOMBuilder builder)
+    protected void buildContent(XMLBuilder builder)
     {
         buildContextParams(builder);
         buildListeners(builder);
@@ -114,7 +288,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildContextParams(DOMBuilder builder)
+    protected void buildContextParams(XMLBuilder builder)
     {
         appendContextParams(builder);
     }
@@ -124,7 +298,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected abstract void appendContextParams(DOMBuilder builder);
+    protected abstract void appendContextParams(XMLBuilder builder);
 
     /**
      * Append one context parameter.
@@ -133,7 +307,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * @param name the name of the parameter
      * @param value the value of the parameter
      */
-    protected void appendContextParam(DOMBuilder builder, String name, Object value)
+    protected void appendContextParam(XMLBuilder builder, String name, Object value)
     {
         builder.begin("context-param");
         {
@@ -148,7 +322,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildListeners(DOMBuilder builder)
+    protected void buildListeners(XMLBuilder builder)
     {
         appendListeners(builder);
     }
@@ -158,7 +332,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected abstract void appendListeners(DOMBuilder builder);
+    protected abstract void appendListeners(XMLBuilder builder);
 
     /**
      * Append one listener.
@@ -166,7 +340,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * @param builder the builder
      * @param listenerClass the listener class
      */
-    protected void appendListener(DOMBuilder builder, String listenerClass)
+    protected void appendListener(XMLBuilder builder, String listenerClass)
     {
         builder.begin("listener");
         {
@@ -180,7 +354,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    private void buildDefaultServlet(DOMBuilder builder)
+    private void buildDefaultServlet(XMLBuilder builder)
     {
         builder.begin("servlet");
         {
@@ -199,17 +373,18 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void appendInitParams(DOMBuilder builder)
+    protected void appendInitParams(XMLBuilder builder)
     {
         appendInitParam(builder, "acceptRanges", true);
         appendInitParam(builder, "dirAllowed", true);
         appendInitParam(builder, "welcomeServlets", false);
         appendInitParam(builder, "redirectWelcome", false);
         appendInitParam(builder, "maxCacheSize", (serverCacheEnabled) ? getMaxCacheSize() : 0);
-        appendInitParam(builder, "maxCachedFileSize", (serverCacheEnabled) ? getMaxCachedFileSize() : 0);
+        appendInitParam(builder, "maxCachedFileSize", (serverCacheEnabled) ? getHeapCachedFileSize() : 0);
         appendInitParam(builder, "maxCachedFiles", (serverCacheEnabled) ? getMaxCachedFiles() : 0);
         appendInitParam(builder, "gzip", true);
-        appendInitParam(builder, "useFileMappedBuffer", false);
+        appendInitParam(builder, "useFileMappedBuffer", useFileMappedBuffer);
+        appendInitParam(builder, "etags", etagsEnabled);
 
         if (!clientCacheEnabled)
         {
@@ -218,25 +393,43 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
     }
 
     /**
-     * Returns the max cache size, needed if server cache is enabled.
+     * Returns the size up to which files are cached on the heap. This is the max cached file size, limited by the
+     * threshold of the file mapped buffers, if enabled.
+     * 
+     * @return the max cached file size (in bytes)
+     */
+    protected int getHeapCachedFileSize()
+    {
+        int maxCachedFileSize = getMaxCachedFileSize();
+
+        if ((useFileMappedBuffer) && (fileMappedBufferThreshold != null))
+        {
+            return Math.min(maxCachedFileSize, fileMappedBufferThreshold.intValue());
+        }
+
+        return maxCachedFileSize;
+    }
+
+    /**
+     * Returns the default max cache size of the Jetty version, needed if server cache is enabled.
      * 
      * @return the max cache size
      */
-    protected abstract int getMaxCacheSize();
+    protected abstract int getDefaultMaxCacheSize();
 
     /**
-     * Returns the max cached file size, needed if server cache is enabled.
+     * Returns the default max cached file size of the Jetty version, needed if server cache is enabled.
      * 
      * @return the max cached file size
      */
-    protected abstract int getMaxCachedFileSize();
+    protected abstract int getDefaultMaxCachedFileSize();
 
     /**
-     * Returns the number of max cached files, needed if server cache is enabled.
+     * Returns the default number of max cached files of the Jetty version, needed if server cache is enabled.
      * 
      * @return the max cached file size
      */
-    protected abstract int getMaxCachedFiles();
+    protected abstract int getDefaultMaxCachedFiles();
 
     protected abstract String getDefaultServletClass();
 
@@ -247,7 +440,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * @param name the name of the parameter
      * @param value the value of the parameter
      */
-    protected void appendInitParam(DOMBuilder builder, String name, Object value)
+    protected void appendInitParam(XMLBuilder builder, String name, Object value)
     {
         builder.begin("init-param");
         {
@@ -262,7 +455,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildDefaultServletMapping(DOMBuilder builder)
+    protected void buildDefaultServletMapping(XMLBuilder builder)
     {
         builder.begin("servlet-mapping");
         {
@@ -278,7 +471,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * @param builder the builder
      * @param urlPattern the pattern
      */
-    protected void appendURLPattern(DOMBuilder builder, String urlPattern)
+    protected void appendURLPattern(XMLBuilder builder, String urlPattern)
     {
         builder.element("url-pattern", urlPattern);
     }
@@ -288,7 +481,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildJSPServlet(DOMBuilder builder)
+    protected void buildJSPServlet(XMLBuilder builder)
     {
         builder.begin("servlet").attribute("id", "jsp");
         {
@@ -309,7 +502,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildJSPServletMapping(DOMBuilder builder)
+    protected void buildJSPServletMapping(XMLBuilder builder)
     {
         builder.begin("servlet-mapping");
         {
@@ -331,7 +524,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildSessionConfig(DOMBuilder builder)
+    protected void buildSessionConfig(XMLBuilder builder)
     {
         builder.begin("session-config");
         {
@@ -345,7 +538,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildWelcomeFileList(DOMBuilder builder)
+    protected void buildWelcomeFileList(XMLBuilder builder)
     {
         builder.begin("welcome-file-list");
         {
@@ -362,7 +555,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * @param builder the builder
      * @param welcomeFile the welcome file
      */
-    protected void appendWelcomeFile(DOMBuilder builder, String welcomeFile)
+    protected void appendWelcomeFile(XMLBuilder builder, String welcomeFile)
     {
         builder.element("welcome-file", welcomeFile);
     }
@@ -372,7 +565,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildLocaleEncodingMappingList(DOMBuilder builder)
+    protected void buildLocaleEncodingMappingList(XMLBuilder builder)
     {
         builder.begin("locale-encoding-mapping-list");
         {
@@ -426,7 +619,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * @param locale the locale
      * @param encoding the encoding
      */
-    protected void appendLocaleEncodingMapping(DOMBuilder builder, String locale, String encoding)
+    protected void appendLocaleEncodingMapping(XMLBuilder builder, String locale, String encoding)
     {
         builder.begin("locale-encoding-mapping");
         {
@@ -441,7 +634,7 @@ public abstract class AbstractWebDefaults extends AbstractBuilder
      * 
      * @param builder the builder
      */
-    protected void buildSecurityConstraints(DOMBuilder builder)
+    protected void buildSecurityConstraints(XMLBuilder builder)
     {
         builder.begin("security-constraint");
         {
@@ -30,10 +30,11 @@ public abstract class DependencyBasedJettyLibStrategy implements JettyLibStrateg
      * {@inheritDoc}
      * 
      * @see net.sourceforge.eclipsejetty.jetty.JettyLibStrategy#find(java.io.File, boolean, boolean, boolean, boolean,
-     *      boolean)
+     *      boolean, boolean, boolean, boolean, boolean)
      */
     public Collection<File> find(File path, boolean jspSupport, boolean jmxSupport, boolean jndiSupport,
-        boolean annotationsSupport, boolean ajpSupport, boolean websocketSupport) throws CoreException
+        boolean annotationsSupport, boolean ajpSupport, boolean websocketSupport, boolean http2Support,
+        boolean unixDomainSupport, boolean quickstartSupport) throws CoreException
     {
         Collection<String> dependencies = new LinkedHashSet<String>();
 
@@ -54,7 +55,7 @@ public abstract class DependencyBasedJettyLibStrategy implements JettyLibStrateg
             addJNDIDependencies(dependencies);
         }
 
-        if (annotationsSupport || jndiSupport)
+        if (annotationsSupport || jndiSupport || quickstartSupport)
         {
             addAnnotationsDependencies(dependencies);
         }
@@ -69,6 +70,21 @@ public abstract class DependencyBasedJettyLibStrategy implements JettyLibStrateg
             addWebsocketSupport(dependencies);
         }
 
+        if (http2Support)
+        {
+            addHTTP2Dependencies(dependencies);
+        }
+
+        if (unixDomainSupport)
+        {
+            addUnixDomainDependencies(dependencies);
+        }
+
+        if (quickstartSupport)
+        {
+            addQuickstartDependencies(dependencies);
+        }
+
         Collection<File> results = new LinkedHashSet<File>();
 
         resolveDependencies(results, path, dependencies);
@@ -125,6 +141,27 @@ public abstract class DependencyBasedJettyLibStrategy implements JettyLibStrateg
      */
     protected abstract void addWebsocketSupport(Collection<String> dependencies);
 
+    /**
+     * Add all dependencies for HTTP/2 (including ALPN)
+     * 
+     * @param dependencies the dependencies to be filled
+     */
+    protected abstract void addHTTP2Dependencies(Collection<String> dependencies);
+
+    /**
+     * Add all dependencies for Unix-domain sockets
+     * 
+     * @param dependencies the dependencies to be filled
+     */
+    protected abstract void addUnixDomainDependencies(Collection<String> dependencies);
+
+    /**
+     * Add all dependencies for quickstart
+     * 
+     * @param dependencies the dependencies to be filled
+     */
+    protected abstract void addQuickstartDependencies(Collection<String> dependencies);
+
     /**
      * Resolves all dependencies an addes the files to the results.
      * 
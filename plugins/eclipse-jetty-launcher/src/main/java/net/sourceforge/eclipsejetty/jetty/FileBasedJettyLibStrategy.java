@@ -12,8 +12,10 @@
 package net.sourceforge.eclipsejetty.jetty;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 
 import net.sourceforge.eclipsejetty.JettyPlugin;
 
@@ -23,7 +25,7 @@ import org.eclipse.core.runtime.Status;
 
 /**
  * Abstract implementation of the {@link JettyLibStrategy} for external Jetties. Assumes that the libraries are in the
- * lib folder
+ * lib folder. The files of the lib folder are looked up in a cached {@link JettyLibIndex}.
  * 
  * @author Manfred Hantschel
  */
@@ -47,73 +49,52 @@ public abstract class FileBasedJettyLibStrategy extends DependencyBasedJettyLibS
         }
 
         Collection<String> resolvedDependencies = new HashSet<String>();
+        JettyLibIndex index;
 
-        crawlDependencies(results, libPath, dependencies, resolvedDependencies);
-
-        dependencies.removeAll(resolvedDependencies);
-
-        if (dependencies.size() > 0)
+        try
         {
-            throw new CoreException(new Status(IStatus.ERROR, JettyPlugin.PLUGIN_ID, String.format(
-                "Failed to resolve Jetty dependencies: %s", dependencies)));
+            index = JettyLibIndex.get(libPath);
+        }
+        catch (IOException e)
+        {
+            throw new CoreException(new Status(IStatus.ERROR, JettyPlugin.PLUGIN_ID, "Failed to crawl Jetty libs", e));
         }
-    }
 
-    /**
-     * Runs through all files of the given path and searches for the specified dependencies.
-     * 
-     * @param results the results
-     * @param path the part
-     * @param dependencies a list or regular expressions for the dependencies
-     * @param resolvedDependencies the resolved dependencies.
-     */
-    protected void crawlDependencies(Collection<File> results, File path, Collection<String> dependencies,
-        Collection<String> resolvedDependencies)
-    {
-        for (File file : path.listFiles())
+        List<File> files = index.getFiles();
+
+        for (int i = 0; i < files.size(); i += 1)
         {
-            if (file.isDirectory())
-            {
-                if (isPathIncluded(file, dependencies))
-                {
-                    crawlDependencies(results, file, dependencies, resolvedDependencies);
-                }
-            }
-            else if (isFileIncluded(file, dependencies, resolvedDependencies))
+            if (isFileIncluded(index, i, dependencies, resolvedDependencies))
             {
-                results.add(file);
+                results.add(files.get(i));
             }
         }
-    }
 
-    /**
-     * Returns true if the path should be searched.
-     * 
-     * @param path the path
-     * @param dependencies the dependencies
-     * @return true if the path should be searched
-     */
-    protected boolean isPathIncluded(File path, Collection<String> dependencies)
-    {
-        return true;
+        dependencies.removeAll(resolvedDependencies);
+
+        if (dependencies.size() > 0)
+        {
+            throw new CoreException(new Status(IStatus.ERROR, JettyPlugin.PLUGIN_ID, String.format(
+                "Failed to resolve Jetty dependencies: %s", dependencies)));
+        }
     }
 
     /**
-     * Returns true if the specified file is included in the dependencies, and adds it to the resolved dependencies, if
-     * so.
+     * Returns true if the file at the specified position of the index is included in the dependencies, and adds the
+     * first matching dependency to the resolved dependencies, if so.
      * 
-     * @param file the file
+     * @param index the index of the lib folder
+     * @param fileIndex the position of the file in the index
      * @param dependencies the dependencies
      * @param resolvedDependencies the resolved dependencies
      * @return true if included
      */
-    protected boolean isFileIncluded(File file, Collection<String> dependencies, Collection<String> resolvedDependencies)
+    protected boolean isFileIncluded(JettyLibIndex index, int fileIndex, Collection<String> dependencies,
+        Collection<String> resolvedDependencies)
     {
-        String path = file.getPath().replace('\\', '/');
-
         for (String dependency : dependencies)
         {
-            if (path.matches(dependency))
+            if (index.matches(fileIndex, dependency))
             {
                 resolvedDependencies.add(dependency);
 
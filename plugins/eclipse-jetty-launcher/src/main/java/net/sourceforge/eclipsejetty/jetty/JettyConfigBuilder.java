@@ -11,15 +11,15 @@
 // limitations under the License.
 package net.sourceforge.eclipsejetty.jetty;
 
-import net.sourceforge.eclipsejetty.util.DOMBuilder;
+import net.sourceforge.eclipsejetty.util.XMLBuilder;
 
 public class JettyConfigBuilder
 {
 
-    private final DOMBuilder builder;
+    private final XMLBuilder builder;
     private final JettyVersionType version;
 
-    public JettyConfigBuilder(DOMBuilder builder, JettyVersionType version)
+    public JettyConfigBuilder(XMLBuilder builder, JettyVersionType version)
     {
         super();
 
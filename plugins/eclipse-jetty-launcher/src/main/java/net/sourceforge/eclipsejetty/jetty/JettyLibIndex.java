@@ -0,0 +1,273 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.jetty;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * An index of all files in the lib folder of a Jetty distribution. The index is cached per folder and gets rebuilt
+ * as soon as the modification time of one of the folders changes. The subfolders get crawled in parallel. The files
+ * matching a dependency (a regular expression) are remembered, thus each dependency is matched against the files only
+ * once.
+ *
+ * @author Manfred Hantschel
+ */
+public class JettyLibIndex
+{
+
+    private static final Map<String, JettyLibIndex> INDEXES = new ConcurrentHashMap<String, JettyLibIndex>();
+
+    /**
+     * Returns the index for the specified lib folder. Creates the index if there is none yet, or if the folder has
+     * changed.
+     *
+     * @param libPath the lib folder
+     * @return the index
+     * @throws IOException on occasion
+     */
+    public static JettyLibIndex get(File libPath) throws IOException
+    {
+        String key = libPath.getAbsolutePath();
+        JettyLibIndex index = INDEXES.get(key);
+
+        if ((index == null) || (!index.isUpToDate()))
+        {
+            index = create(libPath);
+
+            INDEXES.put(key, index);
+        }
+
+        return index;
+    }
+
+    private static JettyLibIndex create(File libPath) throws IOException
+    {
+        Map<File, Long> directoryTimestamps = new HashMap<File, Long>();
+        List<File> files = new ArrayList<File>();
+        List<File> directories = new ArrayList<File>();
+        File[] children = libPath.listFiles();
+
+        directoryTimestamps.put(libPath, Long.valueOf(libPath.lastModified()));
+
+        if (children != null)
+        {
+            for (File child : children)
+            {
+                if (child.isDirectory())
+                {
+                    directories.add(child);
+                }
+                else
+                {
+                    files.add(child);
+                }
+            }
+        }
+
+        if (directories.size() > 0)
+        {
+            ExecutorService executor =
+                Executors.newFixedThreadPool(Math.min(directories.size(), Runtime.getRuntime().availableProcessors()));
+
+            try
+            {
+                List<Future<Crawler>> futures = new ArrayList<Future<Crawler>>();
+
+                for (File directory : directories)
+                {
+                    futures.add(executor.submit(new Crawler(directory)));
+                }
+
+                for (Future<Crawler> future : futures)
+                {
+                    Crawler crawler = future.get();
+
+                    files.addAll(crawler.files);
+                    directoryTimestamps.putAll(crawler.directoryTimestamps);
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new IOException("Interrupted while crawling " + libPath, e);
+            }
+            catch (ExecutionException e)
+            {
+                if (e.getCause() instanceof IOException)
+                {
+                    throw (IOException) e.getCause();
+                }
+
+                throw new IOException("Failed to crawl " + libPath, e.getCause());
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+        }
+
+        Collections.sort(files);
+
+        return new JettyLibIndex(directoryTimestamps, files);
+    }
+
+    /**
+     * Walks through one subfolder.
+     */
+    private static class Crawler extends SimpleFileVisitor<Path> implements Callable<Crawler>
+    {
+        private final File directory;
+        private final List<File> files = new ArrayList<File>();
+        private final Map<File, Long> directoryTimestamps = new HashMap<File, Long>();
+
+        public Crawler(File directory)
+        {
+            super();
+
+            this.directory = directory;
+        }
+
+        public Crawler call() throws Exception
+        {
+            Files.walkFileTree(directory.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, this);
+
+            return this;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException
+        {
+            directoryTimestamps.put(dir.toFile(), Long.valueOf(attrs.lastModifiedTime().toMillis()));
+
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException
+        {
+            if (!attrs.isDirectory())
+            {
+                files.add(file.toFile());
+            }
+
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    private final Map<File, Long> directoryTimestamps;
+    private final List<File> files;
+    private final List<String> paths;
+    private final Map<String, Set<String>> matches = new ConcurrentHashMap<String, Set<String>>();
+
+    private JettyLibIndex(Map<File, Long> directoryTimestamps, List<File> files)
+    {
+        super();
+
+        this.directoryTimestamps = directoryTimestamps;
+        this.files = Collections.unmodifiableList(files);
+
+        paths = new ArrayList<String>(files.size());
+
+        for (File file : files)
+        {
+            paths.add(file.getPath().replace('\\', '/'));
+        }
+    }
+
+    /**
+     * Returns true if none of the folders has been modified since the index was created.
+     *
+     * @return true if up to date
+     */
+    public boolean isUpToDate()
+    {
+        for (Map.Entry<File, Long> entry : directoryTimestamps.entrySet())
+        {
+            if (entry.getKey().lastModified() != entry.getValue().longValue())
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns all files of the index, sorted by path.
+     *
+     * @return the files
+     */
+    public List<File> getFiles()
+    {
+        return files;
+    }
+
+    /**
+     * Returns true if the path of the file at the specified index of {@link #getFiles()} matches the dependency.
+     *
+     * @param fileIndex the index of the file
+     * @param dependency the dependency, a regular expression
+     * @return true on match
+     */
+    public boolean matches(int fileIndex, String dependency)
+    {
+        return getMatches(dependency).contains(paths.get(fileIndex));
+    }
+
+    private Set<String> getMatches(String dependency)
+    {
+        Set<String> result = matches.get(dependency);
+
+        if (result == null)
+        {
+            Pattern pattern = Pattern.compile(dependency);
+
+            result = new HashSet<String>();
+
+            for (String path : paths)
+            {
+                if (pattern.matcher(path).matches())
+                {
+                    result.add(path);
+                }
+            }
+
+            matches.put(dependency, result);
+        }
+
+        return result;
+    }
+
+}
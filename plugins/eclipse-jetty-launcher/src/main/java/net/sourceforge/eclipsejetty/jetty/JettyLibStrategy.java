@@ -34,10 +34,14 @@ public interface JettyLibStrategy
      * @param annotationsSupport true if Annotations support is needed
      * @param ajpSupport true if AJP support is needed
      * @param websocketSupport true if Websocket support is needed
+     * @param http2Support true if HTTP/2 support is needed
+     * @param unixDomainSupport true if Unix-domain socket support is needed
+     * @param quickstartSupport true if quickstart support is needed
      * @return a collection of files
      * @throws CoreException on occasion
      */
     Collection<File> find(File jettyPath, boolean jspSupport, boolean jmxSupport, boolean jndiSupport,
-        boolean annotationsSupport, boolean ajpSupport, boolean websocketSupport) throws CoreException;
+        boolean annotationsSupport, boolean ajpSupport, boolean websocketSupport, boolean http2Support,
+        boolean unixDomainSupport, boolean quickstartSupport) throws CoreException;
 
 }
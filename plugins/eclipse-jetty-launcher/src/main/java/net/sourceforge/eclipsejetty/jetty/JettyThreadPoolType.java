@@ -0,0 +1,39 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.jetty;
+
+/**
+ * The type of the thread pool of the Jetty server. Types, that are not supported by a Jetty version, fall back to
+ * {@link #QUEUED}.
+ *
+ * @author Manfred Hantschel
+ */
+public enum JettyThreadPoolType
+{
+
+    /**
+     * The default QueuedThreadPool, configured by the minimum and maximum number of threads and the idle timeout.
+     */
+    QUEUED,
+
+    /**
+     * A QueuedThreadPool that executes blocking tasks in virtual threads. Needs Jetty 10.0.12 or 11.0.12 (or better)
+     * and a Java VM, that supports virtual threads.
+     */
+    VIRTUAL,
+
+    /**
+     * A QueuedThreadPool with a ReservedThreadExecutor of a fixed size. Needs Jetty 9.4 (or better).
+     */
+    RESERVED
+
+}
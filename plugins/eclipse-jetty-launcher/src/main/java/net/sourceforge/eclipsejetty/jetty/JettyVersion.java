@@ -2,12 +2,13 @@ package net.sourceforge.eclipsejetty.jetty;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import net.sourceforge.eclipsejetty.JettyPlugin;
 
@@ -17,138 +18,99 @@ import org.eclipse.core.runtime.Path;
 public class JettyVersion
 {
 
-    private static class CacheKey
+    public static JettyVersion detect(String jettyPath, boolean embedded)
     {
-        private final String jettyPath;
-        private final boolean embedded;
-
-        public CacheKey(String jettyPath, boolean embedded)
-        {
-            super();
-
-            this.jettyPath = jettyPath;
-            this.embedded = embedded;
-        }
+        JettyVersionCache cache = JettyVersionCache.getInstance();
+        JettyVersion version;
 
-        @Override
-        public int hashCode()
+        if (embedded)
         {
-            final int prime = 31;
-            int result = 1;
+            File file;
 
-            result = (prime * result) + (embedded ? 1231 : 1237);
-            result = (prime * result) + ((jettyPath == null) ? 0 : jettyPath.hashCode());
+            try
+            {
+                URL url = FileLocator.find(JettyPlugin.getDefault().getBundle(),
+                    Path.fromOSString("lib/jetty/jetty-server.jar"), null);
 
-            return result;
-        }
+                if (url == null)
+                {
+                    throw new IllegalArgumentException(
+                        "Could not detect Jetty version of embedded Jetty (did not find jetty-server.jar)");
+                }
 
-        @Override
-        public boolean equals(Object obj)
-        {
-            if (this == obj)
-            {
-                return true;
+                file = new File(FileLocator.toFileURL(url).getFile());
             }
-
-            if (obj == null)
+            catch (IOException e)
             {
-                return false;
+                throw new IllegalArgumentException("Could not detect Jetty version of embedded Jetty", e);
             }
 
-            if (getClass() != obj.getClass())
-            {
-                return false;
-            }
+            String cacheKey = toCacheKey(file, true);
 
-            CacheKey other = (CacheKey) obj;
+            version = cache.get(cacheKey);
 
-            if (embedded != other.embedded)
+            if (version != null)
             {
-                return false;
+                return version;
             }
 
-            if (jettyPath == null)
-            {
-                if (other.jettyPath != null)
-                {
-                    return false;
-                }
-            }
-            else if (!jettyPath.equals(other.jettyPath))
+            String value = detect(file);
+
+            if (value != null)
             {
-                return false;
+                version = new JettyVersion(value, true, file);
             }
 
-            return true;
-        }
-    }
+            cacheAndValidate(cache, cacheKey, version);
 
-    private static final long MAX_TIME_TO_LIVE = 60 * 1000;
+            return version;
+        }
 
-    private static final Map<CacheKey, JettyVersion> CACHE = new HashMap<CacheKey, JettyVersion>();
+        String cacheKey = toCacheKey(new File(jettyPath), false);
 
-    public static JettyVersion detect(String jettyPath, boolean embedded)
-    {
-        CacheKey cacheKey = new CacheKey(jettyPath, embedded);
-        JettyVersion version = CACHE.get(cacheKey);
+        version = cache.get(cacheKey);
 
-        if ((version != null) && ((System.currentTimeMillis() - version.timestamp) < MAX_TIME_TO_LIVE))
+        if (version != null)
         {
             return version;
         }
 
-        if (embedded)
-        {
-            try
-            {
-                URL url = FileLocator.find(JettyPlugin.getDefault().getBundle(),
-                    Path.fromOSString("lib/jetty/jetty-server.jar"), null);
+        final File jettyLibDir = new File(jettyPath, "lib");
 
-                if (url == null)
-                {
-                    throw new IllegalArgumentException(
-                        "Could not detect Jetty version of embedded Jetty (did not find jetty-server.jar)");
-                }
-
-                version = new JettyVersion(detect(new File(FileLocator.toFileURL(url).getFile())), true);
-            }
-            catch (IOException e)
-            {
-                throw new IllegalArgumentException("Could not detect Jetty version of embedded Jetty", e);
-            }
-        }
-        else
+        if (!jettyLibDir.exists() || !jettyLibDir.isDirectory())
         {
-            final File jettyLibDir = new File(jettyPath, "lib");
+            throw new IllegalArgumentException("Could not find Jetty libs");
+        }
 
-            if (!jettyLibDir.exists() || !jettyLibDir.isDirectory())
+        for (File file : jettyLibDir.listFiles())
+        {
+            if (!file.isFile())
             {
-                throw new IllegalArgumentException("Could not find Jetty libs");
+                continue;
             }
 
-            for (File file : jettyLibDir.listFiles())
-            {
-                if (!file.isFile())
-                {
-                    continue;
-                }
+            String name = file.getName();
 
-                String name = file.getName();
+            if ((name.startsWith("jetty-")) && (name.endsWith(".jar")))
+            {
+                String value = detect(file);
 
-                if ((name.startsWith("jetty-")) && (name.endsWith(".jar")))
+                if (value != null)
                 {
-                    String value = detect(file);
-
-                    if (value != null)
-                    {
-                        version = new JettyVersion(value, false);
+                    version = new JettyVersion(value, false, file);
 
-                        break;
-                    }
+                    break;
                 }
             }
         }
 
+        cacheAndValidate(cache, cacheKey, version);
+
+        return version;
+    }
+
+    private static void cacheAndValidate(JettyVersionCache cache, String cacheKey, JettyVersion version)
+    {
         if (version == null)
         {
             throw new IllegalArgumentException("Failed to detect Jetty version");
@@ -159,11 +121,32 @@ public class JettyVersion
             throw new IllegalArgumentException("Invalid Jetty version detected");
         }
 
-        CACHE.put(cacheKey, version);
+        cache.put(cacheKey, version);
+    }
 
-        return version;
+    private static String toCacheKey(File file, boolean embedded)
+    {
+        String path;
+
+        try
+        {
+            path = file.getCanonicalPath();
+        }
+        catch (IOException e)
+        {
+            path = file.getAbsolutePath();
+        }
+
+        return (embedded ? "embedded:" : "external:") + path;
     }
 
+    /**
+     * Reads the Implementation-Version from the manifest of the jar. Reads just the manifest entry, without verifying
+     * or even listing the other entries of the jar.
+     * 
+     * @param file the jar
+     * @return the version, null if not available
+     */
     protected static String detect(File file)
     {
         if ((!file.exists()) || (!file.canRead()))
@@ -173,29 +156,34 @@ public class JettyVersion
 
         try
         {
-            JarFile jarFile = new JarFile(file);
+            ZipFile zipFile = new ZipFile(file);
 
             try
             {
-                Manifest manifest = jarFile.getManifest();
+                ZipEntry entry = zipFile.getEntry(JarFile.MANIFEST_NAME);
 
-                if (manifest == null)
+                if (entry == null)
                 {
-                    return null;
+                    return detectWithJarFile(file);
                 }
 
-                Attributes attributes = manifest.getMainAttributes();
+                InputStream in = zipFile.getInputStream(entry);
+                Manifest manifest;
 
-                if ((attributes == null) || (attributes.size() == 0))
+                try
+                {
+                    manifest = new Manifest(in);
+                }
+                finally
                 {
-                    return null;
+                    in.close();
                 }
 
-                return attributes.getValue("Implementation-Version");
+                return getImplementationVersion(manifest);
             }
             finally
             {
-                jarFile.close();
+                zipFile.close();
             }
         }
         catch (IOException e)
@@ -205,20 +193,61 @@ public class JettyVersion
         }
     }
 
-    private final long timestamp;
+    private static String detectWithJarFile(File file) throws IOException
+    {
+        JarFile jarFile = new JarFile(file, false);
+
+        try
+        {
+            return getImplementationVersion(jarFile.getManifest());
+        }
+        finally
+        {
+            jarFile.close();
+        }
+    }
+
+    private static String getImplementationVersion(Manifest manifest)
+    {
+        if (manifest == null)
+        {
+            return null;
+        }
+
+        Attributes attributes = manifest.getMainAttributes();
+
+        if ((attributes == null) || (attributes.size() == 0))
+        {
+            return null;
+        }
+
+        return attributes.getValue("Implementation-Version");
+    }
+
     private final String version;
+    private final boolean embedded;
+    private final File jar;
+    private final long jarSize;
+    private final long jarLastModified;
     private final Integer majorVersion;
     private final Integer minorVersion;
     private final Integer microVersion;
     private final JettyVersionType type;
 
-    protected JettyVersion(String version, boolean embedded)
+    protected JettyVersion(String version, boolean embedded, File jar)
     {
-        super();
+        this(version, embedded, jar, jar.length(), jar.lastModified());
+    }
 
-        timestamp = System.currentTimeMillis();
+    protected JettyVersion(String version, boolean embedded, File jar, long jarSize, long jarLastModified)
+    {
+        super();
 
         this.version = version;
+        this.embedded = embedded;
+        this.jar = jar;
+        this.jarSize = jarSize;
+        this.jarLastModified = jarLastModified;
 
         majorVersion = extractMajorVersion(version);
         minorVersion = extractMinorVersion(version);
@@ -231,6 +260,36 @@ public class JettyVersion
         return version;
     }
 
+    public boolean isEmbedded()
+    {
+        return embedded;
+    }
+
+    public File getJar()
+    {
+        return jar;
+    }
+
+    public long getJarSize()
+    {
+        return jarSize;
+    }
+
+    public long getJarLastModified()
+    {
+        return jarLastModified;
+    }
+
+    /**
+     * Returns true if the jar, that contained the version, is unchanged.
+     * 
+     * @return true if up to date
+     */
+    public boolean isUpToDate()
+    {
+        return (jar.length() == jarSize) && (jar.lastModified() == jarLastModified);
+    }
+
     public Integer getMajorVersion()
     {
         return majorVersion;
@@ -0,0 +1,243 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.jetty;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.sourceforge.eclipsejetty.JettyPlugin;
+
+/**
+ * A thread-safe cache for detected Jetty versions. The entries are keyed by the canonical path of the Jetty
+ * installation and are valid as long as the size and the modification time of the jar, that contained the version,
+ * did not change. The entries are persisted in the state location of the plugin, thus the detection of unchanged
+ * installations does not need to open any jar, even after a restart of the IDE.
+ *
+ * @author Manfred Hantschel
+ */
+public class JettyVersionCache
+{
+
+    private static final String CACHE_FILE = "jettyVersions.properties"; //$NON-NLS-1$
+
+    private static JettyVersionCache instance;
+
+    private final File file;
+    private final Map<String, JettyVersion> entries = new ConcurrentHashMap<String, JettyVersion>();
+
+    /**
+     * Returns the instance of the cache, creates and loads it if necessary.
+     *
+     * @return the instance
+     */
+    public static synchronized JettyVersionCache getInstance()
+    {
+        if (instance == null)
+        {
+            JettyPlugin plugin = JettyPlugin.getDefault();
+
+            instance = new JettyVersionCache((plugin != null) ? plugin.getStateLocation().append(CACHE_FILE).toFile()
+                : null);
+        }
+
+        return instance;
+    }
+
+    /**
+     * Creates the cache using the specified file
+     *
+     * @param file the file for the persisted entries, null to keep the entries in memory only
+     */
+    protected JettyVersionCache(File file)
+    {
+        super();
+
+        this.file = file;
+
+        load();
+    }
+
+    /**
+     * Returns the cached version, if the jar, that contained the version, is still unchanged.
+     *
+     * @param key the key
+     * @return the version, null if not cached
+     */
+    public JettyVersion get(String key)
+    {
+        JettyVersion version = entries.get(key);
+
+        if ((version != null) && (!version.isUpToDate()))
+        {
+            entries.remove(key);
+
+            return null;
+        }
+
+        return version;
+    }
+
+    /**
+     * Puts the version into the cache and persists the cache.
+     *
+     * @param key the key
+     * @param version the version
+     */
+    public void put(String key, JettyVersion version)
+    {
+        entries.put(key, version);
+
+        store();
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear()
+    {
+        entries.clear();
+
+        store();
+    }
+
+    private synchronized void load()
+    {
+        if ((file == null) || (!file.exists()))
+        {
+            return;
+        }
+
+        Properties properties = new Properties();
+
+        try
+        {
+            InputStream in = new FileInputStream(file);
+
+            try
+            {
+                properties.load(in);
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+        catch (IOException e)
+        {
+            JettyPlugin.warning(String.format("Failed to read Jetty version cache %s", file), e); //$NON-NLS-1$
+
+            return;
+        }
+
+        int count;
+
+        try
+        {
+            count = Integer.parseInt(properties.getProperty("count", "0")); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        catch (NumberFormatException e)
+        {
+            JettyPlugin.warning(String.format("Invalid Jetty version cache %s", file), e); //$NON-NLS-1$
+
+            return;
+        }
+
+        for (int i = 0; i < count; i += 1)
+        {
+            String prefix = i + "."; //$NON-NLS-1$
+            String key = properties.getProperty(prefix + "key"); //$NON-NLS-1$
+            String version = properties.getProperty(prefix + "version"); //$NON-NLS-1$
+            String jar = properties.getProperty(prefix + "jar"); //$NON-NLS-1$
+            String size = properties.getProperty(prefix + "size"); //$NON-NLS-1$
+            String lastModified = properties.getProperty(prefix + "lastModified"); //$NON-NLS-1$
+
+            if ((key == null) || (version == null) || (jar == null) || (size == null) || (lastModified == null))
+            {
+                continue;
+            }
+
+            try
+            {
+                entries.put(key,
+                    new JettyVersion(version, Boolean.parseBoolean(properties.getProperty(prefix + "embedded")), //$NON-NLS-1$
+                        new File(jar), Long.parseLong(size), Long.parseLong(lastModified)));
+            }
+            catch (NumberFormatException e)
+            {
+                // ignore broken entry
+            }
+        }
+    }
+
+    private synchronized void store()
+    {
+        if (file == null)
+        {
+            return;
+        }
+
+        Properties properties = new Properties();
+        int count = 0;
+
+        for (Map.Entry<String, JettyVersion> entry : entries.entrySet())
+        {
+            JettyVersion version = entry.getValue();
+            String prefix = count + "."; //$NON-NLS-1$
+
+            properties.setProperty(prefix + "key", entry.getKey()); //$NON-NLS-1$
+            properties.setProperty(prefix + "version", version.getVersion()); //$NON-NLS-1$
+            properties.setProperty(prefix + "embedded", String.valueOf(version.isEmbedded())); //$NON-NLS-1$
+            properties.setProperty(prefix + "jar", version.getJar().getPath()); //$NON-NLS-1$
+            properties.setProperty(prefix + "size", String.valueOf(version.getJarSize())); //$NON-NLS-1$
+            properties.setProperty(prefix + "lastModified", String.valueOf(version.getJarLastModified())); //$NON-NLS-1$
+
+            count += 1;
+        }
+
+        properties.setProperty("count", String.valueOf(count)); //$NON-NLS-1$
+
+        File folder = file.getParentFile();
+
+        if ((folder != null) && (!folder.exists()) && (!folder.mkdirs()))
+        {
+            JettyPlugin.warning(String.format("Failed to create folder %s", folder)); //$NON-NLS-1$
+
+            return;
+        }
+
+        try
+        {
+            OutputStream out = new FileOutputStream(file);
+
+            try
+            {
+                properties.store(out, null);
+            }
+            finally
+            {
+                out.close();
+            }
+        }
+        catch (IOException e)
+        {
+            JettyPlugin.warning(String.format("Failed to write Jetty version cache %s", file), e); //$NON-NLS-1$
+        }
+    }
+
+}
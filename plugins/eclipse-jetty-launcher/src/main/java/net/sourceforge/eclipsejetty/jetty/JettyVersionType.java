@@ -12,6 +12,7 @@
 package net.sourceforge.eclipsejetty.jetty;
 
 import net.sourceforge.eclipsejetty.jetty.embedded.JettyEmbeddedLibStrategy;
+import net.sourceforge.eclipsejetty.jetty.embedded.JettyEmbeddedServerConfiguration;
 import net.sourceforge.eclipsejetty.jetty10.Jetty10LibStrategy;
 import net.sourceforge.eclipsejetty.jetty10.Jetty10ServerConfiguration;
 import net.sourceforge.eclipsejetty.jetty10.Jetty10WebDefaults;
@@ -41,7 +42,7 @@ public enum JettyVersionType
      * Embedded Jetty 9 config
      */
 	JETTY_EMBEDDED("net.sourceforge.eclipsejetty.starter.jetty9.Jetty9LauncherMain", "lib/eclipse-jetty-starters-jetty9.jar",
-        Jetty9ServerConfiguration.class, new JettyEmbeddedLibStrategy(), Jetty9WebDefaults.class),
+        JettyEmbeddedServerConfiguration.class, new JettyEmbeddedLibStrategy(), Jetty9WebDefaults.class),
 
     /**
      * A Jetty 7 at a specified path
@@ -89,6 +89,24 @@ public class JettyEmbeddedLibStrategy extends DependencyBasedJettyLibStrategy
         // AJP not anymore supported by jetty9
     }
 
+    @Override
+    protected void addHTTP2Dependencies(Collection<String> dependencies)
+    {
+        // HTTP/2 libraries are not bundled with the embedded Jetty
+    }
+
+    @Override
+    protected void addUnixDomainDependencies(Collection<String> dependencies)
+    {
+        // not supported by the embedded Jetty
+    }
+
+    @Override
+    protected void addQuickstartDependencies(Collection<String> dependencies)
+    {
+        // not supported by the embedded Jetty
+    }
+
     @Override
     protected void addWebsocketSupport(Collection<String> dependencies)
     {
@@ -25,4 +25,16 @@ public class JettyEmbeddedServerConfiguration extends Jetty9ServerConfiguration
     {
         super();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.jetty9.Jetty9ServerConfiguration#isHttp2Supported()
+     */
+    @Override
+    protected boolean isHttp2Supported()
+    {
+        // the HTTP/2 libraries are not bundled with the embedded Jetty
+        return false;
+    }
 }
@@ -16,6 +16,201 @@ public class Jetty10ServerConfiguration extends Jetty9ServerConfiguration {
 		super.buildHttpsConfig(builder, "org.eclipse.jetty.util.ssl.SslContextFactory$Server");
 	}
 	
+	@Override
+	protected void buildUnixDomainConnector(JettyConfigBuilder builder) {
+		if (getUnixDomainPath() == null) {
+			return;
+		}
+
+		if (getPort() == null) {
+			builder.comment("Unix-domain sockets need the HTTP connector, which is disabled");
+
+			return;
+		}
+
+		builder.comment("Unix-Domain Connector");
+
+		builder.beginCall("addConnector");
+		{
+			builder.beginArg();
+			{
+				builder.beginNew("org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector");
+				{
+					// the constructor of the connector has no named arguments
+					builder.argRef("Server");
+
+					Integer acceptors = getAcceptorLimit();
+					Integer selectors = getSelectors();
+
+					if ((acceptors != null) || (selectors != null)) {
+						builder.arg((acceptors != null) ? acceptors : Integer.valueOf(-1));
+						builder.arg((selectors != null) ? selectors : Integer.valueOf(-1));
+					}
+
+					builder.beginArg();
+					{
+						builder.beginArray("org.eclipse.jetty.server.ConnectionFactory");
+						{
+							buildHttpConnectionFactories(builder);
+						}
+						builder.end();
+					}
+					builder.end();
+
+					builder.beginSet("unixDomainPath");
+					{
+						builder.beginCall(null, "java.nio.file.Path", "of");
+						{
+							builder.arg(getUnixDomainPath());
+						}
+						builder.end();
+					}
+					builder.end();
+
+					Integer idleTimeout = getConnectorIdleTimeout();
+
+					builder.set("idleTimeout", (idleTimeout != null) ? idleTimeout : 30000);
+
+					if (getAcceptQueueSize() != null) {
+						builder.set("acceptQueueSize", getAcceptQueueSize());
+					}
+				}
+				builder.end();
+			}
+			builder.end();
+		}
+		builder.end();
+	}
+
+	@Override
+	protected String getGzipHandlerClass() {
+		return "org.eclipse.jetty.server.handler.gzip.GzipHandler";
+	}
+
+	@Override
+	protected void buildGzipCompressionLevel(JettyConfigBuilder builder) {
+		// the compression level moved to the pool of deflaters
+		builder.beginSet("deflaterPool");
+		{
+			builder.beginNew("org.eclipse.jetty.util.compression.DeflaterPool");
+			{
+				builder.arg(1024);
+				builder.arg(getGzipCompressionLevel());
+				builder.arg(true);
+			}
+			builder.end();
+		}
+		builder.end();
+	}
+
+	@Override
+	protected void buildQuickstart(JettyConfigBuilder builder) {
+		if (getQuickstartPath() == null) {
+			return;
+		}
+
+		builder.beginCall("addConfiguration");
+		{
+			builder.beginArg();
+			{
+				builder.beginArray("org.eclipse.jetty.webapp.Configuration");
+				{
+					builder.beginItem();
+					{
+						if (isQuickstartGenerate()) {
+							// the QuickStartConfiguration aborts the start after generating, the generator does not
+							builder.beginNew("org.eclipse.jetty.quickstart.QuickStartGeneratorConfiguration");
+							{
+								builder.arg(false);
+								builder.beginSet("quickStartWebXml");
+								{
+									buildQuickstartResource(builder, getQuickstartPath() + ".tmp");
+								}
+								builder.end();
+							}
+							builder.end();
+						} else {
+							builder.beginNew("org.eclipse.jetty.quickstart.QuickStartConfiguration");
+							builder.end();
+						}
+					}
+					builder.end();
+				}
+				builder.end();
+			}
+			builder.end();
+		}
+		builder.end();
+
+		if (isQuickstartGenerate()) {
+			// the starter renames the descriptor after a successful start, a failed start leaves no partial descriptor
+			builder.beginCall("setAttribute");
+			{
+				builder.arg("jetty.launcher.quickstart.target");
+				builder.arg(getQuickstartPath());
+			}
+			builder.end();
+
+			return;
+		}
+
+		builder.beginCall("setAttribute");
+		{
+			builder.arg("org.eclipse.jetty.quickstart.mode");
+			builder.beginArg();
+			{
+				builder.beginCall(null, "org.eclipse.jetty.quickstart.QuickStartConfiguration$Mode", "valueOf");
+				{
+					builder.arg("QUICKSTART");
+				}
+				builder.end();
+			}
+			builder.end();
+		}
+		builder.end();
+
+		builder.beginCall("setAttribute");
+		{
+			builder.arg("org.eclipse.jetty.quickstart.xml");
+			builder.beginArg();
+			{
+				buildQuickstartResource(builder, getQuickstartPath());
+			}
+			builder.end();
+		}
+		builder.end();
+	}
+
+	private void buildQuickstartResource(JettyConfigBuilder builder, String path) {
+		builder.beginCall(null, "org.eclipse.jetty.util.resource.Resource", "newResource");
+		{
+			builder.arg(path);
+		}
+		builder.end();
+	}
+
+	@Override
+	protected boolean isReservedThreadsSupported() {
+		return true;
+	}
+
+	@Override
+	protected boolean isHttp2Supported() {
+		return true;
+	}
+
+	@Override
+	protected boolean isVirtualThreadsSupported() {
+		Integer minorVersion = getMinorVersion();
+		Integer microVersion = getMicroVersion();
+
+		if ((minorVersion == null) || (microVersion == null)) {
+			return false;
+		}
+
+		return (minorVersion.intValue() > 0) || (microVersion.intValue() >= 12);
+	}
+
 	@Override
 	protected void buildAnnotations(JettyConfigBuilder builder) {
 	}
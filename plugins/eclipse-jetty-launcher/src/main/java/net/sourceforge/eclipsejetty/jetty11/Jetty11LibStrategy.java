@@ -71,4 +71,26 @@ public class Jetty11LibStrategy extends Jetty8LibStrategy
         dependencies.add(".*/jetty-client-.*\\.jar");
         dependencies.add(".*/websocket/.*\\.jar");
     }
+
+    @Override
+    protected void addHTTP2Dependencies(Collection<String> dependencies)
+    {
+        dependencies.add(".*/http2/http2-common-.*\\.jar");
+        dependencies.add(".*/http2/http2-hpack-.*\\.jar");
+        dependencies.add(".*/http2/http2-server-.*\\.jar");
+        dependencies.add(".*/jetty-alpn-server-.*\\.jar");
+        dependencies.add(".*/jetty-alpn-java-server-.*\\.jar");
+    }
+
+    @Override
+    protected void addUnixDomainDependencies(Collection<String> dependencies)
+    {
+        dependencies.add(".*/jetty-unixdomain-server-.*\\.jar");
+    }
+
+    @Override
+    protected void addQuickstartDependencies(Collection<String> dependencies)
+    {
+        dependencies.add(".*/jetty-quickstart-.*\\.jar");
+    }
 }
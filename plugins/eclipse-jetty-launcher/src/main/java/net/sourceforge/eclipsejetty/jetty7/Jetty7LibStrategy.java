@@ -85,4 +85,22 @@ public class Jetty7LibStrategy extends FileBasedJettyLibStrategy
         // not supported
     }
 
+    @Override
+    protected void addHTTP2Dependencies(Collection<String> dependencies)
+    {
+        // not supported
+    }
+
+    @Override
+    protected void addUnixDomainDependencies(Collection<String> dependencies)
+    {
+        // not supported
+    }
+
+    @Override
+    protected void addQuickstartDependencies(Collection<String> dependencies)
+    {
+        // not supported
+    }
+
 }
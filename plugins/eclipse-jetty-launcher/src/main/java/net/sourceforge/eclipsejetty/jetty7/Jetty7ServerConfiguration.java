@@ -15,6 +15,7 @@ import java.util.Collection;
 
 import net.sourceforge.eclipsejetty.jetty.AbstractServerConfiguration;
 import net.sourceforge.eclipsejetty.jetty.JettyConfigBuilder;
+import net.sourceforge.eclipsejetty.jetty.JettyThreadPoolType;
 import net.sourceforge.eclipsejetty.jetty.JettyVersionType;
 
 public class Jetty7ServerConfiguration extends AbstractServerConfiguration
@@ -62,7 +63,9 @@ public class Jetty7ServerConfiguration extends AbstractServerConfiguration
         {
             builder.beginNew("org.eclipse.jetty.util.thread.QueuedThreadPool");
             {
-                builder.set("minThreads", 1);
+                Integer minimum = getThreadPoolMinimum();
+
+                builder.set("minThreads", (minimum != null) ? minimum : 1);
 
                 Integer connectionLimit = getThreadPoolLimit();
 
@@ -71,11 +74,24 @@ public class Jetty7ServerConfiguration extends AbstractServerConfiguration
                     builder.set("maxThreads", connectionLimit);
                 }
 
+                Integer idleTimeout = getThreadPoolIdleTimeout();
+
+                if (idleTimeout != null)
+                {
+                    builder.set("maxIdleTimeMs", idleTimeout);
+                }
+
                 builder.set("detailedDump", false);
             }
             builder.end();
         }
         builder.end();
+
+        if (getThreadPoolType() != JettyThreadPoolType.QUEUED)
+        {
+            builder.comment(String.format("Thread pool type %s is not supported by this Jetty version",
+                getThreadPoolType()));
+        }
     }
 
     /**
@@ -111,13 +127,23 @@ public class Jetty7ServerConfiguration extends AbstractServerConfiguration
                 builder.beginNew("org.eclipse.jetty.server.nio.SelectChannelConnector");
                 {
                     builder.set("port", getPort());
-                    builder.set("maxIdleTime", 300000);
+
+                    Integer idleTimeout = getConnectorIdleTimeout();
+
+                    builder.set("maxIdleTime", (idleTimeout != null) ? idleTimeout : 300000);
 
                     if (getAcceptorLimit() != null)
                     {
                         builder.set("Acceptors", getAcceptorLimit());
                     }
 
+                    if (getAcceptQueueSize() != null)
+                    {
+                        builder.set("AcceptQueueSize", getAcceptQueueSize());
+                    }
+
+                    buildConnectorOptions(builder);
+
                     builder.set("statsOn", false);
 
                     if (getSslPort() != null)
@@ -184,14 +210,21 @@ public class Jetty7ServerConfiguration extends AbstractServerConfiguration
                 {
                     builder.argRef("sslContextFactory");
                     builder.set("Port", getSslPort());
-                    builder.set("maxIdleTime", 30000);
+
+                    Integer idleTimeout = getConnectorIdleTimeout();
+
+                    builder.set("maxIdleTime", (idleTimeout != null) ? idleTimeout : 30000);
 
                     if (getAcceptorLimit() != null)
                     {
                         builder.set("Acceptors", getAcceptorLimit());
                     }
 
-                    builder.set("AcceptQueueSize", 100);
+                    Integer acceptQueueSize = getAcceptQueueSize();
+
+                    builder.set("AcceptQueueSize", (acceptQueueSize != null) ? acceptQueueSize : 100);
+
+                    buildConnectorOptions(builder);
                 }
                 builder.end();
             }
@@ -200,6 +233,79 @@ public class Jetty7ServerConfiguration extends AbstractServerConfiguration
         builder.end();
     }
 
+    /**
+     * Builds the options common to all connectors. The number of selectors and the size of the header cache are not
+     * supported by Jetty 7 and 8.
+     *
+     * @param builder the builder
+     */
+    protected void buildConnectorOptions(JettyConfigBuilder builder)
+    {
+        if (getReuseAddress() != null)
+        {
+            builder.set("reuseAddress", getReuseAddress());
+        }
+
+        if (getRequestHeaderSize() != null)
+        {
+            builder.set("requestHeaderSize", getRequestHeaderSize());
+        }
+
+        if (getOutputBufferSize() != null)
+        {
+            builder.set("responseBufferSize", getOutputBufferSize());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractServerConfiguration#getGzipHandlerClass()
+     */
+    @Override
+    protected String getGzipHandlerClass()
+    {
+        return "org.eclipse.jetty.server.handler.GzipHandler";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractServerConfiguration#buildGzipHandlerSetters(net.sourceforge.eclipsejetty.jetty.JettyConfigBuilder)
+     */
+    @Override
+    protected void buildGzipHandlerSetters(JettyConfigBuilder builder)
+    {
+        if (getGzipMinSize() != null)
+        {
+            builder.set("minGzipSize", getGzipMinSize());
+        }
+
+        String[] mimeTypes = getGzipMimeTypes();
+
+        if ((mimeTypes != null) && (mimeTypes.length > 0))
+        {
+            StringBuilder value = new StringBuilder();
+
+            for (String mimeType : mimeTypes)
+            {
+                if (value.length() > 0)
+                {
+                    value.append(",");
+                }
+
+                value.append(mimeType);
+            }
+
+            builder.set("mimeTypes", value);
+        }
+
+        if (getGzipCompressionLevel() != null)
+        {
+            builder.comment("The compression level is not supported by this Jetty version");
+        }
+    }
+
     /**
      * {@inheritDoc}
      * 
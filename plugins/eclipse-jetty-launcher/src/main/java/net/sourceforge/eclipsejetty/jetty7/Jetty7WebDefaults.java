@@ -12,7 +12,7 @@
 package net.sourceforge.eclipsejetty.jetty7;
 
 import net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults;
-import net.sourceforge.eclipsejetty.util.DOMBuilder;
+import net.sourceforge.eclipsejetty.util.XMLBuilder;
 
 public class Jetty7WebDefaults extends AbstractWebDefaults
 {
@@ -25,10 +25,10 @@ public class Jetty7WebDefaults extends AbstractWebDefaults
     /**
      * {@inheritDoc}
      * 
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#appendContextParams(net.sourceforge.eclipsejetty.util.DOMBuilder)
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#appendContextParams(net.sourceforge.eclipsejetty.util.XMLBuilder)
      */
     @Override
-    protected void appendContextParams(DOMBuilder builder)
+    protected void appendContextParams(XMLBuilder builder)
     {
         // intentionally left blank
     }
@@ -36,10 +36,10 @@ public class Jetty7WebDefaults extends AbstractWebDefaults
     /**
      * {@inheritDoc}
      * 
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#appendListeners(net.sourceforge.eclipsejetty.util.DOMBuilder)
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#appendListeners(net.sourceforge.eclipsejetty.util.XMLBuilder)
      */
     @Override
-    protected void appendListeners(DOMBuilder builder)
+    protected void appendListeners(XMLBuilder builder)
     {
         appendListener(builder, "org.eclipse.jetty.servlet.listener.ELContextCleaner");
         appendListener(builder, "org.eclipse.jetty.servlet.listener.IntrospectorCleaner");
@@ -59,10 +59,10 @@ public class Jetty7WebDefaults extends AbstractWebDefaults
     /**
      * {@inheritDoc}
      * 
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#getMaxCacheSize()
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#getDefaultMaxCacheSize()
      */
     @Override
-    protected int getMaxCacheSize()
+    protected int getDefaultMaxCacheSize()
     {
         return 256000000;
     }
@@ -70,10 +70,10 @@ public class Jetty7WebDefaults extends AbstractWebDefaults
     /**
      * {@inheritDoc}
      * 
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#getMaxCachedFileSize()
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#getDefaultMaxCachedFileSize()
      */
     @Override
-    protected int getMaxCachedFileSize()
+    protected int getDefaultMaxCachedFileSize()
     {
         return 200000000;
     }
@@ -81,10 +81,10 @@ public class Jetty7WebDefaults extends AbstractWebDefaults
     /**
      * {@inheritDoc}
      * 
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#getMaxCachedFiles()
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#getDefaultMaxCachedFiles()
      */
     @Override
-    protected int getMaxCachedFiles()
+    protected int getDefaultMaxCachedFiles()
     {
         return 2048;
     }
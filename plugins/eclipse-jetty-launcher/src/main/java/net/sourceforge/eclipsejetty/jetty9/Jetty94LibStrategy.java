@@ -75,4 +75,15 @@ public class Jetty94LibStrategy extends Jetty8LibStrategy
         dependencies.add(".*/jetty-client-.*\\.jar");
         dependencies.add(".*/websocket/.*\\.jar");
     }
+
+    @Override
+    protected void addHTTP2Dependencies(Collection<String> dependencies)
+    {
+        dependencies.add(".*/http2/http2-common-.*\\.jar");
+        dependencies.add(".*/http2/http2-hpack-.*\\.jar");
+        dependencies.add(".*/http2/http2-server-.*\\.jar");
+        dependencies.add(".*/jetty-alpn-server-.*\\.jar");
+        dependencies.add(".*/jetty-alpn-java-server-.*\\.jar");
+        dependencies.add(".*/jetty-alpn-openjdk8-server-.*\\.jar");
+    }
 }
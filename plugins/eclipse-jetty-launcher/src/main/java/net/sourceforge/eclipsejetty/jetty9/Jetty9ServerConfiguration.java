@@ -38,7 +38,9 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
 
         builder.beginGet("ThreadPool");
         {
-            builder.set("minThreads", 1);
+            Integer minimum = getThreadPoolMinimum();
+
+            builder.set("minThreads", (minimum != null) ? minimum : 1);
 
             Integer connectionLimit = getThreadPoolLimit();
 
@@ -47,12 +49,133 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
                 builder.set("maxThreads", connectionLimit);
             }
 
-            builder.set("idleTimeout", 60000);
+            Integer idleTimeout = getThreadPoolIdleTimeout();
+
+            builder.set("idleTimeout", (idleTimeout != null) ? idleTimeout : 60000);
             builder.set("detailedDump", false);
+
+            switch (getThreadPoolType())
+            {
+                case VIRTUAL:
+                    if (isVirtualThreadsSupported())
+                    {
+                        builder.set("useVirtualThreads", true);
+                    }
+                    else
+                    {
+                        builder.comment("Virtual threads are not supported by this Jetty version");
+                    }
+                    break;
+
+                case RESERVED:
+                    if (isReservedThreadsSupported())
+                    {
+                        builder.set("reservedThreads", getReservedThreads());
+                    }
+                    else
+                    {
+                        builder.comment("The ReservedThreadExecutor is not supported by this Jetty version");
+                    }
+                    break;
+
+                default:
+                    break;
+            }
         }
         builder.end();
     }
 
+    /**
+     * Returns true if the QueuedThreadPool can be configured with the number of threads for its
+     * ReservedThreadExecutor. Available since Jetty 9.4.
+     *
+     * @return true if supported
+     */
+    protected boolean isReservedThreadsSupported()
+    {
+        Integer minorVersion = getMinorVersion();
+
+        return (minorVersion != null) && (minorVersion.intValue() >= 4);
+    }
+
+    /**
+     * Returns true if the Jetty supports HTTP/2 with ALPN in the way it is configured here. Available since Jetty 9.4.
+     *
+     * @return true if supported
+     */
+    protected boolean isHttp2Supported()
+    {
+        Integer minorVersion = getMinorVersion();
+
+        return (minorVersion != null) && (minorVersion.intValue() >= 4);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.jetty7.Jetty7ServerConfiguration#getGzipHandlerClass()
+     */
+    @Override
+    protected String getGzipHandlerClass()
+    {
+        Integer minorVersion = getMinorVersion();
+
+        if ((minorVersion == null) || (minorVersion.intValue() < 3))
+        {
+            // before Jetty 9.3, the GzipHandler was part of the jetty-servlets module
+            return null;
+        }
+
+        return "org.eclipse.jetty.server.handler.gzip.GzipHandler";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.jetty7.Jetty7ServerConfiguration#buildGzipHandlerSetters(net.sourceforge.eclipsejetty.jetty.JettyConfigBuilder)
+     */
+    @Override
+    protected void buildGzipHandlerSetters(JettyConfigBuilder builder)
+    {
+        if (getGzipMinSize() != null)
+        {
+            builder.set("minGzipSize", getGzipMinSize());
+        }
+
+        String[] mimeTypes = getGzipMimeTypes();
+
+        if ((mimeTypes != null) && (mimeTypes.length > 0))
+        {
+            builder.setArray("includedMimeTypes", (Object[]) mimeTypes);
+        }
+
+        if (getGzipCompressionLevel() != null)
+        {
+            buildGzipCompressionLevel(builder);
+        }
+    }
+
+    /**
+     * Builds the compression level of the GzipHandler.
+     *
+     * @param builder the builder
+     */
+    protected void buildGzipCompressionLevel(JettyConfigBuilder builder)
+    {
+        builder.set("compressionLevel", getGzipCompressionLevel());
+    }
+
+    /**
+     * Returns true if the QueuedThreadPool can execute blocking tasks in virtual threads. Available since Jetty 10.0.12
+     * and 11.0.12.
+     *
+     * @return true if supported
+     */
+    protected boolean isVirtualThreadsSupported()
+    {
+        return false;
+    }
+
     @Override
     protected void buildHttpConfig(JettyConfigBuilder builder)
     {
@@ -72,12 +195,16 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
                 builder.set("securePort", getSslPort());
             }
 
-            builder.set("outputBufferSize", 32768);
-            builder.set("requestHeaderSize", 8192);
+            Integer outputBufferSize = getOutputBufferSize();
+            Integer requestHeaderSize = getRequestHeaderSize();
+            Integer headerCacheSize = getHeaderCacheSize();
+
+            builder.set("outputBufferSize", (outputBufferSize != null) ? outputBufferSize : 32768);
+            builder.set("requestHeaderSize", (requestHeaderSize != null) ? requestHeaderSize : 8192);
             builder.set("responseHeaderSize", 8192);
             builder.set("sendServerVersion", true);
             builder.set("sendDateHeader", false);
-            builder.set("headerCacheSize", 512);
+            builder.set("headerCacheSize", (headerCacheSize != null) ? headerCacheSize : 512);
         }
         builder.end();
     }
@@ -92,6 +219,11 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
 
         builder.comment("HTTP Connector");
 
+        if ((isHttp2Enabled()) && (!isHttp2Supported()))
+        {
+            builder.comment("HTTP/2 is not supported by this Jetty version");
+        }
+
         builder.beginCall("addConnector");
         {
             builder.beginArg();
@@ -99,26 +231,19 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
                 builder.beginNew("org.eclipse.jetty.server.ServerConnector");
                 {
                     builder.argRef("server", "Server");
+                    buildConnectorArgs(builder);
                     builder.beginArg("factories");
                     {
                         builder.beginArray("org.eclipse.jetty.server.ConnectionFactory");
                         {
-                            builder.beginItem();
-                            {
-                                builder.beginNew("org.eclipse.jetty.server.HttpConnectionFactory");
-                                {
-                                    builder.argRef("config", "httpConfig");
-                                }
-                                builder.end();
-                            }
-                            builder.end();
+                            buildHttpConnectionFactories(builder);
                         }
                         builder.end();
                     }
                     builder.end();
 
                     builder.set("port", getPort());
-                    builder.set("idleTimeout", 30000);
+                    buildConnectorOptions(builder);
                 }
                 builder.end();
             }
@@ -195,21 +320,48 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
                 builder.beginNew("org.eclipse.jetty.server.ServerConnector");
                 {
                     builder.argRef("server", "Server");
+                    buildConnectorArgs(builder);
                     builder.beginArg("factories");
                     {
                         builder.beginArray("org.eclipse.jetty.server.ConnectionFactory");
                         {
+                            boolean http2 = (isHttp2Enabled()) && (isHttp2Supported());
+
                             builder.beginItem();
                             {
                                 builder.beginNew("org.eclipse.jetty.server.SslConnectionFactory");
                                 {
-                                    builder.arg("next", "http/1.1");
+                                    builder.arg("next", (http2) ? "alpn" : "http/1.1");
                                     builder.argRef("sslContextFactory", "sslContextFactory");
                                 }
                                 builder.end();
                             }
                             builder.end();
 
+                            if (http2)
+                            {
+                                builder.beginItem();
+                                {
+                                    builder.beginNew("org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory");
+                                    {
+                                        builder.arg("protocols", "h2,http/1.1");
+                                        builder.set("defaultProtocol", "http/1.1");
+                                    }
+                                    builder.end();
+                                }
+                                builder.end();
+
+                                builder.beginItem();
+                                {
+                                    builder.beginNew("org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory");
+                                    {
+                                        builder.argRef("config", "sslHttpConfig");
+                                    }
+                                    builder.end();
+                                }
+                                builder.end();
+                            }
+
                             builder.beginItem();
                             {
                                 builder.beginNew("org.eclipse.jetty.server.HttpConnectionFactory");
@@ -225,7 +377,7 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
                     builder.end();
 
                     builder.set("port", getSslPort());
-                    builder.set("idleTimeout", 30000);
+                    buildConnectorOptions(builder);
                 }
                 builder.end();
             }
@@ -234,12 +386,102 @@ public class Jetty9ServerConfiguration extends Jetty8ServerConfiguration
         builder.end();
     }
 
+    /**
+     * Builds the items of the connection factories of a clear-text connector: HTTP/1.1 and, if enabled, h2c.
+     *
+     * @param builder the builder
+     */
+    protected void buildHttpConnectionFactories(JettyConfigBuilder builder)
+    {
+        builder.beginItem();
+        {
+            builder.beginNew("org.eclipse.jetty.server.HttpConnectionFactory");
+            {
+                builder.argRef("config", "httpConfig");
+            }
+            builder.end();
+        }
+        builder.end();
+
+        if ((isHttp2Enabled()) && (isHttp2Supported()))
+        {
+            builder.beginItem();
+            {
+                builder.beginNew("org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory");
+                {
+                    builder.argRef("config", "httpConfig");
+                }
+                builder.end();
+            }
+            builder.end();
+        }
+    }
+
+    /**
+     * Builds the acceptors and selectors arguments of a ServerConnector, if one of them is limited. Both arguments
+     * are needed by the constructor, -1 lets Jetty choose the number.
+     *
+     * @param builder the builder
+     */
+    protected void buildConnectorArgs(JettyConfigBuilder builder)
+    {
+        Integer acceptors = getAcceptorLimit();
+        Integer selectors = getSelectors();
+
+        if ((acceptors == null) && (selectors == null))
+        {
+            return;
+        }
+
+        builder.arg("acceptors", (acceptors != null) ? acceptors : Integer.valueOf(-1));
+        builder.arg("selectors", (selectors != null) ? selectors : Integer.valueOf(-1));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.jetty7.Jetty7ServerConfiguration#buildConnectorOptions(net.sourceforge.eclipsejetty.jetty.JettyConfigBuilder)
+     */
+    @Override
+    protected void buildConnectorOptions(JettyConfigBuilder builder)
+    {
+        Integer idleTimeout = getConnectorIdleTimeout();
+
+        builder.set("idleTimeout", (idleTimeout != null) ? idleTimeout : 30000);
+
+        if (getAcceptQueueSize() != null)
+        {
+            builder.set("acceptQueueSize", getAcceptQueueSize());
+        }
+
+        if (getReuseAddress() != null)
+        {
+            builder.set("reuseAddress", getReuseAddress());
+        }
+    }
+
     @Override
     protected void collectDefaultHandlerConfigurations(Collection<String> configurations)
     {
         // intentionally left blank
     }
 
+    @Override
+    protected void buildDefaultHandlerAttributes(JettyConfigBuilder builder)
+    {
+        super.buildDefaultHandlerAttributes(builder);
+
+        if (!isAnnotationsEnabled())
+        {
+            return;
+        }
+
+        // ignored by Jetty versions before 9.1
+        buildDefaultHandlerAttribute(builder, "org.eclipse.jetty.annotations.multiThreaded",
+            getAnnotationScanMultiThreaded());
+        buildDefaultHandlerAttribute(builder, "org.eclipse.jetty.annotations.maxWait", getAnnotationScanMaxWait());
+    }
+
     @Override
     protected void buildAnnotations(JettyConfigBuilder builder)
     {
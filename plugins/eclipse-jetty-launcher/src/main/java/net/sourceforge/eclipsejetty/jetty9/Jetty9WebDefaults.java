@@ -12,7 +12,7 @@
 package net.sourceforge.eclipsejetty.jetty9;
 
 import net.sourceforge.eclipsejetty.jetty7.Jetty7WebDefaults;
-import net.sourceforge.eclipsejetty.util.DOMBuilder;
+import net.sourceforge.eclipsejetty.util.XMLBuilder;
 
 public class Jetty9WebDefaults extends Jetty7WebDefaults
 {
@@ -25,14 +25,18 @@ public class Jetty9WebDefaults extends Jetty7WebDefaults
     /**
      * {@inheritDoc}
      * 
-     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#appendInitParams(net.sourceforge.eclipsejetty.util.DOMBuilder)
+     * @see net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults#appendInitParams(net.sourceforge.eclipsejetty.util.XMLBuilder)
      */
     @Override
-    protected void appendInitParams(DOMBuilder builder)
+    protected void appendInitParams(XMLBuilder builder)
     {
         super.appendInitParams(builder);
 
-        appendInitParam(builder, "etags", true);
+        if (isPrecompressedEnabled())
+        {
+            // ignored by Jetty versions before 9.4
+            appendInitParam(builder, "precompressed", "br=.br,gzip=.gz");
+        }
     }
 
 }
\ No newline at end of file
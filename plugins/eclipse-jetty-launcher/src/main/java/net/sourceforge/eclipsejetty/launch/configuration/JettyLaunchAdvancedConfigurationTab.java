@@ -17,12 +17,15 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import net.sourceforge.eclipsejetty.JettyPlugin;
 import net.sourceforge.eclipsejetty.JettyPluginUtils;
 import net.sourceforge.eclipsejetty.Messages;
 import net.sourceforge.eclipsejetty.jetty.JettyConfig;
 import net.sourceforge.eclipsejetty.jetty.JettyConfigType;
+import net.sourceforge.eclipsejetty.jetty.JettyThreadPoolType;
 import net.sourceforge.eclipsejetty.jetty.JettyVersion;
 import net.sourceforge.eclipsejetty.launch.util.JettyLaunchConfigurationAdapter;
 import net.sourceforge.eclipsejetty.launch.util.JettyLaunchConfigurationDelegate;
@@ -88,6 +91,7 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
     private Button jndiSupportButton;
     private Button annotationsSupportButton;
     private Button websocketSupportButton;
+    private Button http2SupportButton;
     private Button ajpSupportButton;
     private Spinner ajpPortSpinner;
 
@@ -95,9 +99,45 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
     private Spinner gracefulShutdownOverrideTimeoutSpinner;
     private Button threadPoolLimitEnabledButton;
     private Spinner threadPoolLimitCountSpinner;
+    private Button threadPoolTypeQueuedButton;
+    private Button threadPoolTypeVirtualButton;
+    private Button threadPoolTypeReservedButton;
+    private Spinner threadPoolMinimumCountSpinner;
+    private Spinner threadPoolIdleTimeoutSpinner;
+    private Spinner reservedThreadsCountSpinner;
     private Button acceptorLimitEnabledButton;
     private Spinner acceptorLimitCountSpinner;
 
+    private Button connectorTuningEnabledButton;
+    private Spinner selectorsSpinner;
+    private Spinner acceptQueueSizeSpinner;
+    private Spinner connectorIdleTimeoutSpinner;
+    private Spinner outputBufferSizeSpinner;
+    private Spinner requestHeaderSizeSpinner;
+    private Spinner headerCacheSizeSpinner;
+    private Button reuseAddressButton;
+
+    private Button gzipEnabledButton;
+    private Spinner gzipMinSizeSpinner;
+    private Text gzipMimeTypesText;
+    private Spinner gzipCompressionLevelSpinner;
+    private Button precompressedEnabledButton;
+
+    private Button annotationsMultiThreadedButton;
+    private Spinner annotationsMaxWaitSpinner;
+    private Text containerIncludeJarPatternText;
+    private Text webInfIncludeJarPatternText;
+    private Button webInfIncludeJarPatternDerivedButton;
+    private Button quickstartEnabledButton;
+
+    private Button serverCacheLimitsEnabledButton;
+    private Spinner serverCacheMaxSizeSpinner;
+    private Spinner serverCacheMaxFileSizeSpinner;
+    private Spinner serverCacheMaxFilesSpinner;
+    private Button fileMappedBufferEnabledButton;
+    private Spinner fileMappedBufferThresholdSpinner;
+    private Button etagsEnabledButton;
+
     private Button customWebDefaultsEnabledButton;
     private Text customWebDefaultsResourceText;
     private Button customWebDefaultsWorkspaceButton;
@@ -118,6 +158,7 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
 
     private Button showLauncherInfoButton;
     private Button consoleEnabledButton;
+    private Button statisticsEnabledButton;
 
     public JettyLaunchAdvancedConfigurationTab()
     {
@@ -139,6 +180,10 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         createJettyFeatureGroup(tabComposite);
         createPluginFeatureGroup(tabComposite);
         createConfigGroup(tabComposite);
+        createConnectorGroup(tabComposite);
+        createCompressionGroup(tabComposite);
+        createStaticContentGroup(tabComposite);
+        createAnnotationScanGroup(tabComposite);
         createContextGroup(tabComposite);
         createHelpGroup(tabComposite);
 
@@ -222,6 +267,9 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         websocketSupportButton =
             createButton(jettyFeatureGroup, SWT.CHECK, Messages.advConfigTab_websocketSupportButton,
                 Messages.advConfigTab_websocketSupportButtonTip, -1, 1, 1, modifyDialogListener);
+        http2SupportButton =
+            createButton(jettyFeatureGroup, SWT.CHECK, Messages.advConfigTab_http2SupportButton,
+                Messages.advConfigTab_http2SupportButtonTip, -1, 1, 1, modifyDialogListener);
 
     }
 
@@ -238,6 +286,9 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         consoleEnabledButton =
             createButton(pluginFeatureGroup, SWT.CHECK, Messages.advConfigTab_consoleEnabledButton,
                 Messages.advConfigTab_consoleEnabledButtonTip, 224, 1, 1, modifyDialogListener);
+        statisticsEnabledButton =
+            createButton(pluginFeatureGroup, SWT.CHECK, Messages.advConfigTab_statisticsEnabledButton,
+                Messages.advConfigTab_statisticsEnabledButtonTip, 224, 1, 1, modifyDialogListener);
     }
 
     private void createConfigGroup(Composite tabComposite)
@@ -270,6 +321,48 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         threadPoolLimitCountSpinner.setPageIncrement(8);
         createLabel(configGroup, Messages.advConfigTab_threadPoolLimitCountUnit, -1, SWT.LEFT, 1, 1);
 
+        Composite threadPoolTypeComposite = createComposite(configGroup, SWT.NONE, 4, -1, false, 3, 1);
+        createLabel(threadPoolTypeComposite, Messages.advConfigTab_threadPoolTypeLabel, 224, SWT.LEFT, 1, 1);
+        threadPoolTypeQueuedButton =
+            createButton(threadPoolTypeComposite, SWT.RADIO, Messages.advConfigTab_threadPoolTypeQueuedButton,
+                Messages.advConfigTab_threadPoolTypeQueuedButtonTip, -1, 1, 1, modifyDialogListener);
+        threadPoolTypeVirtualButton =
+            createButton(threadPoolTypeComposite, SWT.RADIO, Messages.advConfigTab_threadPoolTypeVirtualButton,
+                Messages.advConfigTab_threadPoolTypeVirtualButtonTip, -1, 1, 1, modifyDialogListener);
+        threadPoolTypeReservedButton =
+            createButton(threadPoolTypeComposite, SWT.RADIO, Messages.advConfigTab_threadPoolTypeReservedButton,
+                Messages.advConfigTab_threadPoolTypeReservedButtonTip, -1, 1, 1, modifyDialogListener);
+
+        createLabel(configGroup, Messages.advConfigTab_threadPoolMinimumLabel, 224, SWT.LEFT, 1, 1);
+        threadPoolMinimumCountSpinner =
+            createSpinner(configGroup, SWT.BORDER, Messages.advConfigTab_threadPoolMinimumCountSpinnerTip, 32, -1, 1,
+                1, modifyDialogListener);
+        threadPoolMinimumCountSpinner.setMinimum(1);
+        threadPoolMinimumCountSpinner.setMaximum(128);
+        threadPoolMinimumCountSpinner.setIncrement(1);
+        threadPoolMinimumCountSpinner.setPageIncrement(8);
+        createLabel(configGroup, Messages.advConfigTab_threadPoolMinimumCountUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(configGroup, Messages.advConfigTab_threadPoolIdleTimeoutLabel, 224, SWT.LEFT, 1, 1);
+        threadPoolIdleTimeoutSpinner =
+            createSpinner(configGroup, SWT.BORDER, Messages.advConfigTab_threadPoolIdleTimeoutSpinnerTip, 32, -1, 1, 1,
+                modifyDialogListener);
+        threadPoolIdleTimeoutSpinner.setMinimum(1);
+        threadPoolIdleTimeoutSpinner.setMaximum(3600);
+        threadPoolIdleTimeoutSpinner.setIncrement(1);
+        threadPoolIdleTimeoutSpinner.setPageIncrement(10);
+        createLabel(configGroup, Messages.advConfigTab_threadPoolIdleTimeoutUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(configGroup, Messages.advConfigTab_reservedThreadsLabel, 224, SWT.LEFT, 1, 1);
+        reservedThreadsCountSpinner =
+            createSpinner(configGroup, SWT.BORDER, Messages.advConfigTab_reservedThreadsCountSpinnerTip, 32, -1, 1, 1,
+                modifyDialogListener);
+        reservedThreadsCountSpinner.setMinimum(0);
+        reservedThreadsCountSpinner.setMaximum(64);
+        reservedThreadsCountSpinner.setIncrement(1);
+        reservedThreadsCountSpinner.setPageIncrement(4);
+        createLabel(configGroup, Messages.advConfigTab_reservedThreadsCountUnit, -1, SWT.LEFT, 1, 1);
+
         acceptorLimitEnabledButton =
             createButton(configGroup, SWT.CHECK, Messages.advConfigTab_acceptorLimitEnabledButton,
                 Messages.advConfigTab_acceptorLimitEnabledButtonTip, 224, 1, 1, modifyDialogListener);
@@ -369,6 +462,216 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
                     Messages.advConfigTab_sniCheckDisabledButtonTip, 224, 3, 1, modifyDialogListener);
     }
 
+    private void createConnectorGroup(Composite tabComposite)
+    {
+        final Composite connectorGroup =
+            createGroup(tabComposite, Messages.advConfigTab_connectorGroupTitle, 3, -1, false, 2, 1);
+
+        connectorTuningEnabledButton =
+            createButton(connectorGroup, SWT.CHECK, Messages.advConfigTab_connectorTuningEnabledButton,
+                Messages.advConfigTab_connectorTuningEnabledButtonTip, 224, 3, 1, modifyDialogListener);
+
+        createLabel(connectorGroup, Messages.advConfigTab_selectorsLabel, 224, SWT.LEFT, 1, 1);
+        selectorsSpinner =
+            createSpinner(connectorGroup, SWT.BORDER, Messages.advConfigTab_selectorsSpinnerTip, 64, -1, 1, 1,
+                modifyDialogListener);
+        selectorsSpinner.setMinimum(0);
+        selectorsSpinner.setMaximum(64);
+        selectorsSpinner.setIncrement(1);
+        selectorsSpinner.setPageIncrement(4);
+        createLabel(connectorGroup, Messages.advConfigTab_selectorsUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(connectorGroup, Messages.advConfigTab_acceptQueueSizeLabel, 224, SWT.LEFT, 1, 1);
+        acceptQueueSizeSpinner =
+            createSpinner(connectorGroup, SWT.BORDER, Messages.advConfigTab_acceptQueueSizeSpinnerTip, 64, -1, 1, 1,
+                modifyDialogListener);
+        acceptQueueSizeSpinner.setMinimum(0);
+        acceptQueueSizeSpinner.setMaximum(65535);
+        acceptQueueSizeSpinner.setIncrement(1);
+        acceptQueueSizeSpinner.setPageIncrement(100);
+        createLabel(connectorGroup, Messages.advConfigTab_acceptQueueSizeUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(connectorGroup, Messages.advConfigTab_connectorIdleTimeoutLabel, 224, SWT.LEFT, 1, 1);
+        connectorIdleTimeoutSpinner =
+            createSpinner(connectorGroup, SWT.BORDER, Messages.advConfigTab_connectorIdleTimeoutSpinnerTip, 64, -1, 1,
+                1, modifyDialogListener);
+        connectorIdleTimeoutSpinner.setDigits(1);
+        connectorIdleTimeoutSpinner.setMinimum(1);
+        connectorIdleTimeoutSpinner.setMaximum(36000);
+        connectorIdleTimeoutSpinner.setIncrement(1);
+        connectorIdleTimeoutSpinner.setPageIncrement(10);
+        createLabel(connectorGroup, Messages.advConfigTab_connectorIdleTimeoutUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(connectorGroup, Messages.advConfigTab_outputBufferSizeLabel, 224, SWT.LEFT, 1, 1);
+        outputBufferSizeSpinner =
+            createSpinner(connectorGroup, SWT.BORDER, Messages.advConfigTab_outputBufferSizeSpinnerTip, 64, -1, 1, 1,
+                modifyDialogListener);
+        outputBufferSizeSpinner.setMinimum(1024);
+        outputBufferSizeSpinner.setMaximum(16777216);
+        outputBufferSizeSpinner.setIncrement(1024);
+        outputBufferSizeSpinner.setPageIncrement(8192);
+        createLabel(connectorGroup, Messages.advConfigTab_outputBufferSizeUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(connectorGroup, Messages.advConfigTab_requestHeaderSizeLabel, 224, SWT.LEFT, 1, 1);
+        requestHeaderSizeSpinner =
+            createSpinner(connectorGroup, SWT.BORDER, Messages.advConfigTab_requestHeaderSizeSpinnerTip, 64, -1, 1, 1,
+                modifyDialogListener);
+        requestHeaderSizeSpinner.setMinimum(1024);
+        requestHeaderSizeSpinner.setMaximum(1048576);
+        requestHeaderSizeSpinner.setIncrement(1024);
+        requestHeaderSizeSpinner.setPageIncrement(8192);
+        createLabel(connectorGroup, Messages.advConfigTab_requestHeaderSizeUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(connectorGroup, Messages.advConfigTab_headerCacheSizeLabel, 224, SWT.LEFT, 1, 1);
+        headerCacheSizeSpinner =
+            createSpinner(connectorGroup, SWT.BORDER, Messages.advConfigTab_headerCacheSizeSpinnerTip, 64, -1, 1, 1,
+                modifyDialogListener);
+        headerCacheSizeSpinner.setMinimum(0);
+        headerCacheSizeSpinner.setMaximum(65536);
+        headerCacheSizeSpinner.setIncrement(128);
+        headerCacheSizeSpinner.setPageIncrement(1024);
+        createLabel(connectorGroup, Messages.advConfigTab_headerCacheSizeUnit, -1, SWT.LEFT, 1, 1);
+
+        reuseAddressButton =
+            createButton(connectorGroup, SWT.CHECK, Messages.advConfigTab_reuseAddressButton,
+                Messages.advConfigTab_reuseAddressButtonTip, 224, 3, 1, modifyDialogListener);
+    }
+
+    private void createCompressionGroup(Composite tabComposite)
+    {
+        final Composite compressionGroup =
+            createGroup(tabComposite, Messages.advConfigTab_compressionGroupTitle, 3, -1, false, 2, 1);
+
+        gzipEnabledButton =
+            createButton(compressionGroup, SWT.CHECK, Messages.advConfigTab_gzipEnabledButton,
+                Messages.advConfigTab_gzipEnabledButtonTip, 224, 3, 1, modifyDialogListener);
+
+        createLabel(compressionGroup, Messages.advConfigTab_gzipMinSizeLabel, 224, SWT.LEFT, 1, 1);
+        gzipMinSizeSpinner =
+            createSpinner(compressionGroup, SWT.BORDER, Messages.advConfigTab_gzipMinSizeSpinnerTip, 64, -1, 1, 1,
+                modifyDialogListener);
+        gzipMinSizeSpinner.setMinimum(0);
+        gzipMinSizeSpinner.setMaximum(16777216);
+        gzipMinSizeSpinner.setIncrement(16);
+        gzipMinSizeSpinner.setPageIncrement(1024);
+        createLabel(compressionGroup, Messages.advConfigTab_gzipMinSizeUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(compressionGroup, Messages.advConfigTab_gzipMimeTypesLabel, 224, SWT.LEFT, 1, 1);
+        gzipMimeTypesText =
+            createText(compressionGroup, SWT.BORDER, Messages.advConfigTab_gzipMimeTypesTextTip, -1, -1, 2, 1,
+                modifyDialogListener);
+
+        createLabel(compressionGroup, Messages.advConfigTab_gzipCompressionLevelLabel, 224, SWT.LEFT, 1, 1);
+        gzipCompressionLevelSpinner =
+            createSpinner(compressionGroup, SWT.BORDER, Messages.advConfigTab_gzipCompressionLevelSpinnerTip, 64, -1,
+                1, 1, modifyDialogListener);
+        gzipCompressionLevelSpinner.setMinimum(-1);
+        gzipCompressionLevelSpinner.setMaximum(9);
+        gzipCompressionLevelSpinner.setIncrement(1);
+        gzipCompressionLevelSpinner.setPageIncrement(1);
+        createLabel(compressionGroup, Messages.advConfigTab_gzipCompressionLevelUnit, -1, SWT.LEFT, 1, 1);
+
+        precompressedEnabledButton =
+            createButton(compressionGroup, SWT.CHECK, Messages.advConfigTab_precompressedEnabledButton,
+                Messages.advConfigTab_precompressedEnabledButtonTip, 224, 3, 1, modifyDialogListener);
+    }
+
+    private void createAnnotationScanGroup(Composite tabComposite)
+    {
+        final Composite annotationScanGroup =
+            createGroup(tabComposite, Messages.advConfigTab_annotationScanGroupTitle, 3, -1, false, 2, 1);
+
+        annotationsMultiThreadedButton =
+            createButton(annotationScanGroup, SWT.CHECK, Messages.advConfigTab_annotationsMultiThreadedButton,
+                Messages.advConfigTab_annotationsMultiThreadedButtonTip, 224, 3, 1, modifyDialogListener);
+
+        createLabel(annotationScanGroup, Messages.advConfigTab_annotationsMaxWaitLabel, 224, SWT.LEFT, 1, 1);
+        annotationsMaxWaitSpinner =
+            createSpinner(annotationScanGroup, SWT.BORDER, Messages.advConfigTab_annotationsMaxWaitSpinnerTip, 64, -1,
+                1, 1, modifyDialogListener);
+        annotationsMaxWaitSpinner.setMinimum(1);
+        annotationsMaxWaitSpinner.setMaximum(3600);
+        annotationsMaxWaitSpinner.setIncrement(1);
+        annotationsMaxWaitSpinner.setPageIncrement(60);
+        createLabel(annotationScanGroup, Messages.advConfigTab_annotationsMaxWaitUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(annotationScanGroup, Messages.advConfigTab_containerIncludeJarPatternLabel, 224, SWT.LEFT, 1, 1);
+        containerIncludeJarPatternText =
+            createText(annotationScanGroup, SWT.BORDER, Messages.advConfigTab_containerIncludeJarPatternTextTip, -1,
+                -1, 2, 1, modifyDialogListener);
+
+        createLabel(annotationScanGroup, Messages.advConfigTab_webInfIncludeJarPatternLabel, 224, SWT.LEFT, 1, 1);
+        webInfIncludeJarPatternText =
+            createText(annotationScanGroup, SWT.BORDER, Messages.advConfigTab_webInfIncludeJarPatternTextTip, -1, -1,
+                2, 1, modifyDialogListener);
+
+        webInfIncludeJarPatternDerivedButton =
+            createButton(annotationScanGroup, SWT.CHECK, Messages.advConfigTab_webInfIncludeJarPatternDerivedButton,
+                Messages.advConfigTab_webInfIncludeJarPatternDerivedButtonTip, 224, 3, 1, modifyDialogListener);
+
+        quickstartEnabledButton =
+            createButton(annotationScanGroup, SWT.CHECK, Messages.advConfigTab_quickstartEnabledButton,
+                Messages.advConfigTab_quickstartEnabledButtonTip, 224, 3, 1, modifyDialogListener);
+    }
+
+    private void createStaticContentGroup(Composite tabComposite)
+    {
+        final Composite staticContentGroup =
+            createGroup(tabComposite, Messages.advConfigTab_staticContentGroupTitle, 3, -1, false, 2, 1);
+
+        serverCacheLimitsEnabledButton =
+            createButton(staticContentGroup, SWT.CHECK, Messages.advConfigTab_serverCacheLimitsEnabledButton,
+                Messages.advConfigTab_serverCacheLimitsEnabledButtonTip, 224, 3, 1, modifyDialogListener);
+
+        createLabel(staticContentGroup, Messages.advConfigTab_serverCacheMaxSizeLabel, 224, SWT.LEFT, 1, 1);
+        serverCacheMaxSizeSpinner =
+            createSpinner(staticContentGroup, SWT.BORDER, Messages.advConfigTab_serverCacheMaxSizeSpinnerTip, 96, -1,
+                1, 1, modifyDialogListener);
+        serverCacheMaxSizeSpinner.setMinimum(0);
+        serverCacheMaxSizeSpinner.setMaximum(Integer.MAX_VALUE);
+        serverCacheMaxSizeSpinner.setIncrement(1048576);
+        serverCacheMaxSizeSpinner.setPageIncrement(16777216);
+        createLabel(staticContentGroup, Messages.advConfigTab_serverCacheMaxSizeUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(staticContentGroup, Messages.advConfigTab_serverCacheMaxFileSizeLabel, 224, SWT.LEFT, 1, 1);
+        serverCacheMaxFileSizeSpinner =
+            createSpinner(staticContentGroup, SWT.BORDER, Messages.advConfigTab_serverCacheMaxFileSizeSpinnerTip, 96,
+                -1, 1, 1, modifyDialogListener);
+        serverCacheMaxFileSizeSpinner.setMinimum(0);
+        serverCacheMaxFileSizeSpinner.setMaximum(Integer.MAX_VALUE);
+        serverCacheMaxFileSizeSpinner.setIncrement(65536);
+        serverCacheMaxFileSizeSpinner.setPageIncrement(1048576);
+        createLabel(staticContentGroup, Messages.advConfigTab_serverCacheMaxFileSizeUnit, -1, SWT.LEFT, 1, 1);
+
+        createLabel(staticContentGroup, Messages.advConfigTab_serverCacheMaxFilesLabel, 224, SWT.LEFT, 1, 1);
+        serverCacheMaxFilesSpinner =
+            createSpinner(staticContentGroup, SWT.BORDER, Messages.advConfigTab_serverCacheMaxFilesSpinnerTip, 96, -1,
+                1, 1, modifyDialogListener);
+        serverCacheMaxFilesSpinner.setMinimum(0);
+        serverCacheMaxFilesSpinner.setMaximum(1048576);
+        serverCacheMaxFilesSpinner.setIncrement(64);
+        serverCacheMaxFilesSpinner.setPageIncrement(1024);
+        createLabel(staticContentGroup, Messages.advConfigTab_serverCacheMaxFilesUnit, -1, SWT.LEFT, 1, 1);
+
+        fileMappedBufferEnabledButton =
+            createButton(staticContentGroup, SWT.CHECK, Messages.advConfigTab_fileMappedBufferEnabledButton,
+                Messages.advConfigTab_fileMappedBufferEnabledButtonTip, 224, 3, 1, modifyDialogListener);
+
+        createLabel(staticContentGroup, Messages.advConfigTab_fileMappedBufferThresholdLabel, 224, SWT.LEFT, 1, 1);
+        fileMappedBufferThresholdSpinner =
+            createSpinner(staticContentGroup, SWT.BORDER, Messages.advConfigTab_fileMappedBufferThresholdSpinnerTip,
+                96, -1, 1, 1, modifyDialogListener);
+        fileMappedBufferThresholdSpinner.setMinimum(0);
+        fileMappedBufferThresholdSpinner.setMaximum(Integer.MAX_VALUE);
+        fileMappedBufferThresholdSpinner.setIncrement(65536);
+        fileMappedBufferThresholdSpinner.setPageIncrement(1048576);
+        createLabel(staticContentGroup, Messages.advConfigTab_fileMappedBufferThresholdUnit, -1, SWT.LEFT, 1, 1);
+
+        etagsEnabledButton =
+            createButton(staticContentGroup, SWT.CHECK, Messages.advConfigTab_etagsEnabledButton,
+                Messages.advConfigTab_etagsEnabledButtonTip, 224, 3, 1, modifyDialogListener);
+    }
+
     private void createContextGroup(Composite tabComposite)
     {
         Group contextGroup = createGroup(tabComposite, Messages.advConfigTab_contextGroupTitle, 6, -1, true, 2, 1);
@@ -534,15 +837,41 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
             jndiSupportButton.setSelection(adapter.isJndiSupport());
             annotationsSupportButton.setSelection(adapter.isAnnotationsSupport());
             websocketSupportButton.setSelection(adapter.isWebsocketSupport());
+            http2SupportButton.setSelection(adapter.isHttp2Support());
             ajpSupportButton.setSelection(adapter.isAjpSupport());
             gracefulShutdownOverrideEnabledButton.setSelection(adapter.isGracefulShutdownOverrideEnabled());
             gracefulShutdownOverrideTimeoutSpinner.setSelection(adapter.getGracefulShutdownOverrideTimeout() / 100);
 
             threadPoolLimitEnabledButton.setSelection(adapter.isThreadPoolLimitEnabled());
             threadPoolLimitCountSpinner.setSelection(adapter.getThreadPoolLimitCount());
+
+            JettyThreadPoolType threadPoolType = adapter.getThreadPoolType();
+
+            threadPoolTypeQueuedButton.setSelection(threadPoolType == JettyThreadPoolType.QUEUED);
+            threadPoolTypeVirtualButton.setSelection(threadPoolType == JettyThreadPoolType.VIRTUAL);
+            threadPoolTypeReservedButton.setSelection(threadPoolType == JettyThreadPoolType.RESERVED);
+            threadPoolMinimumCountSpinner.setSelection(adapter.getThreadPoolMinimumCount());
+            threadPoolIdleTimeoutSpinner.setSelection(adapter.getThreadPoolIdleTimeout() / 1000);
+            reservedThreadsCountSpinner.setSelection(adapter.getThreadPoolReservedCount());
+
             acceptorLimitEnabledButton.setSelection(adapter.isAcceptorLimitEnabled());
             acceptorLimitCountSpinner.setSelection(adapter.getAcceptorLimitCount());
 
+            connectorTuningEnabledButton.setSelection(adapter.isConnectorTuningEnabled());
+            selectorsSpinner.setSelection(adapter.getConnectorSelectors());
+            acceptQueueSizeSpinner.setSelection(adapter.getConnectorAcceptQueueSize());
+            connectorIdleTimeoutSpinner.setSelection(adapter.getConnectorIdleTimeout() / 100);
+            outputBufferSizeSpinner.setSelection(adapter.getConnectorOutputBufferSize());
+            requestHeaderSizeSpinner.setSelection(adapter.getConnectorRequestHeaderSize());
+            headerCacheSizeSpinner.setSelection(adapter.getConnectorHeaderCacheSize());
+            reuseAddressButton.setSelection(adapter.isConnectorReuseAddress());
+
+            gzipEnabledButton.setSelection(adapter.isGzipEnabled());
+            gzipMinSizeSpinner.setSelection(adapter.getGzipMinSize());
+            gzipMimeTypesText.setText(adapter.getGzipMimeTypes());
+            gzipCompressionLevelSpinner.setSelection(adapter.getGzipCompressionLevel());
+            precompressedEnabledButton.setSelection(adapter.isPrecompressedEnabled());
+
             customWebDefaultsEnabledButton.setSelection(adapter.isCustomWebDefaultsEnabled());
             customWebDefaultsResourceText.setText(adapter.getCustomWebDefaultsResource());
 
@@ -550,11 +879,27 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
             clientCacheDisabledButton.setSelection(!adapter.isClientCacheEnabled());
             sniCheckDisabledButton.setSelection(!adapter.isSniCheckEnabled());
 
+            annotationsMultiThreadedButton.setSelection(adapter.isAnnotationsMultiThreaded());
+            annotationsMaxWaitSpinner.setSelection(adapter.getAnnotationsMaxWait());
+            containerIncludeJarPatternText.setText(adapter.getContainerIncludeJarPattern());
+            webInfIncludeJarPatternText.setText(adapter.getWebInfIncludeJarPattern());
+            webInfIncludeJarPatternDerivedButton.setSelection(adapter.isWebInfIncludeJarPatternDerived());
+            quickstartEnabledButton.setSelection(adapter.isQuickstartEnabled());
+
+            serverCacheLimitsEnabledButton.setSelection(adapter.isServerCacheLimitsEnabled());
+            serverCacheMaxSizeSpinner.setSelection(adapter.getServerCacheMaxSize());
+            serverCacheMaxFileSizeSpinner.setSelection(adapter.getServerCacheMaxFileSize());
+            serverCacheMaxFilesSpinner.setSelection(adapter.getServerCacheMaxFiles());
+            fileMappedBufferEnabledButton.setSelection(adapter.isFileMappedBufferEnabled());
+            fileMappedBufferThresholdSpinner.setSelection(adapter.getFileMappedBufferThreshold());
+            etagsEnabledButton.setSelection(adapter.isEtagsEnabled());
+
             updateTable(adapter, true);
             updateConfigButtonState();
 
             showLauncherInfoButton.setSelection(adapter.isShowLauncherInfo());
             consoleEnabledButton.setSelection(adapter.isConsoleEnabled());
+            statisticsEnabledButton.setSelection(adapter.isStatisticsEnabled());
         }
         catch (final CoreException e)
         {
@@ -612,17 +957,38 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
             adapter.setJndiSupport(jndiSupportButton.getSelection());
             adapter.setAnnotationsSupport(annotationsSupportButton.getSelection());
             adapter.setWebsocketSupport(websocketSupportButton.getSelection());
+            adapter.setHttp2Support(http2SupportButton.getSelection());
             adapter.setAjpSupport(ajpSupportButton.getSelection());
             adapter.setGracefulShutdownOverrideEnabled(gracefulShutdownOverrideEnabledButton.getSelection());
             adapter.setGracefulShutdownOverrideTimeout(gracefulShutdownOverrideTimeoutSpinner.getSelection() * 100);
 
             adapter.setThreadPoolLimitEnabled(threadPoolLimitEnabledButton.getSelection());
             adapter.setThreadPoolLimitCount(threadPoolLimitCountSpinner.getSelection());
+            adapter.setThreadPoolType(getThreadPoolType());
+            adapter.setThreadPoolMinimumCount(threadPoolMinimumCountSpinner.getSelection());
+            adapter.setThreadPoolIdleTimeout(threadPoolIdleTimeoutSpinner.getSelection() * 1000);
+            adapter.setThreadPoolReservedCount(reservedThreadsCountSpinner.getSelection());
             adapter.setAcceptorLimitEnabled(acceptorLimitEnabledButton.getSelection());
             adapter.setAcceptorLimitCount(acceptorLimitCountSpinner.getSelection());
 
+            adapter.setConnectorTuningEnabled(connectorTuningEnabledButton.getSelection());
+            adapter.setConnectorSelectors(selectorsSpinner.getSelection());
+            adapter.setConnectorAcceptQueueSize(acceptQueueSizeSpinner.getSelection());
+            adapter.setConnectorIdleTimeout(connectorIdleTimeoutSpinner.getSelection() * 100);
+            adapter.setConnectorOutputBufferSize(outputBufferSizeSpinner.getSelection());
+            adapter.setConnectorRequestHeaderSize(requestHeaderSizeSpinner.getSelection());
+            adapter.setConnectorHeaderCacheSize(headerCacheSizeSpinner.getSelection());
+            adapter.setConnectorReuseAddress(reuseAddressButton.getSelection());
+
+            adapter.setGzipEnabled(gzipEnabledButton.getSelection());
+            adapter.setGzipMinSize(gzipMinSizeSpinner.getSelection());
+            adapter.setGzipMimeTypes(gzipMimeTypesText.getText());
+            adapter.setGzipCompressionLevel(gzipCompressionLevelSpinner.getSelection());
+            adapter.setPrecompressedEnabled(precompressedEnabledButton.getSelection());
+
             adapter.setShowLauncherInfo(showLauncherInfoButton.getSelection());
             adapter.setConsoleEnabled(consoleEnabledButton.getSelection());
+            adapter.setStatisticsEnabled(statisticsEnabledButton.getSelection());
 
             adapter.setCustomWebDefaultsEnabled(customWebDefaultsEnabledButton.getSelection());
             adapter.setCustomWebDefaultsResource(customWebDefaultsResourceText.getText());
@@ -631,6 +997,21 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
             adapter.setClientCacheEnabled(!clientCacheDisabledButton.getSelection());
             adapter.setSniCheckEnabled(!sniCheckDisabledButton.getSelection());
 
+            adapter.setAnnotationsMultiThreaded(annotationsMultiThreadedButton.getSelection());
+            adapter.setAnnotationsMaxWait(annotationsMaxWaitSpinner.getSelection());
+            adapter.setContainerIncludeJarPattern(containerIncludeJarPatternText.getText());
+            adapter.setWebInfIncludeJarPattern(webInfIncludeJarPatternText.getText());
+            adapter.setWebInfIncludeJarPatternDerived(webInfIncludeJarPatternDerivedButton.getSelection());
+            adapter.setQuickstartEnabled(quickstartEnabledButton.getSelection());
+
+            adapter.setServerCacheLimitsEnabled(serverCacheLimitsEnabledButton.getSelection());
+            adapter.setServerCacheMaxSize(serverCacheMaxSizeSpinner.getSelection());
+            adapter.setServerCacheMaxFileSize(serverCacheMaxFileSizeSpinner.getSelection());
+            adapter.setServerCacheMaxFiles(serverCacheMaxFilesSpinner.getSelection());
+            adapter.setFileMappedBufferEnabled(fileMappedBufferEnabledButton.getSelection());
+            adapter.setFileMappedBufferThreshold(fileMappedBufferThresholdSpinner.getSelection());
+            adapter.setEtagsEnabled(etagsEnabledButton.getSelection());
+
             adapter.setConfigs(configEntryList.getConfigs());
 
             adapter.setClasspathProvider(JettyLaunchConfigurationAdapter.CLASSPATH_PROVIDER_JETTY);
@@ -656,8 +1037,9 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         setMessage(null);
 
         boolean jndi = jndiSupportButton.getSelection();
+        boolean quickstart = quickstartEnabledButton.getSelection();
 
-        if (jndi)
+        if ((jndi) || (quickstart))
         {
             annotationsSupportButton.setEnabled(false);
             annotationsSupportButton.setSelection(true);
@@ -667,6 +1049,13 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
             annotationsSupportButton.setEnabled(true);
         }
 
+        boolean annotations = annotationsSupportButton.getSelection();
+
+        annotationsMultiThreadedButton.setEnabled(annotations);
+        annotationsMaxWaitSpinner.setEnabled((annotations) && (annotationsMultiThreadedButton.getSelection()));
+        webInfIncludeJarPatternText.setEnabled(!webInfIncludeJarPatternDerivedButton.getSelection());
+        statisticsEnabledButton.setEnabled(consoleEnabledButton.getSelection());
+
         boolean embedded = embeddedButton.getSelection();
 
         pathText.setEnabled(!embedded);
@@ -676,6 +1065,7 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         boolean threadPoolLimitEnabled = threadPoolLimitEnabledButton.getSelection();
 
         threadPoolLimitCountSpinner.setEnabled(threadPoolLimitEnabled);
+        reservedThreadsCountSpinner.setEnabled(threadPoolTypeReservedButton.getSelection());
 
         boolean acceptorLimitEnabled = acceptorLimitEnabledButton.getSelection();
 
@@ -693,6 +1083,28 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
             }
         }
 
+        if ((threadPoolLimitEnabled)
+            && (threadPoolMinimumCountSpinner.getSelection() > threadPoolLimitCountSpinner.getSelection()))
+        {
+            threadPoolMinimumCountSpinner.setSelection(threadPoolLimitCountSpinner.getSelection());
+        }
+
+        boolean connectorTuningEnabled = connectorTuningEnabledButton.getSelection();
+
+        selectorsSpinner.setEnabled(connectorTuningEnabled);
+        acceptQueueSizeSpinner.setEnabled(connectorTuningEnabled);
+        connectorIdleTimeoutSpinner.setEnabled(connectorTuningEnabled);
+        outputBufferSizeSpinner.setEnabled(connectorTuningEnabled);
+        requestHeaderSizeSpinner.setEnabled(connectorTuningEnabled);
+        headerCacheSizeSpinner.setEnabled(connectorTuningEnabled);
+        reuseAddressButton.setEnabled(connectorTuningEnabled);
+
+        boolean gzipEnabled = gzipEnabledButton.getSelection();
+
+        gzipMinSizeSpinner.setEnabled(gzipEnabled);
+        gzipMimeTypesText.setEnabled(gzipEnabled);
+        gzipCompressionLevelSpinner.setEnabled(gzipEnabled);
+
         gracefulShutdownOverrideTimeoutSpinner.setEnabled(gracefulShutdownOverrideEnabledButton.getSelection());
 
         boolean customWebDefaultsEnabled = customWebDefaultsEnabledButton.getSelection();
@@ -703,6 +1115,21 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         customWebDefaultsWorkspaceButton.setEnabled(customWebDefaultsEnabled);
         serverCacheDisabledButton.setEnabled(!customWebDefaultsEnabled);
         clientCacheDisabledButton.setEnabled(!customWebDefaultsEnabled);
+        precompressedEnabledButton.setEnabled(!customWebDefaultsEnabled);
+
+        boolean serverCacheLimitsEnabled =
+            (!customWebDefaultsEnabled) && (!serverCacheDisabledButton.getSelection())
+                && (serverCacheLimitsEnabledButton.getSelection());
+
+        serverCacheLimitsEnabledButton.setEnabled((!customWebDefaultsEnabled)
+            && (!serverCacheDisabledButton.getSelection()));
+        serverCacheMaxSizeSpinner.setEnabled(serverCacheLimitsEnabled);
+        serverCacheMaxFileSizeSpinner.setEnabled(serverCacheLimitsEnabled);
+        serverCacheMaxFilesSpinner.setEnabled(serverCacheLimitsEnabled);
+        fileMappedBufferEnabledButton.setEnabled(!customWebDefaultsEnabled);
+        fileMappedBufferThresholdSpinner.setEnabled((!customWebDefaultsEnabled)
+            && (fileMappedBufferEnabledButton.getSelection()));
+        etagsEnabledButton.setEnabled(!customWebDefaultsEnabled);
 
         String jettyPath = null;
 
@@ -764,6 +1191,23 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
             }
         }
 
+        if (!isPatternValid(containerIncludeJarPatternText.getText()))
+        {
+            setErrorMessage(String.format(Messages.advConfigTab_includeJarPatternInvalid,
+                containerIncludeJarPatternText.getText()));
+
+            return false;
+        }
+
+        if ((!webInfIncludeJarPatternDerivedButton.getSelection())
+            && (!isPatternValid(webInfIncludeJarPatternText.getText())))
+        {
+            setErrorMessage(String.format(Messages.advConfigTab_includeJarPatternInvalid,
+                webInfIncludeJarPatternText.getText()));
+
+            return false;
+        }
+
         List<JettyConfig> contexts = configEntryList.getConfigs();
 
         for (JettyConfig context : contexts)
@@ -779,6 +1223,40 @@ public class JettyLaunchAdvancedConfigurationTab extends AbstractJettyLaunchConf
         return true;
     }
 
+    private static boolean isPatternValid(String pattern)
+    {
+        try
+        {
+            Pattern.compile(pattern.trim());
+        }
+        catch (PatternSyntaxException e)
+        {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the type of the thread pool, as selected by the radio buttons.
+     *
+     * @return the type of the thread pool
+     */
+    private JettyThreadPoolType getThreadPoolType()
+    {
+        if (threadPoolTypeVirtualButton.getSelection())
+        {
+            return JettyThreadPoolType.VIRTUAL;
+        }
+
+        if (threadPoolTypeReservedButton.getSelection())
+        {
+            return JettyThreadPoolType.RESERVED;
+        }
+
+        return JettyThreadPoolType.QUEUED;
+    }
+
     /**
      * Update the table with the Jetty configuration XML files
      *
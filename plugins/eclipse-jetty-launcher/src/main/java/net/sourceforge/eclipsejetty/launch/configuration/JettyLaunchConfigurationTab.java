@@ -73,6 +73,8 @@ public class JettyLaunchConfigurationTab extends AbstractJettyLaunchConfiguratio
     private Spinner portSpinner;
     private Spinner httpsPortSpinner;
     private Button httpsEnabledButton;
+    private Text unixDomainPathText;
+    private Button unixDomainEnabledButton;
     private Link httpLink;
     private Link httpsLink;
 
@@ -185,6 +187,14 @@ public class JettyLaunchConfigurationTab extends AbstractJettyLaunchConfiguratio
         httpsEnabledButton =
             createButton(serverGroup, SWT.CHECK, Messages.configTab_httpsEnableButton,
                 Messages.configTab_httpsEnableButtonTip, -1, 3, 1, modifyDialogListener);
+
+        createLabel(serverGroup, Messages.configTab_unixDomainPathLabel, 128, SWT.RIGHT, 1, 1);
+        unixDomainPathText =
+            createText(serverGroup, SWT.BORDER, Messages.configTab_unixDomainPathTextTip, -1, -1, 3, 1,
+                modifyDialogListener);
+        unixDomainEnabledButton =
+            createButton(serverGroup, SWT.CHECK, Messages.configTab_unixDomainEnableButton,
+                Messages.configTab_unixDomainEnableButtonTip, -1, 3, 1, modifyDialogListener);
     }
 
     private void createLinkGroup(Composite tabComposite)
@@ -277,6 +287,8 @@ public class JettyLaunchConfigurationTab extends AbstractJettyLaunchConfiguratio
             portSpinner.setSelection(adapter.getPort());
             httpsPortSpinner.setSelection(adapter.getHttpsPort());
             httpsEnabledButton.setSelection(adapter.isHttpsEnabled());
+            unixDomainPathText.setText(adapter.getUnixDomainPath());
+            unixDomainEnabledButton.setSelection(adapter.isUnixDomainEnabled());
         }
         catch (CoreException e)
         {
@@ -343,6 +355,8 @@ public class JettyLaunchConfigurationTab extends AbstractJettyLaunchConfiguratio
             adapter.setPort(portSpinner.getSelection());
             adapter.setHttpsPort(httpsPortSpinner.getSelection());
             adapter.setHttpsEnabled(httpsEnabledButton.getSelection());
+            adapter.setUnixDomainPath(unixDomainPathText.getText().trim());
+            adapter.setUnixDomainEnabled(unixDomainEnabledButton.getSelection());
             adapter.setClasspathProvider(JettyLaunchConfigurationAdapter.CLASSPATH_PROVIDER_JETTY);
         }
         catch (CoreException e)
@@ -366,6 +380,7 @@ public class JettyLaunchConfigurationTab extends AbstractJettyLaunchConfiguratio
         httpsLink.setText(JettyPluginUtils.EMPTY);
 
         httpsPortSpinner.setEnabled(httpsEnabledButton.getSelection());
+        unixDomainPathText.setEnabled(unixDomainEnabledButton.getSelection());
 
         String projectName = projectText.getText().trim();
         IProject project = JettyPluginUtils.getProject(projectName);
@@ -427,6 +442,12 @@ public class JettyLaunchConfigurationTab extends AbstractJettyLaunchConfiguratio
             }
         }
 
+        if ((unixDomainEnabledButton.getSelection()) && (unixDomainPathText.getText().trim().length() == 0))
+        {
+            setErrorMessage(Messages.configTab_unixDomainPathMissing);
+            return false;
+        }
+
         String httpURL = getHTTPURL();
 
         if (httpURL != null)
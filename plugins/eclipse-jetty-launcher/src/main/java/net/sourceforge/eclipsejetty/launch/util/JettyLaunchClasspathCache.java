@@ -0,0 +1,487 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.launch.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import net.sourceforge.eclipsejetty.JettyPlugin;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.osgi.framework.Bundle;
+
+/**
+ * Persistent cache for resolved classpaths. The entries are stored in the state location of the plugin and are keyed
+ * by a hash of the attributes of the launch configuration, the version and location of the plugin, the Jetty
+ * installation and the timestamps of the pom.xml and .classpath files of the involved projects. The cache gets
+ * invalidated by resource change events of the workspace, whenever one of these files changes.
+ *
+ * @author Manfred Hantschel
+ */
+public class JettyLaunchClasspathCache implements IResourceChangeListener
+{
+
+    private static final String CACHE_FOLDER = "classpathCache"; //$NON-NLS-1$
+    private static final String CACHE_SUFFIX = ".properties"; //$NON-NLS-1$
+    private static final Charset UTF_8 = Charset.forName("UTF-8"); //$NON-NLS-1$
+
+    private static final String[] RELEVANT_FILES = {"pom.xml", ".classpath", ".project"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    private static JettyLaunchClasspathCache instance;
+
+    private final File folder;
+    private final Map<String, Properties> entries = new HashMap<String, Properties>();
+
+    private int generation = 0;
+
+    /**
+     * Returns the instance of the cache, creates it if necessary.
+     *
+     * @return the instance
+     */
+    public static synchronized JettyLaunchClasspathCache getInstance()
+    {
+        if (instance == null)
+        {
+            instance = new JettyLaunchClasspathCache(JettyPlugin.getDefault().getStateLocation().append(CACHE_FOLDER)
+                .toFile());
+        }
+
+        return instance;
+    }
+
+    /**
+     * Creates the cache using the specified folder
+     *
+     * @param folder the folder for the persisted entries
+     */
+    protected JettyLaunchClasspathCache(File folder)
+    {
+        super();
+
+        this.folder = folder;
+    }
+
+    /**
+     * Returns the generation of the cache. The generation increases each time the cache gets invalidated.
+     *
+     * @return the generation
+     */
+    public synchronized int getGeneration()
+    {
+        return generation;
+    }
+
+    /**
+     * Returns the cached classpath for the specified key, null if not available.
+     *
+     * @param adapter the configuration adapter
+     * @param key the key
+     * @return the classpath, null if not cached
+     */
+    public String[] get(JettyLaunchConfigurationAdapter adapter, String key)
+    {
+        String hash = computeHash(adapter);
+
+        if (hash == null)
+        {
+            return null;
+        }
+
+        Properties properties = load(hash);
+        String count = properties.getProperty(key + ".count"); //$NON-NLS-1$
+
+        if (count == null)
+        {
+            return null;
+        }
+
+        String[] result = new String[Integer.parseInt(count)];
+
+        for (int i = 0; i < result.length; i += 1)
+        {
+            result[i] = properties.getProperty(key + "." + i); //$NON-NLS-1$
+
+            if (result[i] == null)
+            {
+                return null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the cached classpath for the specified key, null if not available or if one of the entries does not
+     * exist anymore (e.g. a jar of the local repository has been removed).
+     *
+     * @param adapter the configuration adapter
+     * @param key the key
+     * @return the classpath, null if not cached
+     */
+    public String[] getClasspath(JettyLaunchConfigurationAdapter adapter, String key)
+    {
+        String[] result = get(adapter, key);
+
+        if (result == null)
+        {
+            return null;
+        }
+
+        for (String entry : result)
+        {
+            if (!new File(entry).exists())
+            {
+                return null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores the classpath for the specified key.
+     *
+     * @param adapter the configuration adapter
+     * @param key the key
+     * @param classpath the classpath
+     */
+    public void put(JettyLaunchConfigurationAdapter adapter, String key, String[] classpath)
+    {
+        String hash = computeHash(adapter);
+
+        if (hash == null)
+        {
+            return;
+        }
+
+        synchronized (this)
+        {
+            Properties properties = load(hash);
+
+            properties.setProperty(key + ".count", String.valueOf(classpath.length)); //$NON-NLS-1$
+
+            for (int i = 0; i < classpath.length; i += 1)
+            {
+                properties.setProperty(key + "." + i, classpath[i]); //$NON-NLS-1$
+            }
+
+            store(hash, properties);
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void invalidate()
+    {
+        generation += 1;
+        entries.clear();
+
+        File[] files = folder.listFiles();
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                if (file.getName().endsWith(CACHE_SUFFIX))
+                {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.eclipse.core.resources.IResourceChangeListener#resourceChanged(org.eclipse.core.resources.IResourceChangeEvent)
+     */
+    public void resourceChanged(IResourceChangeEvent event)
+    {
+        IResourceDelta delta = event.getDelta();
+
+        if (delta == null)
+        {
+            return;
+        }
+
+        final boolean[] relevant = {false};
+
+        try
+        {
+            delta.accept(new IResourceDeltaVisitor()
+            {
+                public boolean visit(IResourceDelta delta) throws CoreException
+                {
+                    if (relevant[0])
+                    {
+                        return false;
+                    }
+
+                    IResource resource = delta.getResource();
+
+                    switch (resource.getType())
+                    {
+                        case IResource.PROJECT:
+                            if ((delta.getKind() != IResourceDelta.CHANGED)
+                                || ((delta.getFlags() & IResourceDelta.OPEN) != 0))
+                            {
+                                relevant[0] = true;
+
+                                return false;
+                            }
+
+                            return true;
+
+                        case IResource.FILE:
+                            if (isRelevantFile(resource.getName()))
+                            {
+                                relevant[0] = true;
+                            }
+
+                            return false;
+
+                        default:
+                            // the relevant files are located in the root of the project
+                            return resource.getType() == IResource.ROOT;
+                    }
+                }
+            });
+        }
+        catch (CoreException e)
+        {
+            JettyPlugin.warning("Failed to process resource delta", e); //$NON-NLS-1$
+
+            relevant[0] = true;
+        }
+
+        if (relevant[0])
+        {
+            invalidate();
+        }
+    }
+
+    /**
+     * Computes the hash of the configuration attributes, the plugin, the Jetty installation and the timestamps of the
+     * relevant files.
+     *
+     * @param adapter the configuration adapter
+     * @return the hash, null if it could not be computed
+     */
+    protected String computeHash(JettyLaunchConfigurationAdapter adapter)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+            ILaunchConfiguration configuration = adapter.getConfiguration();
+
+            digest.update(configuration.getName().getBytes(UTF_8));
+
+            for (Map.Entry<String, Object> entry : new TreeMap<String, Object>(configuration.getAttributes())
+                .entrySet())
+            {
+                digest.update(entry.getKey().getBytes(UTF_8));
+                digest.update(normalize(entry.getValue()).getBytes(UTF_8));
+            }
+
+            // the classpath contains jars of the plugin, their location changes with each update
+            Bundle bundle = JettyPlugin.getDefault().getBundle();
+
+            digest.update((bundle.getVersion() + "@" + bundle.getLocation() + "=" + bundle.getLastModified()) //$NON-NLS-1$ //$NON-NLS-2$
+                .getBytes(UTF_8));
+
+            // the classpath contains the jars of the Jetty installation, the folder changes with an upgrade
+            File jettyPath = adapter.getPath();
+
+            if (jettyPath != null)
+            {
+                digest.update((jettyPath.getAbsolutePath() + "=" + jettyPath.lastModified()).getBytes(UTF_8)); //$NON-NLS-1$
+            }
+
+            IProject project = adapter.getProject();
+
+            if (project != null)
+            {
+                Collection<String> projectNames = new TreeSet<String>();
+
+                projectNames.add(project.getName());
+
+                IJavaProject javaProject = JavaCore.create(project);
+
+                if ((javaProject != null) && (javaProject.exists()))
+                {
+                    for (String projectName : javaProject.getRequiredProjectNames())
+                    {
+                        projectNames.add(projectName);
+                    }
+                }
+
+                for (String projectName : projectNames)
+                {
+                    IProject currentProject = project.getWorkspace().getRoot().getProject(projectName);
+
+                    for (String name : RELEVANT_FILES)
+                    {
+                        IFile file = currentProject.getFile(name);
+
+                        digest.update((projectName + "/" + name + "=" + file.getLocalTimeStamp()).getBytes(UTF_8)); //$NON-NLS-1$ //$NON-NLS-2$
+                    }
+                }
+            }
+
+            StringBuilder builder = new StringBuilder();
+
+            for (byte b : digest.digest())
+            {
+                builder.append(String.format("%02x", b & 0xff)); //$NON-NLS-1$
+            }
+
+            return builder.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            JettyPlugin.warning("Failed to compute hash of launch configuration", e); //$NON-NLS-1$
+        }
+        catch (CoreException e)
+        {
+            JettyPlugin.warning("Failed to compute hash of launch configuration", e); //$NON-NLS-1$
+        }
+
+        return null;
+    }
+
+    private static String normalize(Object value)
+    {
+        if (value instanceof Map<?, ?>)
+        {
+            return String.valueOf(new TreeMap<Object, Object>((Map<?, ?>) value));
+        }
+
+        if ((value instanceof Set<?>) && (!(value instanceof SortedSet<?>)))
+        {
+            return String.valueOf(new TreeSet<Object>((Set<?>) value));
+        }
+
+        return String.valueOf(value);
+    }
+
+    private static boolean isRelevantFile(String name)
+    {
+        for (String relevantFile : RELEVANT_FILES)
+        {
+            if (relevantFile.equals(name))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private synchronized Properties load(String hash)
+    {
+        Properties properties = entries.get(hash);
+
+        if (properties != null)
+        {
+            return properties;
+        }
+
+        properties = new Properties();
+
+        File file = new File(folder, hash + CACHE_SUFFIX);
+
+        if (file.exists())
+        {
+            try
+            {
+                InputStream in = new FileInputStream(file);
+
+                try
+                {
+                    properties.load(in);
+                }
+                finally
+                {
+                    in.close();
+                }
+            }
+            catch (IOException e)
+            {
+                JettyPlugin.warning(String.format("Failed to read classpath cache %s", file), e); //$NON-NLS-1$
+
+                properties = new Properties();
+            }
+        }
+
+        entries.put(hash, properties);
+
+        return properties;
+    }
+
+    private void store(String hash, Properties properties)
+    {
+        if ((!folder.exists()) && (!folder.mkdirs()))
+        {
+            JettyPlugin.warning(String.format("Failed to create classpath cache folder %s", folder)); //$NON-NLS-1$
+
+            return;
+        }
+
+        File file = new File(folder, hash + CACHE_SUFFIX);
+
+        try
+        {
+            OutputStream out = new FileOutputStream(file);
+
+            try
+            {
+                properties.store(out, null);
+            }
+            finally
+            {
+                out.close();
+            }
+        }
+        catch (IOException e)
+        {
+            JettyPlugin.warning(String.format("Failed to write classpath cache %s", file), e); //$NON-NLS-1$
+        }
+    }
+
+}
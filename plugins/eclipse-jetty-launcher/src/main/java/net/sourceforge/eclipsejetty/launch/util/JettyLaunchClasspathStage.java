@@ -0,0 +1,148 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.launch.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import net.sourceforge.eclipsejetty.JettyPlugin;
+
+/**
+ * The stages of the classpath pipeline of the {@link JettyLaunchConfigurationDelegate}. Each stage declares the
+ * launch configuration attributes it reads and the stage it depends on. A cached result of a stage stays valid as
+ * long as the attributes read by the stage and by all its upstream stages remain unchanged.
+ *
+ * @author Manfred Hantschel
+ */
+public enum JettyLaunchClasspathStage
+{
+
+    /**
+     * The resolved runtime classpath of the project including the Maven scopes. Reads all attributes, that do not
+     * belong to the Jetty plugin, e.g. the project and the classpath settings of JDT.
+     */
+    ORIGINAL_CLASSPATH_ENTRIES(null, true),
+
+    /**
+     * The locations of the {@link #ORIGINAL_CLASSPATH_ENTRIES}.
+     */
+    ORIGINAL_CLASSPATH(ORIGINAL_CLASSPATH_ENTRIES, false),
+
+    /**
+     * The classpath of the webapp, filtered by scopes and excluded/included dependencies.
+     */
+    WEBAPP_CLASSPATH_ENTRIES(ORIGINAL_CLASSPATH_ENTRIES, false,
+        JettyLaunchConfigurationAdapter.WEBAPP_CLASSPATH_ATTRIBUTES),
+
+    /**
+     * The locations of the {@link #WEBAPP_CLASSPATH_ENTRIES}.
+     */
+    WEBAPP_CLASSPATH(WEBAPP_CLASSPATH_ENTRIES, false),
+
+    /**
+     * The classpath of the webapp without the global dependencies.
+     */
+    LOCAL_WEBAPP_CLASSPATH_ENTRIES(WEBAPP_CLASSPATH_ENTRIES, false,
+        JettyLaunchConfigurationAdapter.GLOBAL_CLASSPATH_ATTRIBUTES),
+
+    /**
+     * The locations of the {@link #LOCAL_WEBAPP_CLASSPATH_ENTRIES}.
+     */
+    LOCAL_WEBAPP_CLASSPATH(LOCAL_WEBAPP_CLASSPATH_ENTRIES, false),
+
+    /**
+     * The global dependencies of the webapp.
+     */
+    GLOBAL_WEBAPP_CLASSPATH_ENTRIES(WEBAPP_CLASSPATH_ENTRIES, false,
+        JettyLaunchConfigurationAdapter.GLOBAL_CLASSPATH_ATTRIBUTES),
+
+    /**
+     * The locations of the {@link #GLOBAL_WEBAPP_CLASSPATH_ENTRIES}.
+     */
+    GLOBAL_WEBAPP_CLASSPATH(GLOBAL_WEBAPP_CLASSPATH_ENTRIES, false),
+
+    /**
+     * The classpath of the launched VM: Jetty, the starters and the global dependencies.
+     */
+    CLASSPATH(GLOBAL_WEBAPP_CLASSPATH_ENTRIES, false, JettyLaunchConfigurationAdapter.JETTY_CLASSPATH_ATTRIBUTES);
+
+    private static final String PLUGIN_ATTRIBUTE_PREFIX = JettyPlugin.PLUGIN_ID + "."; //$NON-NLS-1$
+
+    private final JettyLaunchClasspathStage upstream;
+    private final boolean foreignAttributesRead;
+    private final Collection<String> attributeNames;
+
+    private JettyLaunchClasspathStage(JettyLaunchClasspathStage upstream, boolean foreignAttributesRead,
+        String... attributeNames)
+    {
+        this.upstream = upstream;
+        this.foreignAttributesRead = foreignAttributesRead;
+        this.attributeNames = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(attributeNames)));
+    }
+
+    /**
+     * Returns the stage, this stage depends on.
+     *
+     * @return the upstream stage, null if none
+     */
+    public JettyLaunchClasspathStage getUpstream()
+    {
+        return upstream;
+    }
+
+    /**
+     * Returns true if the stage itself or one of its upstream stages reads the attribute.
+     *
+     * @param attributeName the name of the attribute
+     * @return true if read
+     */
+    public boolean isRead(String attributeName)
+    {
+        if ((foreignAttributesRead) && (!attributeName.startsWith(PLUGIN_ATTRIBUTE_PREFIX)))
+        {
+            return true;
+        }
+
+        if (attributeNames.contains(attributeName))
+        {
+            return true;
+        }
+
+        return (upstream != null) && (upstream.isRead(attributeName));
+    }
+
+    /**
+     * Returns a copy of those attributes, that are read by the stage (including the upstream stages).
+     *
+     * @param attributes all attributes of the configuration
+     * @return the attributes read by the stage
+     */
+    public Map<String, Object> select(Map<String, Object> attributes)
+    {
+        Map<String, Object> result = new HashMap<String, Object>();
+
+        for (Map.Entry<String, Object> entry : attributes.entrySet())
+        {
+            if (isRead(entry.getKey()))
+            {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return result;
+    }
+
+}
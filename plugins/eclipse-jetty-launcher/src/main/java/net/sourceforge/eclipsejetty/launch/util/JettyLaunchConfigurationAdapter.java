@@ -22,6 +22,7 @@ import net.sourceforge.eclipsejetty.JettyPluginUtils;
 import net.sourceforge.eclipsejetty.Messages;
 import net.sourceforge.eclipsejetty.jetty.JettyConfig;
 import net.sourceforge.eclipsejetty.jetty.JettyConfigType;
+import net.sourceforge.eclipsejetty.jetty.JettyThreadPoolType;
 import net.sourceforge.eclipsejetty.jetty.JettyVersion;
 import net.sourceforge.eclipsejetty.jetty.JettyVersionType;
 
@@ -30,6 +31,7 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
@@ -56,6 +58,8 @@ public class JettyLaunchConfigurationAdapter
     private static final String ATTR_PORT = JettyPlugin.PLUGIN_ID + ".port"; //$NON-NLS-1$
     private static final String ATTR_HTTPS_PORT = JettyPlugin.PLUGIN_ID + ".httpsPort"; //$NON-NLS-1$
     private static final String ATTR_HTTPS_ENABLED = JettyPlugin.PLUGIN_ID + ".httpsEnabled"; //$NON-NLS-1$
+    private static final String ATTR_UNIX_DOMAIN_ENABLED = JettyPlugin.PLUGIN_ID + ".unixDomain.enabled"; //$NON-NLS-1$
+    private static final String ATTR_UNIX_DOMAIN_PATH = JettyPlugin.PLUGIN_ID + ".unixDomain.path"; //$NON-NLS-1$
     private static final String ATTR_JETTY_PATH = JettyPlugin.PLUGIN_ID + ".jetty.path"; //$NON-NLS-1$
     private static final String ATTR_JETTY_EMBEDDED = JettyPlugin.PLUGIN_ID + ".jetty.embedded"; //$NON-NLS-1$
     private static final String ATTR_JETTY_VERSION = JettyPlugin.PLUGIN_ID + ".jetty.version"; //$NON-NLS-1$
@@ -66,21 +70,63 @@ public class JettyLaunchConfigurationAdapter
     private static final String ATTR_JETTY_CONFIG_TYPE = JettyPlugin.PLUGIN_ID + ".jetty.config.type."; //$NON-NLS-1$
     private static final String ATTR_JETTY_CONFIG_ACTIVE = JettyPlugin.PLUGIN_ID + ".jetty.config.active."; //$NON-NLS-1$
     private static final String ATTR_ANNOTATIONS_ENABLED = JettyPlugin.PLUGIN_ID + ".annotations.enabled"; //$NON-NLS-1$
+    private static final String ATTR_ANNOTATIONS_MULTI_THREADED = JettyPlugin.PLUGIN_ID
+        + ".annotations.multiThreaded"; //$NON-NLS-1$
+    private static final String ATTR_ANNOTATIONS_MAX_WAIT = JettyPlugin.PLUGIN_ID + ".annotations.maxWait"; //$NON-NLS-1$
+    private static final String ATTR_CONTAINER_INCLUDE_JAR_PATTERN = JettyPlugin.PLUGIN_ID
+        + ".annotations.containerIncludeJarPattern"; //$NON-NLS-1$
+    private static final String ATTR_WEB_INF_INCLUDE_JAR_PATTERN = JettyPlugin.PLUGIN_ID
+        + ".annotations.webInfIncludeJarPattern"; //$NON-NLS-1$
+    private static final String ATTR_WEB_INF_INCLUDE_JAR_PATTERN_DERIVED = JettyPlugin.PLUGIN_ID
+        + ".annotations.webInfIncludeJarPattern.derived"; //$NON-NLS-1$
+    private static final String ATTR_QUICKSTART_ENABLED = JettyPlugin.PLUGIN_ID + ".quickstart.enabled"; //$NON-NLS-1$
     private static final String ATTR_JSP_ENABLED = JettyPlugin.PLUGIN_ID + ".jsp.enabled"; //$NON-NLS-1$
     private static final String ATTR_JMX_ENABLED = JettyPlugin.PLUGIN_ID + ".jmx.enabled"; //$NON-NLS-1$
     private static final String ATTR_JNDI_ENABLED = JettyPlugin.PLUGIN_ID + ".jndi.enabled"; //$NON-NLS-1$
     private static final String ATTR_AJP_ENABLED = JettyPlugin.PLUGIN_ID + ".ajp.enabled"; //$NON-NLS-1$
     private static final String ATTR_WEBSOCKET_ENABLED = JettyPlugin.PLUGIN_ID + ".websocket.enabled"; //$NON-NLS-1$
+    private static final String ATTR_HTTP2_ENABLED = JettyPlugin.PLUGIN_ID + ".http2.enabled"; //$NON-NLS-1$
     private static final String ATTR_THREAD_POOL_LIMIT_ENABLED = JettyPlugin.PLUGIN_ID + ".threadPool.limit.enabled"; //$NON-NLS-1$
     private static final String ATTR_THREAD_POOL_LIMIT_COUNT = JettyPlugin.PLUGIN_ID + ".threadPool.limit.count"; //$NON-NLS-1$
+    private static final String ATTR_THREAD_POOL_TYPE = JettyPlugin.PLUGIN_ID + ".threadPool.type"; //$NON-NLS-1$
+    private static final String ATTR_THREAD_POOL_MINIMUM_COUNT = JettyPlugin.PLUGIN_ID + ".threadPool.minimum.count"; //$NON-NLS-1$
+    private static final String ATTR_THREAD_POOL_IDLE_TIMEOUT = JettyPlugin.PLUGIN_ID + ".threadPool.idleTimeout"; //$NON-NLS-1$
+    private static final String ATTR_THREAD_POOL_RESERVED_COUNT = JettyPlugin.PLUGIN_ID + ".threadPool.reserved.count"; //$NON-NLS-1$
     private static final String ATTR_ACCEPTOR_LIMIT_ENABLED = JettyPlugin.PLUGIN_ID + ".acceptor.limit.enabled"; //$NON-NLS-1$
     private static final String ATTR_ACCEPTOR_LIMIT_COUNT = JettyPlugin.PLUGIN_ID + ".acceptor.limit.count"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_TUNING_ENABLED = JettyPlugin.PLUGIN_ID + ".connector.tuning.enabled"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_SELECTORS = JettyPlugin.PLUGIN_ID + ".connector.selectors"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_ACCEPT_QUEUE_SIZE = JettyPlugin.PLUGIN_ID + ".connector.acceptQueueSize"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_REUSE_ADDRESS = JettyPlugin.PLUGIN_ID + ".connector.reuseAddress"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_IDLE_TIMEOUT = JettyPlugin.PLUGIN_ID + ".connector.idleTimeout"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_OUTPUT_BUFFER_SIZE = JettyPlugin.PLUGIN_ID
+        + ".connector.outputBufferSize"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_REQUEST_HEADER_SIZE = JettyPlugin.PLUGIN_ID
+        + ".connector.requestHeaderSize"; //$NON-NLS-1$
+    private static final String ATTR_CONNECTOR_HEADER_CACHE_SIZE = JettyPlugin.PLUGIN_ID
+        + ".connector.headerCacheSize"; //$NON-NLS-1$
+    private static final String ATTR_GZIP_ENABLED = JettyPlugin.PLUGIN_ID + ".gzip.enabled"; //$NON-NLS-1$
+    private static final String ATTR_GZIP_MIN_SIZE = JettyPlugin.PLUGIN_ID + ".gzip.minSize"; //$NON-NLS-1$
+    private static final String ATTR_GZIP_MIME_TYPES = JettyPlugin.PLUGIN_ID + ".gzip.mimeTypes"; //$NON-NLS-1$
+    private static final String ATTR_GZIP_COMPRESSION_LEVEL = JettyPlugin.PLUGIN_ID + ".gzip.compressionLevel"; //$NON-NLS-1$
+    private static final String ATTR_PRECOMPRESSED_ENABLED = JettyPlugin.PLUGIN_ID + ".precompressed.enabled"; //$NON-NLS-1$
     private static final String ATTR_GRACEFUL_SHUTDOWN_OVERRIDE_ENABLED = JettyPlugin.PLUGIN_ID
         + ".gracefulShutdown.override.enabled"; //$NON-NLS-1$
     private static final String ATTR_GRACEFUL_SHUTDOWN_OVERRIDE_TIMEOUT = JettyPlugin.PLUGIN_ID
         + ".gracefulShutdown.override.timeout"; //$NON-NLS-1$
     private static final String ATTR_SERVER_CACHE_ENABLED = JettyPlugin.PLUGIN_ID + ".cache.server.enabled"; //$NON-NLS-1$
+    private static final String ATTR_SERVER_CACHE_LIMITS_ENABLED = JettyPlugin.PLUGIN_ID
+        + ".cache.server.limits.enabled"; //$NON-NLS-1$
+    private static final String ATTR_SERVER_CACHE_MAX_SIZE = JettyPlugin.PLUGIN_ID + ".cache.server.maxSize"; //$NON-NLS-1$
+    private static final String ATTR_SERVER_CACHE_MAX_FILE_SIZE = JettyPlugin.PLUGIN_ID
+        + ".cache.server.maxFileSize"; //$NON-NLS-1$
+    private static final String ATTR_SERVER_CACHE_MAX_FILES = JettyPlugin.PLUGIN_ID + ".cache.server.maxFiles"; //$NON-NLS-1$
     private static final String ATTR_CLIENT_CACHE_ENABLED = JettyPlugin.PLUGIN_ID + ".cache.client.enabled"; //$NON-NLS-1$
+    private static final String ATTR_FILE_MAPPED_BUFFER_ENABLED = JettyPlugin.PLUGIN_ID
+        + ".fileMappedBuffer.enabled"; //$NON-NLS-1$
+    private static final String ATTR_FILE_MAPPED_BUFFER_THRESHOLD = JettyPlugin.PLUGIN_ID
+        + ".fileMappedBuffer.threshold"; //$NON-NLS-1$
+    private static final String ATTR_ETAGS_ENABLED = JettyPlugin.PLUGIN_ID + ".etags.enabled"; //$NON-NLS-1$
     private static final String ATTR_SNI_CHECK_ENABLED = JettyPlugin.PLUGIN_ID + ".security.sniCheck.enabled"; //$NON-NLS-1$
     private static final String ATTR_CUSTOM_WEB_DEFAULTS_ENABLED = JettyPlugin.PLUGIN_ID + ".customWebDefaults.enabled"; //$NON-NLS-1$
     private static final String ATTR_CUSTOM_WEB_DEFAULTS_RESOURCE = JettyPlugin.PLUGIN_ID
@@ -112,6 +158,30 @@ public class JettyLaunchConfigurationAdapter
     private static final String ATTR_GLOBAL_GENERIC_IDS = JettyPlugin.PLUGIN_ID + ".launcher.globalGenericIds"; //$NON-NLS-1$
     private static final String ATTR_SHOW_LAUNCHER_INFO = JettyPlugin.PLUGIN_ID + ".launcher.info"; //$NON-NLS-1$
     private static final String ATTR_CONSOLE_ENABLED = JettyPlugin.PLUGIN_ID + ".console.enabled"; //$NON-NLS-1$
+    private static final String ATTR_STATISTICS_ENABLED = JettyPlugin.PLUGIN_ID + ".statistics.enabled"; //$NON-NLS-1$
+
+    /**
+     * The attributes read by the matchers, that filter the webapp classpath.
+     */
+    @SuppressWarnings("deprecation")
+    static final String[] WEBAPP_CLASSPATH_ATTRIBUTES = {ATTR_CONFIG_VERSION, ATTR_EXCLUDE_SCOPE_COMPILE,
+        ATTR_EXCLUDE_SCOPE_PROVIDED, ATTR_EXCLUDE_SCOPE_RUNTIME, ATTR_EXCLUDE_SCOPE_TEST, ATTR_EXCLUDE_SCOPE_SYSTEM,
+        ATTR_EXCLUDE_SCOPE_IMPORT, ATTR_EXCLUDE_SCOPE_NONE, ATTR_EXCLUDED_LIBS, ATTR_INCLUDED_LIBS,
+        ATTR_EXCLUDED_GENERIC_IDS, ATTR_INCLUDED_GENERIC_IDS};
+
+    /**
+     * The attributes read by the matchers, that separate the global from the local webapp classpath.
+     */
+    @SuppressWarnings("deprecation")
+    static final String[] GLOBAL_CLASSPATH_ATTRIBUTES = {ATTR_CONFIG_VERSION, ATTR_GLOBAL_LIBS, ATTR_GLOBAL_GENERIC_IDS};
+
+    /**
+     * The attributes read when collecting the libraries of Jetty.
+     */
+    static final String[] JETTY_CLASSPATH_ATTRIBUTES = {ATTR_JETTY_PATH, ATTR_JETTY_EMBEDDED, ATTR_JETTY_VERSION,
+        ATTR_JETTY_MAJOR_VERSION, ATTR_JETTY_MINOR_VERSION, ATTR_JETTY_MICRO_VERSION, ATTR_ANNOTATIONS_ENABLED,
+        ATTR_JSP_ENABLED, ATTR_JMX_ENABLED, ATTR_JNDI_ENABLED, ATTR_AJP_ENABLED, ATTR_WEBSOCKET_ENABLED,
+        ATTR_HTTP2_ENABLED, ATTR_UNIX_DOMAIN_ENABLED, ATTR_QUICKSTART_ENABLED, ATTR_CONSOLE_ENABLED};
 
     /**
      * Creates an readable configuration adapter.
@@ -238,6 +308,8 @@ public class JettyLaunchConfigurationAdapter
         setPort(getPort());
         setHttpsPort(getHttpsPort());
         setHttpsEnabled(isHttpsEnabled());
+        setUnixDomainEnabled(isUnixDomainEnabled());
+        setUnixDomainPath(getUnixDomainPath());
 
         boolean embedded = isEmbedded();
 
@@ -265,20 +337,52 @@ public class JettyLaunchConfigurationAdapter
         setJmxSupport(isJmxSupport());
         setJndiSupport(isJndiSupport());
         setAjpSupport(isAjpSupport());
+        setHttp2Support(isHttp2Support());
+        setAnnotationsMultiThreaded(isAnnotationsMultiThreaded());
+        setAnnotationsMaxWait(getAnnotationsMaxWait());
+        setContainerIncludeJarPattern(getContainerIncludeJarPattern());
+        setWebInfIncludeJarPattern(getWebInfIncludeJarPattern());
+        setWebInfIncludeJarPatternDerived(isWebInfIncludeJarPatternDerived());
+        setQuickstartEnabled(isQuickstartEnabled());
 
         setThreadPoolLimitEnabled(isThreadPoolLimitEnabled());
         setThreadPoolLimitCount(getThreadPoolLimitCount());
+        setThreadPoolType(getThreadPoolType());
+        setThreadPoolMinimumCount(getThreadPoolMinimumCount());
+        setThreadPoolIdleTimeout(getThreadPoolIdleTimeout());
+        setThreadPoolReservedCount(getThreadPoolReservedCount());
         setAcceptorLimitEnabled(isAcceptorLimitEnabled());
         setAcceptorLimitCount(getAcceptorLimitCount());
+        setConnectorTuningEnabled(isConnectorTuningEnabled());
+        setConnectorSelectors(getConnectorSelectors());
+        setConnectorAcceptQueueSize(getConnectorAcceptQueueSize());
+        setConnectorReuseAddress(isConnectorReuseAddress());
+        setConnectorIdleTimeout(getConnectorIdleTimeout());
+        setConnectorOutputBufferSize(getConnectorOutputBufferSize());
+        setConnectorRequestHeaderSize(getConnectorRequestHeaderSize());
+        setConnectorHeaderCacheSize(getConnectorHeaderCacheSize());
+        setGzipEnabled(isGzipEnabled());
+        setGzipMinSize(getGzipMinSize());
+        setGzipMimeTypes(getGzipMimeTypes());
+        setGzipCompressionLevel(getGzipCompressionLevel());
+        setPrecompressedEnabled(isPrecompressedEnabled());
         setGracefulShutdownOverrideEnabled(isGracefulShutdownOverrideEnabled());
         setGracefulShutdownOverrideTimeout(getGracefulShutdownOverrideTimeout());
 
         setServerCacheEnabled(isServerCacheEnabled());
+        setServerCacheLimitsEnabled(isServerCacheLimitsEnabled());
+        setServerCacheMaxSize(getServerCacheMaxSize());
+        setServerCacheMaxFileSize(getServerCacheMaxFileSize());
+        setServerCacheMaxFiles(getServerCacheMaxFiles());
         setClientCacheEnabled(isClientCacheEnabled());
+        setFileMappedBufferEnabled(isFileMappedBufferEnabled());
+        setFileMappedBufferThreshold(getFileMappedBufferThreshold());
+        setEtagsEnabled(isEtagsEnabled());
         setSniCheckEnabled(isSniCheckEnabled());
 
         setShowLauncherInfo(isShowLauncherInfo());
         setConsoleEnabled(isConsoleEnabled());
+        setStatisticsEnabled(isStatisticsEnabled());
 
         setCustomWebDefaultsEnabled(isCustomWebDefaultsEnabled());
         setCustomWebDefaultsResource(getCustomWebDefaultsResource());
@@ -508,6 +612,60 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_HTTPS_ENABLED, httpsEnabled);
     }
 
+    /**
+     * Returns true if the Unix-domain socket connector is enabled. Needs Jetty 10 or better.
+     *
+     * @return true if enabled
+     * @throws CoreException on occasion
+     */
+    public boolean isUnixDomainEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_UNIX_DOMAIN_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if the Unix-domain socket connector is enabled.
+     *
+     * @param unixDomainEnabled true if enabled
+     * @throws CoreException on occasion
+     */
+    public void setUnixDomainEnabled(boolean unixDomainEnabled) throws CoreException
+    {
+        setAttribute(true, ATTR_UNIX_DOMAIN_ENABLED, unixDomainEnabled);
+    }
+
+    /**
+     * Returns the path of the Unix-domain socket. May contain variables. Defaults to a socket in the temp folder named
+     * after the configuration, thus each configuration uses its own socket.
+     *
+     * @return the path
+     * @throws CoreException on occasion
+     */
+    public String getUnixDomainPath() throws CoreException
+    {
+        String name = JettyPluginUtils.fixFilename(configuration.getName());
+
+        if (name.length() > 32)
+        {
+            // the path of a Unix-domain socket is limited to about 100 characters
+            name = name.substring(0, 32);
+        }
+
+        return getAttribute(false, ATTR_UNIX_DOMAIN_PATH,
+            String.format("${system_property:java.io.tmpdir}/jetty-%s.sock", name)); //$NON-NLS-1$
+    }
+
+    /**
+     * Sets the path of the Unix-domain socket.
+     *
+     * @param unixDomainPath the path
+     * @throws CoreException on occasion
+     */
+    public void setUnixDomainPath(String unixDomainPath) throws CoreException
+    {
+        setAttribute(false, ATTR_UNIX_DOMAIN_PATH, unixDomainPath);
+    }
+
     /**
      * Returns the path to an optionally available Jetty.
      *
@@ -750,6 +908,140 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_ANNOTATIONS_ENABLED, String.valueOf(annotationsSupport)); // string for backward compatibility
     }
 
+    /**
+     * Returns true, if the annotations should be scanned by multiple threads.
+     *
+     * @return true, if the annotations should be scanned by multiple threads
+     * @throws CoreException on occasion
+     */
+    public boolean isAnnotationsMultiThreaded() throws CoreException
+    {
+        return getAttribute(true, ATTR_ANNOTATIONS_MULTI_THREADED, true);
+    }
+
+    /**
+     * Set to true, if the annotations should be scanned by multiple threads.
+     *
+     * @param value true, if the annotations should be scanned by multiple threads
+     * @throws CoreException on occasion
+     */
+    public void setAnnotationsMultiThreaded(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_ANNOTATIONS_MULTI_THREADED, value);
+    }
+
+    /**
+     * Returns the maximum time to wait for the multi-threaded annotation scan.
+     *
+     * @return the time in seconds
+     * @throws CoreException on occasion
+     */
+    public int getAnnotationsMaxWait() throws CoreException
+    {
+        return getAttribute(true, ATTR_ANNOTATIONS_MAX_WAIT, 60);
+    }
+
+    /**
+     * Sets the maximum time to wait for the multi-threaded annotation scan.
+     *
+     * @param value the time in seconds
+     * @throws CoreException on occasion
+     */
+    public void setAnnotationsMaxWait(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_ANNOTATIONS_MAX_WAIT, value);
+    }
+
+    /**
+     * Returns the pattern for the container jars, that should be scanned.
+     *
+     * @return the regular expression, empty for the default of Jetty
+     * @throws CoreException on occasion
+     */
+    public String getContainerIncludeJarPattern() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONTAINER_INCLUDE_JAR_PATTERN, JettyPluginUtils.EMPTY);
+    }
+
+    /**
+     * Sets the pattern for the container jars, that should be scanned.
+     *
+     * @param value the regular expression, empty for the default of Jetty
+     * @throws CoreException on occasion
+     */
+    public void setContainerIncludeJarPattern(String value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONTAINER_INCLUDE_JAR_PATTERN, value);
+    }
+
+    /**
+     * Returns the pattern for the jars of the web application, that should be scanned.
+     *
+     * @return the regular expression, empty to scan all jars
+     * @throws CoreException on occasion
+     */
+    public String getWebInfIncludeJarPattern() throws CoreException
+    {
+        return getAttribute(true, ATTR_WEB_INF_INCLUDE_JAR_PATTERN, JettyPluginUtils.EMPTY);
+    }
+
+    /**
+     * Sets the pattern for the jars of the web application, that should be scanned.
+     *
+     * @param value the regular expression, empty to scan all jars
+     * @throws CoreException on occasion
+     */
+    public void setWebInfIncludeJarPattern(String value) throws CoreException
+    {
+        setAttribute(true, ATTR_WEB_INF_INCLUDE_JAR_PATTERN, value);
+    }
+
+    /**
+     * Returns true, if the pattern for the jars of the web application should be derived from the classpath.
+     *
+     * @return true, if the pattern should be derived from the classpath
+     * @throws CoreException on occasion
+     */
+    public boolean isWebInfIncludeJarPatternDerived() throws CoreException
+    {
+        return getAttribute(true, ATTR_WEB_INF_INCLUDE_JAR_PATTERN_DERIVED, false);
+    }
+
+    /**
+     * Set to true, if the pattern for the jars of the web application should be derived from the classpath.
+     *
+     * @param value true, if the pattern should be derived from the classpath
+     * @throws CoreException on occasion
+     */
+    public void setWebInfIncludeJarPatternDerived(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_WEB_INF_INCLUDE_JAR_PATTERN_DERIVED, value);
+    }
+
+    /**
+     * Returns true, if the quickstart descriptor should be generated on the first launch and used instead of scanning
+     * the web application on subsequent launches.
+     *
+     * @return true, if quickstart is enabled
+     * @throws CoreException on occasion
+     */
+    public boolean isQuickstartEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_QUICKSTART_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if the quickstart descriptor should be generated on the first launch and used instead of scanning
+     * the web application on subsequent launches.
+     *
+     * @param value true, if quickstart is enabled
+     * @throws CoreException on occasion
+     */
+    public void setQuickstartEnabled(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_QUICKSTART_ENABLED, value);
+    }
+
     /**
      * Returns true, if JSPs should be supported.
      *
@@ -860,6 +1152,28 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_WEBSOCKET_ENABLED, String.valueOf(websocketSupport)); // string for backward compatibility
     }
 
+    /**
+     * Returns true, if HTTP/2 should be supported.
+     *
+     * @return true, if HTTP/2 should be supported
+     * @throws CoreException on occasion
+     */
+    public boolean isHttp2Support() throws CoreException
+    {
+        return getAttribute(true, ATTR_HTTP2_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if HTTP/2 should be supported.
+     *
+     * @param http2Support true, if HTTP/2 should be supported
+     * @throws CoreException on occasion
+     */
+    public void setHttp2Support(boolean http2Support) throws CoreException
+    {
+        setAttribute(true, ATTR_HTTP2_ENABLED, http2Support);
+    }
+
     /**
      * Returns true, if the size of Jetty's thread pool is limited.
      *
@@ -904,6 +1218,102 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_THREAD_POOL_LIMIT_COUNT, value);
     }
 
+    /**
+     * Returns the type of Jetty's thread pool.
+     *
+     * @return the type of Jetty's thread pool
+     * @throws CoreException on occasion
+     */
+    public JettyThreadPoolType getThreadPoolType() throws CoreException
+    {
+        try
+        {
+            return JettyThreadPoolType.valueOf(getAttribute(true, ATTR_THREAD_POOL_TYPE,
+                JettyThreadPoolType.QUEUED.name()));
+        }
+        catch (IllegalArgumentException e)
+        {
+            return JettyThreadPoolType.QUEUED;
+        }
+    }
+
+    /**
+     * Sets the type of Jetty's thread pool.
+     *
+     * @param type the type of Jetty's thread pool
+     * @throws CoreException on occasion
+     */
+    public void setThreadPoolType(JettyThreadPoolType type) throws CoreException
+    {
+        setAttribute(true, ATTR_THREAD_POOL_TYPE, type.name());
+    }
+
+    /**
+     * Returns the minimum size of Jetty's thread pool.
+     *
+     * @return the minimum size of Jetty's thread pool
+     * @throws CoreException on occasion
+     */
+    public int getThreadPoolMinimumCount() throws CoreException
+    {
+        return getAttribute(true, ATTR_THREAD_POOL_MINIMUM_COUNT, 1);
+    }
+
+    /**
+     * Sets the minimum size of Jetty's thread pool.
+     *
+     * @param value the minimum size of Jetty's thread pool
+     * @throws CoreException on occasion
+     */
+    public void setThreadPoolMinimumCount(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_THREAD_POOL_MINIMUM_COUNT, value);
+    }
+
+    /**
+     * Returns the time an idle thread is kept in Jetty's thread pool (in milliseconds).
+     *
+     * @return the idle timeout (in milliseconds)
+     * @throws CoreException on occasion
+     */
+    public int getThreadPoolIdleTimeout() throws CoreException
+    {
+        return getAttribute(true, ATTR_THREAD_POOL_IDLE_TIMEOUT, 60000);
+    }
+
+    /**
+     * Sets the time an idle thread is kept in Jetty's thread pool (in milliseconds).
+     *
+     * @param value the idle timeout (in milliseconds)
+     * @throws CoreException on occasion
+     */
+    public void setThreadPoolIdleTimeout(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_THREAD_POOL_IDLE_TIMEOUT, value);
+    }
+
+    /**
+     * Returns the number of threads reserved by Jetty's ReservedThreadExecutor.
+     *
+     * @return the number of reserved threads
+     * @throws CoreException on occasion
+     */
+    public int getThreadPoolReservedCount() throws CoreException
+    {
+        return getAttribute(true, ATTR_THREAD_POOL_RESERVED_COUNT, 4);
+    }
+
+    /**
+     * Sets the number of threads reserved by Jetty's ReservedThreadExecutor.
+     *
+     * @param value the number of reserved threads
+     * @throws CoreException on occasion
+     */
+    public void setThreadPoolReservedCount(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_THREAD_POOL_RESERVED_COUNT, value);
+    }
+
     /**
      * Returns true, if the number of Jetty's acceptors is limited.
      *
@@ -948,6 +1358,293 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_ACCEPTOR_LIMIT_COUNT, value);
     }
 
+    /**
+     * Returns true, if the tuning options of the connectors are enabled.
+     *
+     * @return true, if the tuning options of the connectors are enabled
+     * @throws CoreException on occasion
+     */
+    public boolean isConnectorTuningEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_TUNING_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if the tuning options of the connectors are enabled.
+     *
+     * @param value true, if the tuning options of the connectors are enabled
+     * @throws CoreException on occasion
+     */
+    public void setConnectorTuningEnabled(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_TUNING_ENABLED, value);
+    }
+
+    /**
+     * Returns the number of selectors of the connectors, 0 to let Jetty decide.
+     *
+     * @return the number of selectors
+     * @throws CoreException on occasion
+     */
+    public int getConnectorSelectors() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_SELECTORS, 0);
+    }
+
+    /**
+     * Sets the number of selectors of the connectors, 0 to let Jetty decide.
+     *
+     * @param value the number of selectors
+     * @throws CoreException on occasion
+     */
+    public void setConnectorSelectors(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_SELECTORS, value);
+    }
+
+    /**
+     * Returns the size of the accept queue of the connectors, 0 for the default of the operating system.
+     *
+     * @return the size of the accept queue
+     * @throws CoreException on occasion
+     */
+    public int getConnectorAcceptQueueSize() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_ACCEPT_QUEUE_SIZE, 0);
+    }
+
+    /**
+     * Sets the size of the accept queue of the connectors, 0 for the default of the operating system.
+     *
+     * @param value the size of the accept queue
+     * @throws CoreException on occasion
+     */
+    public void setConnectorAcceptQueueSize(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_ACCEPT_QUEUE_SIZE, value);
+    }
+
+    /**
+     * Returns true, if the connectors reuse the address.
+     *
+     * @return true, if the connectors reuse the address
+     * @throws CoreException on occasion
+     */
+    public boolean isConnectorReuseAddress() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_REUSE_ADDRESS, true);
+    }
+
+    /**
+     * Set to true, if the connectors reuse the address.
+     *
+     * @param value true, if the connectors reuse the address
+     * @throws CoreException on occasion
+     */
+    public void setConnectorReuseAddress(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_REUSE_ADDRESS, value);
+    }
+
+    /**
+     * Returns the idle timeout of the connections (in milliseconds).
+     *
+     * @return the idle timeout (in milliseconds)
+     * @throws CoreException on occasion
+     */
+    public int getConnectorIdleTimeout() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_IDLE_TIMEOUT, 30000);
+    }
+
+    /**
+     * Sets the idle timeout of the connections (in milliseconds).
+     *
+     * @param value the idle timeout (in milliseconds)
+     * @throws CoreException on occasion
+     */
+    public void setConnectorIdleTimeout(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_IDLE_TIMEOUT, value);
+    }
+
+    /**
+     * Returns the size of the output buffer (in bytes).
+     *
+     * @return the size of the output buffer (in bytes)
+     * @throws CoreException on occasion
+     */
+    public int getConnectorOutputBufferSize() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_OUTPUT_BUFFER_SIZE, 32768);
+    }
+
+    /**
+     * Sets the size of the output buffer (in bytes).
+     *
+     * @param value the size of the output buffer (in bytes)
+     * @throws CoreException on occasion
+     */
+    public void setConnectorOutputBufferSize(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_OUTPUT_BUFFER_SIZE, value);
+    }
+
+    /**
+     * Returns the maximum size of the request headers (in bytes).
+     *
+     * @return the maximum size of the request headers (in bytes)
+     * @throws CoreException on occasion
+     */
+    public int getConnectorRequestHeaderSize() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_REQUEST_HEADER_SIZE, 8192);
+    }
+
+    /**
+     * Sets the maximum size of the request headers (in bytes).
+     *
+     * @param value the maximum size of the request headers (in bytes)
+     * @throws CoreException on occasion
+     */
+    public void setConnectorRequestHeaderSize(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_REQUEST_HEADER_SIZE, value);
+    }
+
+    /**
+     * Returns the size of the header field cache (in bytes).
+     *
+     * @return the size of the header field cache (in bytes)
+     * @throws CoreException on occasion
+     */
+    public int getConnectorHeaderCacheSize() throws CoreException
+    {
+        return getAttribute(true, ATTR_CONNECTOR_HEADER_CACHE_SIZE, 512);
+    }
+
+    /**
+     * Sets the size of the header field cache (in bytes).
+     *
+     * @param value the size of the header field cache (in bytes)
+     * @throws CoreException on occasion
+     */
+    public void setConnectorHeaderCacheSize(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_CONNECTOR_HEADER_CACHE_SIZE, value);
+    }
+
+    /**
+     * Returns true, if the responses should be compressed by a GzipHandler.
+     *
+     * @return true, if the responses should be compressed
+     * @throws CoreException on occasion
+     */
+    public boolean isGzipEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_GZIP_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if the responses should be compressed by a GzipHandler.
+     *
+     * @param value true, if the responses should be compressed
+     * @throws CoreException on occasion
+     */
+    public void setGzipEnabled(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_GZIP_ENABLED, value);
+    }
+
+    /**
+     * Returns the minimum size of a response to be compressed (in bytes).
+     *
+     * @return the minimum size (in bytes)
+     * @throws CoreException on occasion
+     */
+    public int getGzipMinSize() throws CoreException
+    {
+        return getAttribute(true, ATTR_GZIP_MIN_SIZE, 32);
+    }
+
+    /**
+     * Sets the minimum size of a response to be compressed (in bytes).
+     *
+     * @param value the minimum size (in bytes)
+     * @throws CoreException on occasion
+     */
+    public void setGzipMinSize(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_GZIP_MIN_SIZE, value);
+    }
+
+    /**
+     * Returns the comma separated list of MIME types to be compressed.
+     *
+     * @return the MIME types, empty for the default of Jetty
+     * @throws CoreException on occasion
+     */
+    public String getGzipMimeTypes() throws CoreException
+    {
+        return getAttribute(true, ATTR_GZIP_MIME_TYPES,
+            "text/html,text/plain,text/xml,text/css,text/javascript,application/javascript,application/json,image/svg+xml"); //$NON-NLS-1$
+    }
+
+    /**
+     * Sets the comma separated list of MIME types to be compressed.
+     *
+     * @param value the MIME types, empty for the default of Jetty
+     * @throws CoreException on occasion
+     */
+    public void setGzipMimeTypes(String value) throws CoreException
+    {
+        setAttribute(true, ATTR_GZIP_MIME_TYPES, value);
+    }
+
+    /**
+     * Returns the compression level (0-9, -1 for the default of Jetty).
+     *
+     * @return the compression level
+     * @throws CoreException on occasion
+     */
+    public int getGzipCompressionLevel() throws CoreException
+    {
+        return getAttribute(true, ATTR_GZIP_COMPRESSION_LEVEL, -1);
+    }
+
+    /**
+     * Sets the compression level (0-9, -1 for the default of Jetty).
+     *
+     * @param value the compression level
+     * @throws CoreException on occasion
+     */
+    public void setGzipCompressionLevel(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_GZIP_COMPRESSION_LEVEL, value);
+    }
+
+    /**
+     * Returns true, if the default servlet should serve precompressed (br and gzip) variants of static files.
+     *
+     * @return true, if precompressed files should be served
+     * @throws CoreException on occasion
+     */
+    public boolean isPrecompressedEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_PRECOMPRESSED_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if the default servlet should serve precompressed (br and gzip) variants of static files.
+     *
+     * @param value true, if precompressed files should be served
+     * @throws CoreException on occasion
+     */
+    public void setPrecompressedEnabled(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_PRECOMPRESSED_ENABLED, value);
+    }
+
     /**
      * Return true, if the graceful shutdown override is enabled.
      *
@@ -1014,6 +1711,95 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_SERVER_CACHE_ENABLED, enabled);
     }
 
+    /**
+     * Returns true, if the limits of Jetty's server cache are overridden. Otherwise the defaults of the Jetty version
+     * are used.
+     *
+     * @return true, if the limits of Jetty's server cache are overridden
+     * @throws CoreException on occasion
+     */
+    public boolean isServerCacheLimitsEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_SERVER_CACHE_LIMITS_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if the limits of Jetty's server cache are overridden.
+     *
+     * @param enabled true, if the limits of Jetty's server cache are overridden
+     * @throws CoreException on occasion
+     */
+    public void setServerCacheLimitsEnabled(boolean enabled) throws CoreException
+    {
+        setAttribute(true, ATTR_SERVER_CACHE_LIMITS_ENABLED, enabled);
+    }
+
+    /**
+     * Returns the maximum size of Jetty's server cache.
+     *
+     * @return the maximum size in bytes
+     * @throws CoreException on occasion
+     */
+    public int getServerCacheMaxSize() throws CoreException
+    {
+        return getAttribute(true, ATTR_SERVER_CACHE_MAX_SIZE, 256000000);
+    }
+
+    /**
+     * Sets the maximum size of Jetty's server cache.
+     *
+     * @param value the maximum size in bytes
+     * @throws CoreException on occasion
+     */
+    public void setServerCacheMaxSize(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_SERVER_CACHE_MAX_SIZE, value);
+    }
+
+    /**
+     * Returns the maximum size of one file in Jetty's server cache.
+     *
+     * @return the maximum size in bytes
+     * @throws CoreException on occasion
+     */
+    public int getServerCacheMaxFileSize() throws CoreException
+    {
+        return getAttribute(true, ATTR_SERVER_CACHE_MAX_FILE_SIZE, 200000000);
+    }
+
+    /**
+     * Sets the maximum size of one file in Jetty's server cache.
+     *
+     * @param value the maximum size in bytes
+     * @throws CoreException on occasion
+     */
+    public void setServerCacheMaxFileSize(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_SERVER_CACHE_MAX_FILE_SIZE, value);
+    }
+
+    /**
+     * Returns the maximum number of files in Jetty's server cache.
+     *
+     * @return the maximum number of files
+     * @throws CoreException on occasion
+     */
+    public int getServerCacheMaxFiles() throws CoreException
+    {
+        return getAttribute(true, ATTR_SERVER_CACHE_MAX_FILES, 2048);
+    }
+
+    /**
+     * Sets the maximum number of files in Jetty's server cache.
+     *
+     * @param value the maximum number of files
+     * @throws CoreException on occasion
+     */
+    public void setServerCacheMaxFiles(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_SERVER_CACHE_MAX_FILES, value);
+    }
+
     /**
      * Returns true, if the cache pragma no cache should not be sent.
      *
@@ -1036,6 +1822,76 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_CLIENT_CACHE_ENABLED, enabled);
     }
 
+    /**
+     * Returns true, if the default servlet should use file mapped buffers for static content. Defaults to true on
+     * Linux. Other operating systems (especially Windows) lock mapped files, thus the resources could not be changed
+     * while the server is running.
+     *
+     * @return true, if the default servlet should use file mapped buffers
+     * @throws CoreException on occasion
+     */
+    public boolean isFileMappedBufferEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_FILE_MAPPED_BUFFER_ENABLED, Platform.OS_LINUX.equals(Platform.getOS()));
+    }
+
+    /**
+     * Set to true, if the default servlet should use file mapped buffers for static content.
+     *
+     * @param enabled true, if the default servlet should use file mapped buffers
+     * @throws CoreException on occasion
+     */
+    public void setFileMappedBufferEnabled(boolean enabled) throws CoreException
+    {
+        setAttribute(true, ATTR_FILE_MAPPED_BUFFER_ENABLED, enabled);
+    }
+
+    /**
+     * Returns the size, above which files are served from file mapped buffers only, instead of being cached on the
+     * heap, 0 to use the max cached file size of the server cache.
+     *
+     * @return the threshold in bytes
+     * @throws CoreException on occasion
+     */
+    public int getFileMappedBufferThreshold() throws CoreException
+    {
+        return getAttribute(true, ATTR_FILE_MAPPED_BUFFER_THRESHOLD, 1048576);
+    }
+
+    /**
+     * Sets the size, above which files are served from file mapped buffers only, instead of being cached on the heap,
+     * 0 to use the max cached file size of the server cache.
+     *
+     * @param value the threshold in bytes
+     * @throws CoreException on occasion
+     */
+    public void setFileMappedBufferThreshold(int value) throws CoreException
+    {
+        setAttribute(true, ATTR_FILE_MAPPED_BUFFER_THRESHOLD, value);
+    }
+
+    /**
+     * Returns true, if the default servlet should send ETags for static content.
+     *
+     * @return true, if the default servlet should send ETags
+     * @throws CoreException on occasion
+     */
+    public boolean isEtagsEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_ETAGS_ENABLED, true);
+    }
+
+    /**
+     * Set to true, if the default servlet should send ETags for static content.
+     *
+     * @param enabled true, if the default servlet should send ETags
+     * @throws CoreException on occasion
+     */
+    public void setEtagsEnabled(boolean enabled) throws CoreException
+    {
+        setAttribute(true, ATTR_ETAGS_ENABLED, enabled);
+    }
+
     /**
      * Returns true, if the SNI check should be enabled (see documentation
      * of jetty.ssl.sniHostCheck).
@@ -1458,6 +2314,28 @@ public class JettyLaunchConfigurationAdapter
         setAttribute(true, ATTR_CONSOLE_ENABLED, value);
     }
 
+    /**
+     * Returns true, if the launcher should collect request statistics for the console.
+     *
+     * @return true, if the launcher should collect request statistics
+     * @throws CoreException on occasion
+     */
+    public boolean isStatisticsEnabled() throws CoreException
+    {
+        return getAttribute(true, ATTR_STATISTICS_ENABLED, false);
+    }
+
+    /**
+     * Set to true, if the launcher should collect request statistics for the console
+     *
+     * @param value true, if the launcher should collect request statistics
+     * @throws CoreException on occasion
+     */
+    public void setStatisticsEnabled(boolean value) throws CoreException
+    {
+        setAttribute(true, ATTR_STATISTICS_ENABLED, value);
+    }
+
     /**
      * Sets the default classpath provider for the Jetty plugin
      *
@@ -0,0 +1,205 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.launch.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * A thread-safe, bounded cache for objects computed from launch configurations. The entries are keyed by the name of
+ * the configuration and the {@link JettyLaunchClasspathStage}. The least recently used entry gets evicted, if the
+ * cache is full. Instead of a copy of the configuration, each entry just keeps a snapshot of the attributes read by
+ * the stage, thus changing an attribute only invalidates the stages, that depend on it.
+ *
+ * @author Manfred Hantschel
+ */
+public class JettyLaunchConfigurationCache
+{
+
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private static class CacheEntry
+    {
+        private final Map<String, Object> attributes;
+        private final Object object;
+        private final int generation;
+
+        public CacheEntry(Map<String, Object> attributes, Object object, int generation)
+        {
+            super();
+
+            this.attributes = attributes;
+            this.object = object;
+            this.generation = generation;
+        }
+
+        public Object getObject()
+        {
+            return object;
+        }
+
+        public boolean isValid(Map<String, Object> attributes, int generation)
+        {
+            return (this.generation == generation) && (this.attributes.equals(attributes));
+        }
+    }
+
+    private final int maxSize;
+    private final Map<String, CacheEntry> entries;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    public JettyLaunchConfigurationCache()
+    {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public JettyLaunchConfigurationCache(final int maxSize)
+    {
+        super();
+
+        this.maxSize = maxSize;
+
+        entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = -3263815416744736472L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest)
+            {
+                if (size() > maxSize)
+                {
+                    evictionCount += 1;
+
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of the stage, if the attributes read by the stage still match the cached ones and the
+     * workspace has not changed in the meantime (see {@link JettyLaunchClasspathCache#getGeneration()}).
+     *
+     * @param configuration the configuration
+     * @param stage the stage
+     * @return the object, null if not found
+     * @throws CoreException on occasion
+     */
+    public Object get(ILaunchConfiguration configuration, JettyLaunchClasspathStage stage) throws CoreException
+    {
+        String key = toKey(configuration, stage);
+        Map<String, Object> attributes = stage.select(configuration.getAttributes());
+        int generation = JettyLaunchClasspathCache.getInstance().getGeneration();
+
+        synchronized (this)
+        {
+            CacheEntry entry = entries.get(key);
+
+            if ((entry != null) && (entry.isValid(attributes, generation)))
+            {
+                hitCount += 1;
+
+                return entry.getObject();
+            }
+
+            if (entry != null)
+            {
+                entries.remove(key);
+            }
+
+            missCount += 1;
+
+            return null;
+        }
+    }
+
+    /**
+     * Puts the result of the stage into the cache.
+     *
+     * @param configuration the configuration
+     * @param stage the stage
+     * @param object the object
+     * @throws CoreException on occasion
+     */
+    public void put(ILaunchConfiguration configuration, JettyLaunchClasspathStage stage, Object object)
+        throws CoreException
+    {
+        String key = toKey(configuration, stage);
+        CacheEntry entry =
+            new CacheEntry(stage.select(configuration.getAttributes()), object, JettyLaunchClasspathCache
+                .getInstance().getGeneration());
+
+        synchronized (this)
+        {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear()
+    {
+        entries.clear();
+    }
+
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public synchronized int getSize()
+    {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount()
+    {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount()
+    {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString()
+    {
+        return String.format("size: %d/%d, hits: %d, misses: %d, evictions: %d", entries.size(), maxSize, hitCount, //$NON-NLS-1$
+            missCount, evictionCount);
+    }
+
+    private static String toKey(ILaunchConfiguration configuration, JettyLaunchClasspathStage stage)
+    {
+        return configuration.getName() + "|" + stage.name(); //$NON-NLS-1$
+    }
+
+}
@@ -18,18 +18,24 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import net.sourceforge.eclipsejetty.JettyPlugin;
 import net.sourceforge.eclipsejetty.JettyPluginUtils;
 import net.sourceforge.eclipsejetty.Messages;
+import net.sourceforge.eclipsejetty.jetty.AbstractBuilder;
 import net.sourceforge.eclipsejetty.jetty.AbstractServerConfiguration;
 import net.sourceforge.eclipsejetty.jetty.AbstractWebDefaults;
 import net.sourceforge.eclipsejetty.jetty.JettyConfig;
@@ -63,48 +69,12 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     public static final String CONFIGURATION_KEY = "jetty.launcher.configuration"; //$NON-NLS-1$
     public static final String HIDE_LAUNCH_INFO_KEY = "jetty.launcher.hideLaunchInfo"; //$NON-NLS-1$
     public static final String DISABLE_CONSOLE_KEY = "jetty.launcher.disableConsole"; //$NON-NLS-1$
+    public static final String STATISTICS_KEY = "jetty.launcher.statistics"; //$NON-NLS-1$
 
-    private static final long DEFAULT_LIFESPAN = 5 * 1000; // 10 seconds
+    private static final String QUICKSTART_FOLDER = "quickstart"; //$NON-NLS-1$
+    private static final Charset UTF_8 = Charset.forName("UTF-8"); //$NON-NLS-1$
 
-    private class CacheEntry
-    {
-        private final ILaunchConfiguration configuration;
-        private final Object object;
-
-        private long endOfLife;
-
-        public CacheEntry(ILaunchConfiguration configuration, Object object) throws CoreException
-        {
-            super();
-
-            this.configuration = configuration.copy(configuration.getName());
-            this.object = object;
-
-            extendLife();
-        }
-
-        public ILaunchConfiguration getConfiguration()
-        {
-            return configuration;
-        }
-
-        public Object getObject()
-        {
-            return object;
-        }
-
-        public void extendLife()
-        {
-            endOfLife = System.currentTimeMillis() + DEFAULT_LIFESPAN;
-        }
-
-        public boolean isAlive()
-        {
-            return System.currentTimeMillis() < endOfLife;
-        }
-    }
-
-    private final Map<String, CacheEntry> cache = new HashMap<String, CacheEntry>();
+    private final JettyLaunchConfigurationCache cache = new JettyLaunchConfigurationCache();
 
     public JettyLaunchConfigurationDelegate()
     {
@@ -112,71 +82,71 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     }
 
     /**
-     * Tries to find the entry in the cache Returns it if the configuration still matches the entry and the end of life
-     * has not yet been reached.
+     * Tries to find the entry in the cache. Returns it if the configuration still matches the entry and the workspace
+     * has not changed in the meantime.
      *
-     * @param key the key
+     * @param stage the stage
      * @param adapter the configuration adapter
      * @return the entry, null if not found
+     * @throws CoreException on occasion
      */
-    protected Object getCached(String key, JettyLaunchConfigurationAdapter adapter)
+    protected Object getCached(JettyLaunchClasspathStage stage, JettyLaunchConfigurationAdapter adapter)
+        throws CoreException
     {
-        return getCached(key, adapter.getConfiguration());
+        return getCached(stage, adapter.getConfiguration());
     }
 
     /**
-     * Tries to find the entry in the cache. Returns it if the configuration still matches the entry and the end of life
-     * has not yet been reached.
+     * Tries to find the entry in the cache. Returns it if the configuration still matches the entry and the workspace
+     * has not changed in the meantime.
      *
-     * @param key the key
+     * @param stage the stage
      * @param configuration the configuration
      * @return the object
+     * @throws CoreException on occasion
      */
-    protected Object getCached(String key, ILaunchConfiguration configuration)
+    protected Object getCached(JettyLaunchClasspathStage stage, ILaunchConfiguration configuration)
+        throws CoreException
     {
-        CacheEntry cacheEntry = cache.get(key);
-
-        if (cacheEntry == null)
-        {
-            return null;
-        }
-
-        if ((cacheEntry.isAlive()) && (configuration.contentsEqual(cacheEntry.getConfiguration())))
-        {
-            cacheEntry.extendLife();
-
-            return cacheEntry.getObject();
-        }
-
-        cache.remove(key);
-
-        return null;
+        return cache.get(configuration, stage);
     }
 
     /**
      * Puts the object into the cache.
      *
-     * @param key the key
+     * @param stage the stage
      * @param adapter the adapter
      * @param object the object
      * @throws CoreException on occasion
      */
-    protected void putCached(String key, JettyLaunchConfigurationAdapter adapter, Object object) throws CoreException
+    protected void putCached(JettyLaunchClasspathStage stage, JettyLaunchConfigurationAdapter adapter, Object object)
+        throws CoreException
     {
-        putCached(key, adapter.getConfiguration(), object);
+        putCached(stage, adapter.getConfiguration(), object);
     }
 
     /**
      * Puts the object into the cache.
      *
-     * @param key the key
+     * @param stage the stage
      * @param configuration the configuration
      * @param object the object
      * @throws CoreException on occasion
      */
-    protected void putCached(String key, ILaunchConfiguration configuration, Object object) throws CoreException
+    protected void putCached(JettyLaunchClasspathStage stage, ILaunchConfiguration configuration, Object object)
+        throws CoreException
+    {
+        cache.put(configuration, stage, object);
+    }
+
+    /**
+     * Returns the cache of the delegate, e.g. for the hit, miss and eviction counters.
+     *
+     * @return the cache
+     */
+    public JettyLaunchConfigurationCache getCache()
     {
-        cache.put(key, new CacheEntry(configuration, object));
+        return cache;
     }
 
     /**
@@ -189,6 +159,13 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     public void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor)
         throws CoreException
     {
+        JettyLaunchConfigurationAdapter adapter = JettyLaunchConfigurationAdapter.getInstance(configuration);
+
+        if (adapter.isUnixDomainEnabled())
+        {
+            deleteStaleUnixDomainSocket(new File(JettyPluginUtils.resolveVariables(adapter.getUnixDomainPath())));
+        }
+
         super.launch(configuration, mode, launch, monitor);
     }
 
@@ -214,7 +191,10 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     public String getVMArguments(ILaunchConfiguration configuration) throws CoreException
     {
         JettyLaunchConfigurationAdapter adapter = JettyLaunchConfigurationAdapter.getInstance(configuration);
-        File defaultFile = createJettyConfigurationFile(adapter, false);
+        File defaultFile = createJettyConfigurationFile(adapter, false, true);
+
+        JettyPlugin.debug(String.format("Jetty configuration files: %d written, %d unchanged and skipped", //$NON-NLS-1$
+            AbstractBuilder.getWriteCount(), AbstractBuilder.getSkipCount()));
         String vmArguments = super.getVMArguments(configuration);
 
         vmArguments += String.format(" -D%s=%s", CONFIGURATION_KEY, getConfigurationParameter(adapter, defaultFile)); //$NON-NLS-1$
@@ -228,6 +208,10 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
         {
             vmArguments += String.format(" -D%s", DISABLE_CONSOLE_KEY); //$NON-NLS-1$
         }
+        else if (adapter.isStatisticsEnabled())
+        {
+            vmArguments += String.format(" -D%s", STATISTICS_KEY); //$NON-NLS-1$
+        }
 
         if (adapter.isJmxSupport())
         {
@@ -290,7 +274,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     @Override
     public String[] getClasspath(ILaunchConfiguration configuration) throws CoreException
     {
-        String[] result = (String[]) getCached("Classpath", configuration); //$NON-NLS-1$
+        String[] result = (String[]) getCached(JettyLaunchClasspathStage.CLASSPATH, configuration);
 
         if (result != null)
         {
@@ -298,14 +282,22 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
         }
 
         JettyLaunchConfigurationAdapter adapter = JettyLaunchConfigurationAdapter.getInstance(configuration);
+        JettyLaunchClasspathCache persistentCache = JettyLaunchClasspathCache.getInstance();
 
-        result =
-            JettyPluginUtils.toLocationArray(getJettyClasspath(
-                adapter,
-                getGlobalWebappClasspathEntries(adapter,
-                    getWebappClasspathEntries(adapter, getOriginalClasspathEntries(adapter)))));
+        result = persistentCache.getClasspath(adapter, "Classpath"); //$NON-NLS-1$
 
-        putCached("Classpath", configuration, result); //$NON-NLS-1$
+        if (result == null)
+        {
+            result =
+                JettyPluginUtils.toLocationArray(getJettyClasspath(
+                    adapter,
+                    getGlobalWebappClasspathEntries(adapter,
+                        getWebappClasspathEntries(adapter, getOriginalClasspathEntries(adapter)))));
+
+            persistentCache.put(adapter, "Classpath", result); //$NON-NLS-1$
+        }
+
+        putCached(JettyLaunchClasspathStage.CLASSPATH, configuration, result);
 
         return result;
     }
@@ -321,7 +313,8 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
         throws CoreException
     {
         @SuppressWarnings("unchecked")
-        Collection<Dependency> result = (Collection<Dependency>) getCached("OriginalClasspathEntries", adapter); //$NON-NLS-1$
+        Collection<Dependency> result =
+            (Collection<Dependency>) getCached(JettyLaunchClasspathStage.ORIGINAL_CLASSPATH_ENTRIES, adapter);
 
         if (result != null)
         {
@@ -342,7 +335,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
 
         result = Collections.unmodifiableCollection(or(userClasses(), classPath()).match(scopedClasspathEntries));
 
-        putCached("OriginalClasspathEntries", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.ORIGINAL_CLASSPATH_ENTRIES, adapter, result);
 
         return result;
     }
@@ -356,7 +349,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
      */
     public String[] getOriginalClasspath(JettyLaunchConfigurationAdapter adapter) throws CoreException
     {
-        String[] result = (String[]) getCached("OriginalClasspath", adapter); //$NON-NLS-1$
+        String[] result = (String[]) getCached(JettyLaunchClasspathStage.ORIGINAL_CLASSPATH, adapter);
 
         if (result != null)
         {
@@ -365,7 +358,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
 
         result = JettyPluginUtils.toLocationArrayFromScoped(getOriginalClasspathEntries(adapter));
 
-        putCached("OriginalClasspath", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.ORIGINAL_CLASSPATH, adapter, result);
 
         return result;
     }
@@ -383,7 +376,8 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
         Collection<Dependency> originalEntries) throws CoreException
     {
         @SuppressWarnings("unchecked")
-        Collection<Dependency> result = (Collection<Dependency>) getCached("WebappClasspathEntries", adapter); //$NON-NLS-1$
+        Collection<Dependency> result =
+            (Collection<Dependency>) getCached(JettyLaunchClasspathStage.WEBAPP_CLASSPATH_ENTRIES, adapter);
 
         if (result != null)
         {
@@ -394,7 +388,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
             Collections.unmodifiableCollection(and(createWebappClasspathMatcher(adapter)).match(
                 new LinkedHashSet<Dependency>(originalEntries)));
 
-        putCached("WebappClasspathEntries", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.WEBAPP_CLASSPATH_ENTRIES, adapter, result);
 
         return result;
     }
@@ -411,7 +405,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     public String[] getWebappClasspath(JettyLaunchConfigurationAdapter adapter, Collection<Dependency> originalEntries)
         throws CoreException
     {
-        String[] result = (String[]) getCached("WebappClasspath", adapter); //$NON-NLS-1$
+        String[] result = (String[]) getCached(JettyLaunchClasspathStage.WEBAPP_CLASSPATH, adapter);
 
         if (result != null)
         {
@@ -420,7 +414,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
 
         result = JettyPluginUtils.toLocationArrayFromScoped(getWebappClasspathEntries(adapter, originalEntries));
 
-        putCached("WebappClasspath", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.WEBAPP_CLASSPATH, adapter, result);
 
         return result;
     }
@@ -439,7 +433,8 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
         Collection<Dependency> webappEntries) throws CoreException
     {
         @SuppressWarnings("unchecked")
-        Collection<Dependency> result = (Collection<Dependency>) getCached("LocalWebappClasspathEntries", adapter); //$NON-NLS-1$
+        Collection<Dependency> result =
+            (Collection<Dependency>) getCached(JettyLaunchClasspathStage.LOCAL_WEBAPP_CLASSPATH_ENTRIES, adapter);
 
         if (result != null)
         {
@@ -467,7 +462,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
                 Collections.unmodifiableCollection(deprecatedGetLocalWebappClasspathEntries(adapter, webappEntries));
         }
 
-        putCached("LocalWebappClasspathEntries", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.LOCAL_WEBAPP_CLASSPATH_ENTRIES, adapter, result);
 
         return result;
     }
@@ -500,7 +495,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     public String[] getLocalWebappClasspath(JettyLaunchConfigurationAdapter adapter,
         Collection<Dependency> webappEntries) throws CoreException
     {
-        String[] result = (String[]) getCached("LocalWebappClasspath", adapter); //$NON-NLS-1$
+        String[] result = (String[]) getCached(JettyLaunchClasspathStage.LOCAL_WEBAPP_CLASSPATH, adapter);
 
         if (result != null)
         {
@@ -509,7 +504,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
 
         result = JettyPluginUtils.toLocationArrayFromScoped(getLocalWebappClasspathEntries(adapter, webappEntries));
 
-        putCached("LocalWebappClasspath", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.LOCAL_WEBAPP_CLASSPATH, adapter, result);
 
         return result;
     }
@@ -527,7 +522,8 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
         Collection<Dependency> webappEntries) throws CoreException
     {
         @SuppressWarnings("unchecked")
-        Collection<Dependency> result = (Collection<Dependency>) getCached("GlobalWebappClasspathEntries", adapter); //$NON-NLS-1$
+        Collection<Dependency> result =
+            (Collection<Dependency>) getCached(JettyLaunchClasspathStage.GLOBAL_WEBAPP_CLASSPATH_ENTRIES, adapter);
 
         if (result != null)
         {
@@ -555,7 +551,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
                 Collections.unmodifiableCollection(deprecatedGetGlobalWebappClasspathEntries(adapter, webappEntries));
         }
 
-        putCached("GlobalWebappClasspathEntries", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.GLOBAL_WEBAPP_CLASSPATH_ENTRIES, adapter, result);
 
         return result;
     }
@@ -588,7 +584,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     public String[] getGlobalWebappClasspath(JettyLaunchConfigurationAdapter adapter,
         Collection<Dependency> webappEntries) throws CoreException
     {
-        String[] result = (String[]) getCached("GlobalWebappClasspath", adapter); //$NON-NLS-1$
+        String[] result = (String[]) getCached(JettyLaunchClasspathStage.GLOBAL_WEBAPP_CLASSPATH, adapter);
 
         if (result != null)
         {
@@ -597,7 +593,7 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
 
         result = JettyPluginUtils.toLocationArrayFromScoped(getGlobalWebappClasspathEntries(adapter, webappEntries));
 
-        putCached("GlobalWebappClasspath", adapter, result); //$NON-NLS-1$
+        putCached(JettyLaunchClasspathStage.GLOBAL_WEBAPP_CLASSPATH, adapter, result);
 
         return result;
     }
@@ -630,6 +626,9 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
         boolean jndiSupport = adapter.isJndiSupport();
         boolean annotationsSupport = adapter.isAnnotationsSupport();
         boolean websocketSupport = adapter.isWebsocketSupport();
+        boolean http2Support = adapter.isHttp2Support();
+        boolean unixDomainSupport = adapter.isUnixDomainEnabled();
+        boolean quickstartSupport = adapter.isQuickstartEnabled();
         boolean ajpSupport = adapter.isAjpSupport();
         boolean consoleEnabled = adapter.isConsoleEnabled();
 
@@ -655,7 +654,8 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
                 .getFile())));
 
             for (final File jettyLib : jettyVersion.getLibStrategy().find(jettyPath, jspSupport, jmxSupport,
-                jndiSupport, annotationsSupport, ajpSupport, websocketSupport))
+                jndiSupport, annotationsSupport, ajpSupport, websocketSupport, http2Support, unixDomainSupport,
+                quickstartSupport))
             {
                 entries.add(JavaRuntime.newArchiveRuntimeClasspathEntry(new Path(jettyLib.getCanonicalPath())));
             }
@@ -777,7 +777,8 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     }
 
     /**
-     * Creates the Jetty configuration file with the webapp classpath
+     * Creates the Jetty configuration file with the webapp classpath for a preview. The quickstart descriptor is
+     * neither computed nor touched.
      *
      * @param adapter the configuration adapter
      * @param formatted true to create a formatted file
@@ -787,11 +788,61 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
     public File createJettyConfigurationFile(JettyLaunchConfigurationAdapter adapter, boolean formatted)
         throws CoreException
     {
-        String[] webappClasspath =
-            getLocalWebappClasspath(adapter, getWebappClasspathEntries(adapter, getOriginalClasspathEntries(adapter)));
+        return createJettyConfigurationFile(adapter, formatted, false);
+    }
+
+    /**
+     * Creates the Jetty configuration file with the webapp classpath
+     *
+     * @param adapter the configuration adapter
+     * @param formatted true to create a formatted file
+     * @param launch true if the file is created for a launch, false for a preview
+     * @return the file
+     * @throws CoreException on occasion
+     */
+    private File createJettyConfigurationFile(JettyLaunchConfigurationAdapter adapter, boolean formatted,
+        boolean launch) throws CoreException
+    {
+        JettyLaunchClasspathCache persistentCache = JettyLaunchClasspathCache.getInstance();
+        String[] webappClasspath = persistentCache.getClasspath(adapter, "LocalWebappClasspath"); //$NON-NLS-1$
+
+        if (webappClasspath == null)
+        {
+            webappClasspath =
+                getLocalWebappClasspath(adapter,
+                    getWebappClasspathEntries(adapter, getOriginalClasspathEntries(adapter)));
+
+            persistentCache.put(adapter, "LocalWebappClasspath", webappClasspath); //$NON-NLS-1$
+        }
+
         JettyVersionType jettyVersion = adapter.getVersion();
 
-        return createJettyConfigurationFile(adapter, jettyVersion, formatted, webappClasspath);
+        return createJettyConfigurationFile(adapter, jettyVersion, formatted, launch, webappClasspath);
+    }
+
+    /**
+     * Derives the pattern for the jars of the web application, that should be scanned, from the classpath. The
+     * pattern is cached along with the classpath, because all jars have to be opened. The cached pattern is only used
+     * if none of the jars changed in the meantime (e.g. an updated SNAPSHOT dependency).
+     *
+     * @param adapter the configuration adapter
+     * @param classpath the webapp classpath
+     * @return the pattern
+     */
+    private String getDerivedWebInfIncludeJarPattern(JettyLaunchConfigurationAdapter adapter, String[] classpath)
+    {
+        JettyLaunchClasspathCache persistentCache = JettyLaunchClasspathCache.getInstance();
+        String[] pattern = persistentCache.get(adapter, "WebInfIncludeJarPattern"); //$NON-NLS-1$
+        String fingerprint = JettyLaunchUtils.computeClasspathFingerprint(classpath);
+
+        if ((pattern == null) || (pattern.length != 2) || (!fingerprint.equals(pattern[1])))
+        {
+            pattern = new String[]{JettyLaunchUtils.deriveWebInfIncludeJarPattern(classpath), fingerprint};
+
+            persistentCache.put(adapter, "WebInfIncludeJarPattern", pattern); //$NON-NLS-1$
+        }
+
+        return pattern[0];
     }
 
     /**
@@ -800,12 +851,13 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
      * @param adapter the configuration adapter
      * @param version the Jetty version
      * @param formatted true to create a formatted file
+     * @param launch true if the file is created for a launch, false for a preview
      * @param classpath the webapp classpath
      * @return the file
      * @throws CoreException on occasion
      */
     private File createJettyConfigurationFile(JettyLaunchConfigurationAdapter adapter, JettyVersionType version,
-        boolean formatted, String[] classpath) throws CoreException
+        boolean formatted, boolean launch, String[] classpath) throws CoreException
     {
         AbstractServerConfiguration serverConfiguration = version.createServerConfiguration();
 
@@ -833,9 +885,60 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
             serverConfiguration.setKeyManagerPassword("correct horse battery staple"); //$NON-NLS-1$
         }
 
+        if (adapter.isUnixDomainEnabled())
+        {
+            File unixDomainFile = new File(JettyPluginUtils.resolveVariables(adapter.getUnixDomainPath()));
+
+            serverConfiguration.setUnixDomainPath(unixDomainFile.getAbsolutePath());
+        }
+
         serverConfiguration.setJndiEnabled(adapter.isJndiSupport());
-        serverConfiguration.setAnnotationsEnabled(adapter.isAnnotationsSupport());
+        // the quickstart descriptor gets generated by scanning the annotations
+        serverConfiguration.setAnnotationsEnabled(adapter.isAnnotationsSupport() || adapter.isQuickstartEnabled());
+        serverConfiguration.setAnnotationScanMultiThreaded(Boolean.valueOf(adapter.isAnnotationsMultiThreaded()));
+        serverConfiguration.setAnnotationScanMaxWait(Integer.valueOf(adapter.getAnnotationsMaxWait()));
+
+        String containerIncludeJarPattern = adapter.getContainerIncludeJarPattern().trim();
+
+        serverConfiguration.setContainerIncludeJarPattern((containerIncludeJarPattern.length() > 0)
+            ? containerIncludeJarPattern : null);
+
+        if (adapter.isWebInfIncludeJarPatternDerived())
+        {
+            serverConfiguration.setWebInfIncludeJarPattern(getDerivedWebInfIncludeJarPattern(adapter, classpath));
+        }
+        else
+        {
+            String webInfIncludeJarPattern = adapter.getWebInfIncludeJarPattern().trim();
+
+            serverConfiguration.setWebInfIncludeJarPattern((webInfIncludeJarPattern.length() > 0)
+                ? webInfIncludeJarPattern : null);
+        }
+
+        if (adapter.isQuickstartEnabled())
+        {
+            if (launch)
+            {
+                File quickstartFile = getQuickstartFile(adapter, version, classpath);
+
+                if (quickstartFile != null)
+                {
+                    // the starter renames the generated descriptor after a successful start, thus it's complete
+                    serverConfiguration.setQuickstartPath(quickstartFile.getAbsolutePath());
+                    serverConfiguration.setQuickstartGenerate(!quickstartFile.exists());
+                }
+            }
+            else
+            {
+                // computing the hash walks the whole web application, too expensive for a preview
+                serverConfiguration.setQuickstartPath(new File(getQuickstartFolder(), getQuickstartPrefix(adapter)
+                    + "[hash].xml").getAbsolutePath()); //$NON-NLS-1$
+                serverConfiguration.setQuickstartGenerate(true);
+            }
+        }
+
         serverConfiguration.setWebsocketEnabled(adapter.isWebsocketSupport());
+        serverConfiguration.setHttp2Enabled(adapter.isHttp2Support());
         serverConfiguration.setJmxEnabled(adapter.isJmxSupport());
         serverConfiguration.setSniCheckEnabled(adapter.isSniCheckEnabled());
 
@@ -849,11 +952,51 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
             serverConfiguration.setThreadPoolLimit(adapter.getThreadPoolLimitCount());
         }
 
+        serverConfiguration.setThreadPoolType(adapter.getThreadPoolType());
+        serverConfiguration.setThreadPoolMinimum(adapter.getThreadPoolMinimumCount());
+        serverConfiguration.setThreadPoolIdleTimeout(adapter.getThreadPoolIdleTimeout());
+        serverConfiguration.setReservedThreads(adapter.getThreadPoolReservedCount());
+
         if (adapter.isAcceptorLimitEnabled())
         {
             serverConfiguration.setAcceptorLimit(adapter.getAcceptorLimitCount());
         }
 
+        if (adapter.isConnectorTuningEnabled())
+        {
+            int selectors = adapter.getConnectorSelectors();
+            int acceptQueueSize = adapter.getConnectorAcceptQueueSize();
+
+            serverConfiguration.setSelectors((selectors > 0) ? Integer.valueOf(selectors) : null);
+            serverConfiguration.setAcceptQueueSize((acceptQueueSize > 0) ? Integer.valueOf(acceptQueueSize) : null);
+            serverConfiguration.setReuseAddress(Boolean.valueOf(adapter.isConnectorReuseAddress()));
+            serverConfiguration.setConnectorIdleTimeout(adapter.getConnectorIdleTimeout());
+            serverConfiguration.setOutputBufferSize(adapter.getConnectorOutputBufferSize());
+            serverConfiguration.setRequestHeaderSize(adapter.getConnectorRequestHeaderSize());
+            serverConfiguration.setHeaderCacheSize(adapter.getConnectorHeaderCacheSize());
+        }
+
+        if (adapter.isGzipEnabled())
+        {
+            int compressionLevel = adapter.getGzipCompressionLevel();
+            Collection<String> mimeTypes = new ArrayList<String>();
+
+            for (String mimeType : adapter.getGzipMimeTypes().split(",")) //$NON-NLS-1$
+            {
+                if (mimeType.trim().length() > 0)
+                {
+                    mimeTypes.add(mimeType.trim());
+                }
+            }
+
+            serverConfiguration.setGzipEnabled(true);
+            serverConfiguration.setGzipMinSize(adapter.getGzipMinSize());
+            serverConfiguration.setGzipMimeTypes((mimeTypes.size() > 0) ? mimeTypes.toArray(new String[mimeTypes
+                .size()]) : null);
+            serverConfiguration.setGzipCompressionLevel((compressionLevel >= 0) ? Integer.valueOf(compressionLevel)
+                : null);
+        }
+
         if (adapter.isCustomWebDefaultsEnabled())
         {
             serverConfiguration.setCustomWebDefaultsFile(adapter.getCustomWebDefaultFile());
@@ -863,7 +1006,26 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
             AbstractWebDefaults webDefaults = version.createWebDefaults();
 
             webDefaults.setServerCacheEnabled(adapter.isServerCacheEnabled());
+
+            if (adapter.isServerCacheLimitsEnabled())
+            {
+                webDefaults.setMaxCacheSize(adapter.getServerCacheMaxSize());
+                webDefaults.setMaxCachedFileSize(adapter.getServerCacheMaxFileSize());
+                webDefaults.setMaxCachedFiles(adapter.getServerCacheMaxFiles());
+            }
+
             webDefaults.setClientCacheEnabled(adapter.isClientCacheEnabled());
+            webDefaults.setPrecompressedEnabled(adapter.isPrecompressedEnabled());
+            webDefaults.setUseFileMappedBuffer(adapter.isFileMappedBufferEnabled());
+
+            if (adapter.isFileMappedBufferEnabled())
+            {
+                int threshold = adapter.getFileMappedBufferThreshold();
+
+                webDefaults.setFileMappedBufferThreshold((threshold > 0) ? Integer.valueOf(threshold) : null);
+            }
+
+            webDefaults.setEtagsEnabled(adapter.isEtagsEnabled());
 
             File file;
 
@@ -953,4 +1115,245 @@ public class JettyLaunchConfigurationDelegate extends JavaLaunchDelegate
 
         return defaultKeystoreFile;
     }
+
+    /**
+     * Returns the quickstart descriptor for the launch configuration. The descriptor is kept in the state location of
+     * the plugin and its name contains a hash of the web application (the classpath with the sizes and timestamps of
+     * all files, the webapp path and the context path), thus it gets generated anew as soon as anything changes.
+     * Outdated descriptors of the launch configuration are deleted, as well as incomplete ones, that are left behind
+     * by failed starts.
+     *
+     * @param adapter the configuration adapter
+     * @param version the Jetty version
+     * @param classpath the webapp classpath
+     * @return the descriptor (it may not exist, yet), null if the hash could not be computed
+     * @throws CoreException on occasion
+     */
+    private File getQuickstartFile(JettyLaunchConfigurationAdapter adapter, JettyVersionType version,
+        String[] classpath) throws CoreException
+    {
+        String hash = computeQuickstartHash(adapter, version, classpath);
+
+        if (hash == null)
+        {
+            return null;
+        }
+
+        File folder = getQuickstartFolder();
+
+        if ((!folder.exists()) && (!folder.mkdirs()))
+        {
+            JettyPlugin.warning(String.format("Failed to create folder %s", folder)); //$NON-NLS-1$
+
+            return null;
+        }
+
+        String prefix = getQuickstartPrefix(adapter);
+        File file = new File(folder, prefix + hash + ".xml"); //$NON-NLS-1$
+        File[] files = folder.listFiles();
+
+        if (files != null)
+        {
+            for (File current : files)
+            {
+                String name = current.getName();
+
+                if ((name.startsWith(prefix))
+                    && (name.substring(prefix.length()).matches("[0-9a-f]{40}\\.xml(\\.tmp)?")) //$NON-NLS-1$
+                    && (!current.equals(file)) && (!current.delete()))
+                {
+                    JettyPlugin.warning(String.format("Failed to delete outdated quickstart descriptor %s", current)); //$NON-NLS-1$
+                }
+            }
+        }
+
+        return file;
+    }
+
+    private static File getQuickstartFolder()
+    {
+        return JettyPlugin.getDefault().getStateLocation().append(QUICKSTART_FOLDER).toFile();
+    }
+
+    private static String getQuickstartPrefix(JettyLaunchConfigurationAdapter adapter)
+    {
+        return JettyPluginUtils.fixFilename(adapter.getConfiguration().getName()) + "."; //$NON-NLS-1$
+    }
+
+    /**
+     * Computes the hash of the web application for the quickstart descriptor. Only the sizes and timestamps of the
+     * files get touched, no file is read.
+     *
+     * @param adapter the configuration adapter
+     * @param version the Jetty version
+     * @param classpath the webapp classpath
+     * @return the hash, null if it could not be computed
+     * @throws CoreException on occasion
+     */
+    private String computeQuickstartHash(JettyLaunchConfigurationAdapter adapter, JettyVersionType version,
+        String[] classpath) throws CoreException
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+
+            digest.update(String.format("%s|%s|%s|%s|%s|%s", version, adapter.getMajorVersion(), //$NON-NLS-1$
+                adapter.getMinorVersion(), adapter.getMicroVersion(), adapter.getContext().trim(),
+                adapter.getWebAppPath()).getBytes(UTF_8));
+
+            File webAppPath = adapter.getWebAppPath();
+
+            if (webAppPath != null)
+            {
+                updateQuickstartHash(digest, new File(webAppPath, "WEB-INF")); //$NON-NLS-1$
+            }
+
+            for (String entry : classpath)
+            {
+                updateQuickstartHash(digest, new File(entry));
+            }
+
+            StringBuilder builder = new StringBuilder();
+
+            for (byte b : digest.digest())
+            {
+                builder.append(String.format("%02x", b & 0xff)); //$NON-NLS-1$
+            }
+
+            return builder.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            JettyPlugin.warning("Failed to compute hash of web application", e); //$NON-NLS-1$
+        }
+
+        return null;
+    }
+
+    private static void updateQuickstartHash(MessageDigest digest, File file)
+    {
+        if (file.isDirectory())
+        {
+            File[] files = file.listFiles();
+
+            if (files == null)
+            {
+                return;
+            }
+
+            Arrays.sort(files);
+
+            for (File current : files)
+            {
+                updateQuickstartHash(digest, current);
+            }
+
+            return;
+        }
+
+        digest.update(String.format("|%s=%d@%d", file.getAbsolutePath(), file.length(), file.lastModified()) //$NON-NLS-1$
+            .getBytes(UTF_8));
+    }
+
+    /**
+     * Deletes the socket file left behind by a terminated launch, otherwise the connector cannot bind to it. Regular
+     * files and folders are never deleted, neither are sockets, that still accept connections (e.g. of a running
+     * launch).
+     *
+     * @param file the socket file
+     */
+    private void deleteStaleUnixDomainSocket(File file)
+    {
+        try
+        {
+            if ((!file.exists())
+                || (!Files.readAttributes(file.toPath(), BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS)
+                    .isOther()))
+            {
+                return;
+            }
+
+            Boolean alive = isUnixDomainSocketAlive(file);
+
+            if (alive == null)
+            {
+                JettyPlugin.warning(String.format(
+                    "Cannot check the Unix-domain socket %s, it will not be deleted", file)); //$NON-NLS-1$
+
+                return;
+            }
+
+            if (alive.booleanValue())
+            {
+                JettyPlugin.warning(String.format(
+                    "The Unix-domain socket %s is in use by another process, it will not be deleted", file)); //$NON-NLS-1$
+
+                return;
+            }
+
+            Files.delete(file.toPath());
+        }
+        catch (IOException e)
+        {
+            JettyPlugin.warning(String.format("Failed to delete stale Unix-domain socket %s", file), e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Tries to connect to the Unix-domain socket. Unix-domain sockets are available since Java 16, thus the methods
+     * are called by reflection.
+     *
+     * @param file the socket file
+     * @return true if the socket accepts connections, false if not, null if the IDE runs on a Java without support
+     */
+    private static Boolean isUnixDomainSocketAlive(File file)
+    {
+        Object address;
+        ProtocolFamily family;
+
+        try
+        {
+            address =
+                Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", java.nio.file.Path.class) //$NON-NLS-1$ //$NON-NLS-2$
+                    .invoke(null, file.toPath());
+            family = StandardProtocolFamily.valueOf("UNIX"); //$NON-NLS-1$
+        }
+        catch (Exception e)
+        {
+            return null;
+        }
+
+        SocketChannel channel = null;
+
+        try
+        {
+            channel =
+                (SocketChannel) SocketChannel.class.getMethod("open", ProtocolFamily.class).invoke(null, family); //$NON-NLS-1$
+
+            return Boolean.valueOf(channel.connect((SocketAddress) address));
+        }
+        catch (InvocationTargetException e)
+        {
+            return null;
+        }
+        catch (Exception e)
+        {
+            // connection refused, nobody is listening
+            return Boolean.FALSE;
+        }
+        finally
+        {
+            if (channel != null)
+            {
+                try
+                {
+                    channel.close();
+                }
+                catch (IOException e)
+                {
+                    // ignore
+                }
+            }
+        }
+    }
 }
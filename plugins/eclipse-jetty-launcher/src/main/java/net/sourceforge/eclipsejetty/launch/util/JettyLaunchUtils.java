@@ -11,10 +11,19 @@
 // limitations under the License.
 package net.sourceforge.eclipsejetty.launch.util;
 
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import net.sourceforge.eclipsejetty.JettyPlugin;
 import net.sourceforge.eclipsejetty.Messages;
@@ -35,6 +44,12 @@ import org.eclipse.debug.core.DebugPlugin;
 public class JettyLaunchUtils
 {
 
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1"); //$NON-NLS-1$
+    private static final byte[] JAVAX_SERVLET_ANNOTATION =
+        "javax/servlet/annotation/".getBytes(ISO_8859_1); //$NON-NLS-1$
+    private static final byte[] JAKARTA_SERVLET_ANNOTATION =
+        "jakarta/servlet/annotation/".getBytes(ISO_8859_1); //$NON-NLS-1$
+
     private JettyLaunchUtils()
     {
         super();
@@ -224,4 +239,318 @@ public class JettyLaunchUtils
 
         return result;
     }
+
+    /**
+     * Derives a pattern for the WebInfIncludeJarPattern of Jetty from the jars of the classpath. Only jars, that
+     * contain web fragments, servlet container initializers, TLDs, web resources or classes referencing the servlet
+     * annotations (e.g. @WebServlet or @HandlesTypes), are included. All other jars are plain libraries and are
+     * skipped by the annotation scanning. Folders are not affected by the pattern. Classes that are just subclasses or
+     * implementations of types handled by an initializer of another jar cannot be detected.
+     * 
+     * @param classpath the classpath of the web application
+     * @return the pattern
+     */
+    public static String deriveWebInfIncludeJarPattern(String[] classpath)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (String entry : classpath)
+        {
+            File file = new File(entry);
+
+            if ((!file.isFile()) || (!isWebJar(file)))
+            {
+                continue;
+            }
+
+            // Jetty matches the pattern against the URI of the jar
+            String uri = file.toURI().toString();
+
+            if (builder.length() > 0)
+            {
+                builder.append("|"); //$NON-NLS-1$
+            }
+
+            builder.append(Pattern.quote(uri.substring(uri.lastIndexOf('/') + 1)));
+        }
+
+        if (builder.length() == 0)
+        {
+            return "^$"; // matches no jar //$NON-NLS-1$
+        }
+
+        return ".*/(" + builder + ")$"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Computes a fingerprint of the jars of the classpath, that changes whenever one of the jars changes (e.g. an
+     * updated SNAPSHOT dependency).
+     * 
+     * @param classpath the classpath of the web application
+     * @return the fingerprint
+     */
+    public static String computeClasspathFingerprint(String[] classpath)
+    {
+        long hash = 17;
+
+        for (String entry : classpath)
+        {
+            File file = new File(entry);
+
+            hash = (hash * 31) + entry.hashCode();
+            hash = (hash * 31) + file.lastModified();
+            hash = (hash * 31) + file.length();
+        }
+
+        return Long.toHexString(hash);
+    }
+
+    private static boolean isWebJar(File file)
+    {
+        try
+        {
+            ZipFile zipFile = new ZipFile(file);
+
+            try
+            {
+                List<ZipEntry> classEntries = new ArrayList<ZipEntry>();
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+
+                while (entries.hasMoreElements())
+                {
+                    ZipEntry entry = entries.nextElement();
+                    String name = entry.getName();
+
+                    if (name.endsWith(".class")) //$NON-NLS-1$
+                    {
+                        classEntries.add(entry);
+
+                        continue;
+                    }
+
+                    if ((!name.startsWith("META-INF/")) || (name.startsWith("META-INF/maven/"))) //$NON-NLS-1$ //$NON-NLS-2$
+                    {
+                        continue;
+                    }
+
+                    if ((name.equals("META-INF/web-fragment.xml")) //$NON-NLS-1$
+                        || (name.equals("META-INF/services/javax.servlet.ServletContainerInitializer")) //$NON-NLS-1$
+                        || (name.equals("META-INF/services/jakarta.servlet.ServletContainerInitializer")) //$NON-NLS-1$
+                        || (name.startsWith("META-INF/resources/")) //$NON-NLS-1$
+                        || (name.endsWith(".tld"))) //$NON-NLS-1$
+                    {
+                        // the names are cheap, the classes are not
+                        return true;
+                    }
+                }
+
+                ClassBuffer buffer = new ClassBuffer();
+
+                for (ZipEntry entry : classEntries)
+                {
+                    if (referencesServletAnnotation(zipFile, entry, buffer))
+                    {
+                        return true;
+                    }
+                }
+            }
+            finally
+            {
+                zipFile.close();
+            }
+        }
+        catch (IOException e)
+        {
+            // not readable, let Jetty decide
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Searches the UTF-8 entries of the constant pool of the class for the package of the servlet annotations. Only
+     * the constant pool gets read, the rest of the class (fields, methods, code) is never inflated.
+     * 
+     * @param zipFile the jar
+     * @param entry the class
+     * @param buffer the buffer, reused for all classes of the jar
+     * @return true if the class references one of the servlet annotations, or if the class cannot be parsed
+     * @throws IOException on occasion
+     */
+    private static boolean referencesServletAnnotation(ZipFile zipFile, ZipEntry entry, ClassBuffer buffer)
+        throws IOException
+    {
+        InputStream in = zipFile.getInputStream(entry);
+
+        try
+        {
+            buffer.reset(in);
+            buffer.require(10);
+
+            if (buffer.readInt(0) != 0xCAFEBABE)
+            {
+                // not a class, let Jetty decide
+                return true;
+            }
+
+            int count = buffer.readUnsignedShort(8);
+            int position = 10;
+
+            for (int i = 1; i < count; i += 1)
+            {
+                // the tag and the length of an UTF-8 entry, the constant pool is followed by at least 8 bytes anyway
+                buffer.require(position + 3);
+
+                int tag = buffer.readUnsignedByte(position);
+
+                position += 1;
+
+                switch (tag)
+                {
+                    case 1: // Utf8
+                        int length = buffer.readUnsignedShort(position);
+
+                        position += 2;
+                        buffer.require(position + length);
+
+                        if ((buffer.contains(position, length, JAVAX_SERVLET_ANNOTATION))
+                            || (buffer.contains(position, length, JAKARTA_SERVLET_ANNOTATION)))
+                        {
+                            return true;
+                        }
+
+                        position += length;
+                        break;
+
+                    case 7: // Class
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        position += 2;
+                        break;
+
+                    case 15: // MethodHandle
+                        position += 3;
+                        break;
+
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        position += 4;
+                        break;
+
+                    case 5: // Long
+                    case 6: // Double
+                        position += 8;
+                        i += 1; // takes two slots
+                        break;
+
+                    default:
+                        // unknown class file format, let Jetty decide
+                        return true;
+                }
+            }
+
+            return false;
+        }
+        catch (EOFException e)
+        {
+            // truncated class, let Jetty decide
+            return true;
+        }
+        finally
+        {
+            in.close();
+        }
+    }
+
+    /**
+     * Holds the beginning of a class file. The bytes get inflated on demand, just as far as they are parsed.
+     */
+    private static class ClassBuffer
+    {
+        private byte[] bytes = new byte[8192];
+        private InputStream in;
+        private int length;
+
+        public void reset(InputStream in)
+        {
+            this.in = in;
+
+            length = 0;
+        }
+
+        public void require(int end) throws IOException
+        {
+            if (end <= length)
+            {
+                return;
+            }
+
+            if (end > bytes.length)
+            {
+                byte[] newBytes = new byte[Math.max(end, bytes.length * 2)];
+
+                System.arraycopy(bytes, 0, newBytes, 0, length);
+                bytes = newBytes;
+            }
+
+            // read a little ahead, the constant pool consists of many small entries
+            int limit = Math.min(bytes.length, end + 1024);
+
+            while (length < end)
+            {
+                int count = in.read(bytes, length, limit - length);
+
+                if (count < 0)
+                {
+                    throw new EOFException();
+                }
+
+                length += count;
+            }
+        }
+
+        public int readUnsignedByte(int position)
+        {
+            return bytes[position] & 0xff;
+        }
+
+        public int readUnsignedShort(int position)
+        {
+            return (readUnsignedByte(position) << 8) | readUnsignedByte(position + 1);
+        }
+
+        public int readInt(int position)
+        {
+            return (readUnsignedShort(position) << 16) | readUnsignedShort(position + 2);
+        }
+
+        public boolean contains(int position, int length, byte[] value)
+        {
+            for (int i = position; i <= position + length - value.length; i += 1)
+            {
+                int j = 0;
+
+                while ((j < value.length) && (bytes[i + j] == value[j]))
+                {
+                    j += 1;
+                }
+
+                if (j == value.length)
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
 }
@@ -0,0 +1,150 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Combines a list of {@link RegularMatcher}s into one single alternation, that is compiled once. A value matches, if
+ * it matches at least one of the regular expressions, or if it equals one of them ignoring the case (the same
+ * semantics as {@link RegularMatcher#matches(String)}). Expressions with back references cannot be combined, because
+ * the alternation shifts the group numbers. These get tested one by one.
+ *
+ * @author Manfred Hantschel
+ */
+public class CombinedRegularMatcher
+{
+
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\[1-9]|\\\\k<"); //$NON-NLS-1$
+
+    private final List<RegularMatcher> matchers;
+    private final Pattern pattern;
+    private final Set<String> literals;
+    private final List<RegularMatcher> separateMatchers;
+
+    public CombinedRegularMatcher(List<RegularMatcher> matchers)
+    {
+        super();
+
+        this.matchers = matchers;
+
+        StringBuilder builder = new StringBuilder();
+
+        literals = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        separateMatchers = new ArrayList<RegularMatcher>();
+
+        for (RegularMatcher matcher : matchers)
+        {
+            literals.add(matcher.getRegex());
+
+            if (matcher.getPattern() == null)
+            {
+                continue;
+            }
+
+            if (BACK_REFERENCE.matcher(matcher.getRegex()).find())
+            {
+                separateMatchers.add(matcher);
+
+                continue;
+            }
+
+            if (builder.length() > 0)
+            {
+                builder.append("|"); //$NON-NLS-1$
+            }
+
+            builder.append("(?:").append(matcher.getRegex()).append(")"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        pattern = compile(builder.toString());
+    }
+
+    private Pattern compile(String regex)
+    {
+        if (regex.length() == 0)
+        {
+            return null;
+        }
+
+        try
+        {
+            return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+        }
+        catch (PatternSyntaxException e)
+        {
+            // some expressions, e.g. an unterminated \Q, cannot be embedded in a group
+            separateMatchers.clear();
+
+            for (RegularMatcher matcher : matchers)
+            {
+                if (matcher.getPattern() != null)
+                {
+                    separateMatchers.add(matcher);
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the value matches one of the regular expressions.
+     *
+     * @param value the value, may be null
+     * @return true on match
+     */
+    public boolean matches(String value)
+    {
+        if (value == null)
+        {
+            return false;
+        }
+
+        if (literals.contains(value))
+        {
+            return true;
+        }
+
+        if ((pattern != null) && (pattern.matcher(value).matches()))
+        {
+            return true;
+        }
+
+        for (RegularMatcher matcher : separateMatchers)
+        {
+            if (matcher.matches(value))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return String.valueOf(matchers);
+    }
+
+}
@@ -39,7 +39,7 @@ import org.w3c.dom.ProcessingInstruction;
  * 
  * @author Manfred Hantschel
  */
-public class DOMBuilder
+public class DOMBuilder implements XMLBuilder
 {
 
     protected Document document = null;
@@ -52,6 +52,7 @@ public class Dependency
 
     private final String genericId;
     private final String location;
+    private final String backSlashLocation;
     private final IRuntimeClasspathEntry runtimeClasspathEntry;
     private final MavenDependencyInfo mavenDependencyInfo;
 
@@ -62,6 +63,7 @@ public class Dependency
 
         this.genericId = genericId;
         this.location = location;
+        this.backSlashLocation = (location != null) ? location.replace('/', '\\') : null;
         this.runtimeClasspathEntry = runtimeClasspathEntry;
         this.mavenDependencyInfo = mavenDependencyInfo;
     }
@@ -86,6 +88,17 @@ public class Dependency
         return location;
     }
 
+    /**
+     * Returns the location with back slashes instead of forward slashes. The value is computed once, because it is
+     * needed by the regular expression matchers for each entry.
+     * 
+     * @return the location with back slashes
+     */
+    public String getBackSlashLocation()
+    {
+        return backSlashLocation;
+    }
+
     /**
      * Returns the original classpath entry
      * 
@@ -14,6 +14,8 @@ package net.sourceforge.eclipsejetty.util;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -35,6 +37,11 @@ import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
 public abstract class DependencyMatcher
 {
 
+    /**
+     * The rank of entries, that do not match.
+     */
+    protected static final long NO_MATCH = -1;
+
     /**
      * Matches all entries.
      * 
@@ -46,9 +53,9 @@ public abstract class DependencyMatcher
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                return entries;
+                return true;
             }
 
             @Override
@@ -81,17 +88,49 @@ public abstract class DependencyMatcher
         return new DependencyMatcher()
         {
 
+            private final long capacity = computeAndCapacity(matchers);
+
+            @Override
+            protected boolean matches(Dependency entry)
+            {
+                for (DependencyMatcher matcher : matchers)
+                {
+                    if (!matcher.matches(entry))
+                    {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected long rank(Dependency entry)
             {
-                Collection<Dependency> results = new LinkedHashSet<Dependency>(entries);
+                // each matcher reorders the result of the previous one, thus the rank of the last matcher counts most
+                long rank = 0;
+                long factor = 1;
 
                 for (DependencyMatcher matcher : matchers)
                 {
-                    results = matcher.match(results);
+                    long matcherRank = matcher.rank(entry);
+
+                    if (matcherRank == NO_MATCH)
+                    {
+                        return NO_MATCH;
+                    }
+
+                    rank += matcherRank * factor;
+                    factor *= matcher.getRankCapacity();
                 }
 
-                return results;
+                return rank;
+            }
+
+            @Override
+            protected long getRankCapacity()
+            {
+                return capacity;
             }
 
             @Override
@@ -125,17 +164,43 @@ public abstract class DependencyMatcher
         return new DependencyMatcher()
         {
 
+            private final long branchCapacity = computeOrBranchCapacity(matchers);
+
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Collection<Dependency> results = new LinkedHashSet<Dependency>();
-
                 for (DependencyMatcher matcher : matchers)
                 {
-                    results.addAll(matcher.match(new ArrayList<Dependency>(entries)));
+                    if (matcher.matches(entry))
+                    {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            @Override
+            protected long rank(Dependency entry)
+            {
+                for (int i = 0; i < matchers.length; i += 1)
+                {
+                    long matcherRank = matchers[i].rank(entry);
+
+                    if (matcherRank != NO_MATCH)
+                    {
+                        // the entries of the first matching matcher are listed first
+                        return (i * branchCapacity) + matcherRank;
+                    }
                 }
 
-                return results;
+                return NO_MATCH;
+            }
+
+            @Override
+            protected long getRankCapacity()
+            {
+                return matchers.length * branchCapacity;
             }
 
             @Override
@@ -160,11 +225,9 @@ public abstract class DependencyMatcher
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                entries.removeAll(matcher.match(new ArrayList<Dependency>(entries)));
-
-                return entries;
+                return !matcher.matches(entry);
             }
 
             @Override
@@ -209,21 +272,9 @@ public abstract class DependencyMatcher
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
-
-                while (iterator.hasNext())
-                {
-                    Dependency entry = iterator.next();
-
-                    if (classpathProperty != entry.getRuntimeClasspathEntry().getClasspathProperty())
-                    {
-                        iterator.remove();
-                    }
-                }
-
-                return entries;
+                return classpathProperty == entry.getRuntimeClasspathEntry().getClasspathProperty();
             }
 
             @Override
@@ -285,21 +336,9 @@ public abstract class DependencyMatcher
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
-
-                while (iterator.hasNext())
-                {
-                    Dependency entry = iterator.next();
-
-                    if (type != entry.getRuntimeClasspathEntry().getType())
-                    {
-                        iterator.remove();
-                    }
-                }
-
-                return entries;
+                return type == entry.getRuntimeClasspathEntry().getType();
             }
 
             @Override
@@ -342,23 +381,9 @@ public abstract class DependencyMatcher
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
-
-                while (iterator.hasNext())
-                {
-                    Dependency entry = iterator.next();
-
-                    if (scope == entry.getScope())
-                    {
-                        continue;
-                    }
-
-                    iterator.remove();
-                }
-
-                return entries;
+                return scope == entry.getScope();
             }
 
             @Override
@@ -385,19 +410,9 @@ public abstract class DependencyMatcher
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
-
-                while (iterator.hasNext())
-                {
-                    if (excludedEntriesSet.contains(iterator.next().getRuntimeClasspathEntry()))
-                    {
-                        iterator.remove();
-                    }
-                }
-
-                return entries;
+                return !excludedEntriesSet.contains(entry.getRuntimeClasspathEntry());
             }
 
             @Override
@@ -420,44 +435,27 @@ public abstract class DependencyMatcher
     @Deprecated
     public static DependencyMatcher isIncludedRegEx(Collection<String> included) throws CoreException
     {
-        final List<RegularMatcher> includedLibs = new ArrayList<RegularMatcher>();
+        final List<RegularMatcher> includedLibsList = new ArrayList<RegularMatcher>();
 
         try
         {
-            JettyPluginUtils.extractPatterns(includedLibs, included);
+            JettyPluginUtils.extractPatterns(includedLibsList, included);
         }
         catch (final IllegalArgumentException e)
         {
             throw new CoreException(new Status(IStatus.ERROR, JettyPlugin.PLUGIN_ID, e.getMessage(), e));
         }
 
+        final CombinedRegularMatcher includedLibs = new CombinedRegularMatcher(includedLibsList);
+
         return new DependencyMatcher()
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
-
-                entry: while (iterator.hasNext())
-                {
-                    IRuntimeClasspathEntry entry = iterator.next().getRuntimeClasspathEntry();
-                    String path = entry.getLocation();
-                    String forwardSlashes = path.replace('\\', '/');
-                    String backSlashes = path.replace('/', '\\');
-
-                    for (final RegularMatcher includedLib : includedLibs)
-                    {
-                        if ((includedLib.matches(forwardSlashes)) || (includedLib.matches(backSlashes)))
-                        {
-                            continue entry;
-                        }
-                    }
-
-                    iterator.remove();
-                }
-
-                return entries;
+                return (includedLibs.matches(entry.getLocation()))
+                    || (includedLibs.matches(entry.getBackSlashLocation()));
             }
 
             @Override
@@ -480,43 +478,27 @@ public abstract class DependencyMatcher
     @Deprecated
     public static DependencyMatcher notExcludedRegEx(Collection<String> excluded) throws CoreException
     {
-        final List<RegularMatcher> excludedLibs = new ArrayList<RegularMatcher>();
+        final List<RegularMatcher> excludedLibsList = new ArrayList<RegularMatcher>();
 
         try
         {
-            JettyPluginUtils.extractPatterns(excludedLibs, excluded);
+            JettyPluginUtils.extractPatterns(excludedLibsList, excluded);
         }
         catch (final IllegalArgumentException e)
         {
             throw new CoreException(new Status(IStatus.ERROR, JettyPlugin.PLUGIN_ID, e.getMessage(), e));
         }
 
+        final CombinedRegularMatcher excludedLibs = new CombinedRegularMatcher(excludedLibsList);
+
         return new DependencyMatcher()
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
-
-                entry: while (iterator.hasNext())
-                {
-                    IRuntimeClasspathEntry entry = iterator.next().getRuntimeClasspathEntry();
-                    String path = entry.getLocation();
-                    String forwardSlashes = path.replace('\\', '/');
-                    String backSlashes = path.replace('/', '\\');
-
-                    for (final RegularMatcher excludedLib : excludedLibs)
-                    {
-                        if ((excludedLib.matches(forwardSlashes)) || (excludedLib.matches(backSlashes)))
-                        {
-                            iterator.remove();
-                            continue entry;
-                        }
-                    }
-                }
-
-                return entries;
+                return (!excludedLibs.matches(entry.getLocation()))
+                    && (!excludedLibs.matches(entry.getBackSlashLocation()));
             }
 
             @Override
@@ -529,7 +511,8 @@ public abstract class DependencyMatcher
     }
 
     /**
-     * Matches all entries, that are included
+     * Matches all entries, that are included. A generic id ending with a "*" (e.g. "groupId:*") includes all entries,
+     * whose generic id start with the part in front of the "*".
      * 
      * @param includedGenericIds a list of generic ids
      * @return all matching entries
@@ -538,40 +521,29 @@ public abstract class DependencyMatcher
     public static DependencyMatcher isIncludedGenericId(final Collection<String> includedGenericIds)
         throws CoreException
     {
+        final GenericIdIndex index = new GenericIdIndex(includedGenericIds);
+
         return new DependencyMatcher()
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
-
-                while (iterator.hasNext())
-                {
-                    Dependency entry = iterator.next();
-
-                    if (includedGenericIds.contains(entry.getGenericId()))
-                    {
-                        continue;
-                    }
-
-                    iterator.remove();
-                }
-
-                return entries;
+                return index.contains(entry.getGenericId());
             }
 
             @Override
             public String toString()
             {
-                return "included" + includedGenericIds; //$NON-NLS-1$
+                return "included" + index; //$NON-NLS-1$
             }
 
         };
     }
 
     /**
-     * Matches all entries, that are not excluded
+     * Matches all entries, that are not excluded. A generic id ending with a "*" (e.g. "groupId:*") excludes all
+     * entries, whose generic id start with the part in front of the "*".
      * 
      * @param excludedGenericIds a list of generic ids
      * @return all matching entries
@@ -580,39 +552,181 @@ public abstract class DependencyMatcher
     public static DependencyMatcher notExcludedGenericIds(final Collection<String> excludedGenericIds)
         throws CoreException
     {
+        final GenericIdIndex index = new GenericIdIndex(excludedGenericIds);
+
         return new DependencyMatcher()
         {
 
             @Override
-            public Collection<Dependency> match(Collection<Dependency> entries)
+            protected boolean matches(Dependency entry)
             {
-                Iterator<Dependency> iterator = entries.iterator();
+                return !index.contains(entry.getGenericId());
+            }
 
-                while (iterator.hasNext())
-                {
-                    Dependency entry = iterator.next();
+            @Override
+            public String toString()
+            {
+                return "notExcluded" + index; //$NON-NLS-1$
+            }
 
-                    if (!excludedGenericIds.contains(entry.getGenericId()))
-                    {
-                        continue;
-                    }
+        };
+    }
+
+    /**
+     * Computes the number of distinct ranks of an {@link #and(DependencyMatcher...)}, which is the product of the
+     * capacities of its matchers.
+     * 
+     * @param matchers the matchers
+     * @return the capacity
+     */
+    private static long computeAndCapacity(DependencyMatcher... matchers)
+    {
+        long capacity = 1;
+
+        for (DependencyMatcher matcher : matchers)
+        {
+            capacity = multiplyCapacity(capacity, matcher.getRankCapacity());
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Computes the number of distinct ranks of each branch of an {@link #or(DependencyMatcher...)}, which is the
+     * maximum of the capacities of its matchers.
+     * 
+     * @param matchers the matchers
+     * @return the capacity of each branch
+     */
+    private static long computeOrBranchCapacity(DependencyMatcher... matchers)
+    {
+        long capacity = 1;
+
+        for (DependencyMatcher matcher : matchers)
+        {
+            capacity = Math.max(capacity, matcher.getRankCapacity());
+        }
+
+        // the capacity of the or itself must not overflow
+        multiplyCapacity(capacity, matchers.length);
+
+        return capacity;
+    }
+
+    private static long multiplyCapacity(long left, long right)
+    {
+        if (left > (Long.MAX_VALUE / right))
+        {
+            throw new IllegalArgumentException("Too many nested matchers to rank the entries"); //$NON-NLS-1$
+        }
+
+        return left * right;
+    }
+
+    private static final Comparator<RankedDependency> RANK_COMPARATOR = new Comparator<RankedDependency>()
+    {
+        public int compare(RankedDependency left, RankedDependency right)
+        {
+            return (left.rank < right.rank) ? -1 : ((left.rank == right.rank) ? 0 : 1);
+        }
+    };
+
+    private static class RankedDependency
+    {
+        private final Dependency dependency;
+        private final long rank;
+
+        public RankedDependency(Dependency dependency, long rank)
+        {
+            super();
+
+            this.dependency = dependency;
+            this.rank = rank;
+        }
+    }
+
+    /**
+     * Filters the entries in a single pass: each entry is evaluated once against the whole matcher tree, without
+     * creating intermediate collections. Removes all entries, that do not match, from the specified collection and
+     * returns it. The order of the result is the same as if the matchers were applied one after another, e.g. an
+     * {@link #or(DependencyMatcher...)} lists the matches of its first matcher first.
+     * 
+     * @param entries the entries, will be modified
+     * @return the matching entries
+     */
+    public Collection<Dependency> match(Collection<Dependency> entries)
+    {
+        if (getRankCapacity() == 1)
+        {
+            Iterator<Dependency> iterator = entries.iterator();
 
+            while (iterator.hasNext())
+            {
+                if (!matches(iterator.next()))
+                {
                     iterator.remove();
                 }
-
-                return entries;
             }
 
-            @Override
-            public String toString()
+            return entries;
+        }
+
+        List<RankedDependency> results = new ArrayList<RankedDependency>(entries.size());
+
+        for (Dependency entry : entries)
+        {
+            long rank = rank(entry);
+
+            if (rank != NO_MATCH)
             {
-                return "notExcluded" + excludedGenericIds; //$NON-NLS-1$
+                results.add(new RankedDependency(entry, rank));
             }
+        }
 
-        };
+        // the sort is stable, equally ranked entries keep their order
+        Collections.sort(results, RANK_COMPARATOR);
+
+        entries.clear();
+
+        for (RankedDependency result : results)
+        {
+            entries.add(result.dependency);
+        }
+
+        return entries;
     }
 
-    public abstract Collection<Dependency> match(Collection<Dependency> entries);
+    /**
+     * Returns true if the entry matches.
+     * 
+     * @param entry the entry
+     * @return true if the entry matches
+     */
+    protected abstract boolean matches(Dependency entry);
+
+    /**
+     * Returns the rank of the entry, that defines the position of the entry in the result. The rank is a number
+     * between 0 and {@link #getRankCapacity()} - 1. Reordering matchers compose the ranks of their matchers like the
+     * digits of a number, thus no per-entry structures are needed.
+     * 
+     * @param entry the entry
+     * @return the rank, {@link #NO_MATCH} if the entry does not match
+     */
+    protected long rank(Dependency entry)
+    {
+        return (matches(entry)) ? 0 : NO_MATCH;
+    }
+
+    /**
+     * Returns the number of distinct ranks of the matcher. It is 1, if the matcher does not change the order of the
+     * entries.
+     * 
+     * @return the number of distinct ranks
+     */
+    protected long getRankCapacity()
+    {
+        return 1;
+    }
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,163 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable index of generic ids. Plain ids are stored in a hash set. Ids ending with a {@link #WILDCARD}, like
+ * "groupId:*", match all generic ids starting with the part in front of the wildcard. These are stored in a prefix
+ * trie, thus a lookup takes constant time in the number of ids.
+ *
+ * @author Manfred Hantschel
+ */
+public class GenericIdIndex
+{
+
+    public static final char WILDCARD = '*';
+
+    private static class Node
+    {
+        private final Map<Character, Node> children = new HashMap<Character, Node>();
+
+        private boolean terminal = false;
+
+        public Node getChild(char ch)
+        {
+            return children.get(Character.valueOf(ch));
+        }
+
+        public Node getOrCreateChild(char ch)
+        {
+            Node child = getChild(ch);
+
+            if (child == null)
+            {
+                child = new Node();
+                children.put(Character.valueOf(ch), child);
+            }
+
+            return child;
+        }
+    }
+
+    private final String description;
+    private final Set<String> genericIds;
+    private final Node prefixes;
+
+    public GenericIdIndex(Collection<String> genericIds)
+    {
+        super();
+
+        Set<String> ids = new HashSet<String>();
+        Node root = null;
+
+        if (genericIds != null)
+        {
+            for (String genericId : genericIds)
+            {
+                if (genericId == null)
+                {
+                    continue;
+                }
+
+                ids.add(genericId);
+
+                if ((genericId.length() > 0) && (genericId.charAt(genericId.length() - 1) == WILDCARD))
+                {
+                    if (root == null)
+                    {
+                        root = new Node();
+                    }
+
+                    Node node = root;
+
+                    for (int i = 0; i < genericId.length() - 1; i += 1)
+                    {
+                        node = node.getOrCreateChild(genericId.charAt(i));
+                    }
+
+                    node.terminal = true;
+                }
+            }
+        }
+
+        description = String.valueOf(genericIds);
+        this.genericIds = Collections.unmodifiableSet(ids);
+        prefixes = root;
+    }
+
+    /**
+     * Returns true if the index contains the generic id, either directly or by a wildcard.
+     *
+     * @param genericId the generic id
+     * @return true if contained
+     */
+    public boolean contains(String genericId)
+    {
+        if (genericId == null)
+        {
+            return false;
+        }
+
+        if (genericIds.contains(genericId))
+        {
+            return true;
+        }
+
+        Node node = prefixes;
+
+        for (int i = 0; node != null; i += 1)
+        {
+            if (node.terminal)
+            {
+                return true;
+            }
+
+            if (i >= genericId.length())
+            {
+                break;
+            }
+
+            node = node.getChild(genericId.charAt(i));
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns true if the index is empty.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty()
+    {
+        return genericIds.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString()
+    {
+        return description;
+    }
+
+}
@@ -48,6 +48,26 @@ public class RegularMatcher implements Serializable
         this.pattern = pattern;
     }
 
+    /**
+     * Returns the regular expression as specified.
+     * 
+     * @return the regular expression
+     */
+    public String getRegex()
+    {
+        return regex;
+    }
+
+    /**
+     * Returns the compiled pattern.
+     * 
+     * @return the pattern, null if the regular expression is invalid
+     */
+    public Pattern getPattern()
+    {
+        return pattern;
+    }
+
     public boolean matches(String value)
     {
 
@@ -0,0 +1,537 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Builds an XML document by streaming it directly to an {@link XMLStreamWriter}, without creating a DOM. The output
+ * is the same, as the one of the {@link DOMBuilder#write(OutputStream, boolean)}: attributes are sorted by name,
+ * elements without content are closed immediately, formatted documents are indented by four spaces. Call
+ * {@link #close()} after the root element has been ended.
+ *
+ * @author Manfred Hantschel
+ */
+public class StAXBuilder implements XMLBuilder
+{
+
+    private static final String ESCAPE_CHARACTERS = "escapeCharacters"; //$NON-NLS-1$
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator"); //$NON-NLS-1$
+    private static final String INDENT = "    "; //$NON-NLS-1$
+
+    /**
+     * Orders attributes like the transformer: namespace declarations first, then all others, each by name
+     */
+    private static final Comparator<String> ATTRIBUTE_ORDER = new Comparator<String>()
+    {
+        public int compare(String left, String right)
+        {
+            boolean leftNamespace = isNamespaceDeclaration(left);
+            boolean rightNamespace = isNamespaceDeclaration(right);
+
+            if (leftNamespace != rightNamespace)
+            {
+                return (leftNamespace) ? -1 : 1;
+            }
+
+            return left.compareTo(right);
+        }
+    };
+
+    /**
+     * An element, that has been started
+     */
+    private static class Frame
+    {
+        private final String name;
+        private final Map<String, String> attributes = new TreeMap<String, String>(ATTRIBUTE_ORDER);
+
+        private boolean pending = true;
+        private boolean hasChildren = false;
+        private StringBuilder text = null;
+
+        public Frame(String name)
+        {
+            super();
+
+            this.name = name;
+        }
+    }
+
+    private final Writer writer;
+    private final XMLStreamWriter out;
+    private final boolean formatted;
+    private final boolean escaping;
+    private final LinkedList<Frame> frames = new LinkedList<Frame>();
+
+    /**
+     * Creates the builder and writes the XML declaration.
+     *
+     * @param out the stream
+     * @param formatted true if formatted
+     * @throws IOException on occasion
+     */
+    public StAXBuilder(OutputStream out, boolean formatted) throws IOException
+    {
+        super();
+
+        this.formatted = formatted;
+
+        writer = new OutputStreamWriter(out, "UTF-8"); //$NON-NLS-1$
+
+        XMLOutputFactory factory = XMLOutputFactory.newInstance();
+
+        // texts get escaped the same way as the transformer does it, attributes are always escaped by the writer
+        escaping = factory.isPropertySupported(ESCAPE_CHARACTERS);
+
+        if (escaping)
+        {
+            factory.setProperty(ESCAPE_CHARACTERS, Boolean.FALSE);
+        }
+
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>"); //$NON-NLS-1$
+
+        if (formatted)
+        {
+            writer.write(LINE_SEPARATOR);
+        }
+
+        try
+        {
+            this.out = factory.createXMLStreamWriter(writer);
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(String.format("Failed to create writer: %s", e)); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#comment(java.lang.Object)
+     */
+    public StAXBuilder comment(Object comment)
+    {
+        try
+        {
+            beginChild();
+
+            out.writeComment(escapeComment(String.valueOf(comment)));
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IllegalStateException("Failed to write comment", e); //$NON-NLS-1$
+        }
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#begin(java.lang.String)
+     */
+    public StAXBuilder begin(String name)
+    {
+        try
+        {
+            if (frames.isEmpty())
+            {
+                // the transformer writes the doc type in front of the root element
+                out.writeDTD(String.format(
+                    "<!DOCTYPE %s PUBLIC \"-//Jetty//Configure//EN\" \"https://www.eclipse.org/jetty/configure_10_0.dtd\">", //$NON-NLS-1$
+                    name));
+                out.writeCharacters(LINE_SEPARATOR);
+            }
+            else
+            {
+                beginChild();
+            }
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IllegalStateException("Failed to begin element", e); //$NON-NLS-1$
+        }
+
+        frames.addLast(new Frame(name));
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#attribute(java.lang.String, java.lang.Object)
+     */
+    public StAXBuilder attribute(String name, Object value)
+    {
+        if (value != null)
+        {
+            Frame frame = frames.getLast();
+
+            if (!frame.pending)
+            {
+                throw new IllegalStateException(String.format("Element %s has already been written", frame.name)); //$NON-NLS-1$
+            }
+
+            frame.attributes.put(name, String.valueOf(value));
+        }
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#text(java.lang.Object)
+     */
+    public StAXBuilder text(Object text)
+    {
+        if (text == null)
+        {
+            return this;
+        }
+
+        String value = String.valueOf(text);
+
+        if (value.length() == 0)
+        {
+            return this;
+        }
+
+        if (frames.isEmpty())
+        {
+            throw new IllegalStateException("No element to add the text to"); //$NON-NLS-1$
+        }
+
+        Frame frame = frames.getLast();
+
+        // the text gets written with the next event, because formatting depends on the siblings
+        if (frame.text == null)
+        {
+            frame.text = new StringBuilder();
+        }
+
+        frame.text.append(value);
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#element(java.lang.String)
+     */
+    public StAXBuilder element(String name)
+    {
+        begin(name);
+        end();
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#element(java.lang.String, java.lang.Object)
+     */
+    public StAXBuilder element(String name, Object text)
+    {
+        begin(name);
+        text(text);
+        end();
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#element(java.lang.String, java.lang.String,
+     *      java.lang.Object)
+     */
+    public StAXBuilder element(String name, String attrName, Object attrValue)
+    {
+        begin(name);
+        attribute(attrName, attrValue);
+        end();
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#element(java.lang.String, java.lang.String,
+     *      java.lang.Object, java.lang.Object)
+     */
+    public StAXBuilder element(String name, String attrName, Object attrValue, Object text)
+    {
+        begin(name);
+        attribute(attrName, attrValue);
+        text(text);
+        end();
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see net.sourceforge.eclipsejetty.util.XMLBuilder#end()
+     */
+    public StAXBuilder end()
+    {
+        Frame frame = frames.getLast();
+
+        try
+        {
+            if ((frame.pending) && (frame.text == null))
+            {
+                out.writeEmptyElement(frame.name);
+
+                writeAttributes(frame);
+            }
+            else
+            {
+                flush();
+                writeText(frame, frame.hasChildren);
+
+                if ((formatted) && (frame.hasChildren))
+                {
+                    indent(frames.size() - 1);
+                }
+
+                out.writeEndElement();
+            }
+
+            frames.removeLast();
+
+            if ((formatted) && (frames.isEmpty()))
+            {
+                out.writeCharacters(LINE_SEPARATOR);
+            }
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IllegalStateException("Failed to end element", e); //$NON-NLS-1$
+        }
+
+        return this;
+    }
+
+    /**
+     * Flushes the document to the stream. Does not close the stream itself.
+     *
+     * @throws IOException on occasion
+     */
+    public void close() throws IOException
+    {
+        if (!frames.isEmpty())
+        {
+            throw new IllegalStateException(String.format("Element %s has not been ended", frames.getLast().name)); //$NON-NLS-1$
+        }
+
+        try
+        {
+            out.writeEndDocument();
+            out.flush();
+            out.close();
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(String.format("Failed to write document: %s", e)); //$NON-NLS-1$
+        }
+
+        writer.flush();
+    }
+
+    private void beginChild() throws XMLStreamException
+    {
+        if (frames.isEmpty())
+        {
+            return;
+        }
+
+        Frame frame = frames.getLast();
+
+        flush();
+        writeText(frame, true);
+
+        frame.hasChildren = true;
+
+        if (formatted)
+        {
+            indent(frames.size());
+        }
+    }
+
+    private void flush() throws XMLStreamException
+    {
+        if (frames.isEmpty())
+        {
+            return;
+        }
+
+        Frame frame = frames.getLast();
+
+        if (frame.pending)
+        {
+            out.writeStartElement(frame.name);
+
+            writeAttributes(frame);
+        }
+    }
+
+    private void writeText(Frame frame, boolean indented) throws XMLStreamException
+    {
+        if (frame.text == null)
+        {
+            return;
+        }
+
+        String value = frame.text.toString();
+
+        frame.text = null;
+
+        if ((formatted) && (indented))
+        {
+            // the transformer puts texts in mixed content on a separate line
+            indent(frames.size());
+        }
+
+        out.writeCharacters(escaping ? escapeText(value) : value);
+    }
+
+    private void writeAttributes(Frame frame) throws XMLStreamException
+    {
+        for (Map.Entry<String, String> entry : frame.attributes.entrySet())
+        {
+            out.writeAttribute(entry.getKey(), entry.getValue());
+        }
+
+        frame.pending = false;
+    }
+
+    private void indent(int depth) throws XMLStreamException
+    {
+        StringBuilder builder = new StringBuilder(LINE_SEPARATOR);
+
+        for (int i = 0; i < depth; i += 1)
+        {
+            builder.append(INDENT);
+        }
+
+        out.writeCharacters(builder.toString());
+    }
+
+    private static int append(StringBuilder builder, String value, int index)
+    {
+        char ch = value.charAt(index);
+
+        if ((Character.isHighSurrogate(ch)) && (index + 1 < value.length())
+            && (Character.isLowSurrogate(value.charAt(index + 1))))
+        {
+            // the transformer writes characters outside the basic plane as character references
+            builder.append("&#").append(value.codePointAt(index)).append(";"); //$NON-NLS-1$ //$NON-NLS-2$
+
+            return index + 1;
+        }
+
+        builder.append(ch);
+
+        return index;
+    }
+
+    private static boolean isNamespaceDeclaration(String name)
+    {
+        return ("xmlns".equals(name)) || (name.startsWith("xmlns:")); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private static String escapeComment(String value)
+    {
+        // the transformer separates consecutive dashes and protects the end of the comment from a trailing dash
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+        boolean dash = false;
+
+        for (int i = 0; i < value.length(); i += 1)
+        {
+            char ch = value.charAt(i);
+
+            if ((dash) && (ch == '-'))
+            {
+                builder.append(' ');
+            }
+
+            builder.append(ch);
+            dash = ch == '-';
+        }
+
+        if (dash)
+        {
+            builder.append(' ');
+        }
+
+        return builder.toString();
+    }
+
+    private static String escapeText(String value)
+    {
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+
+        for (int i = 0; i < value.length(); i += 1)
+        {
+            char ch = value.charAt(i);
+
+            switch (ch)
+            {
+                case '&':
+                    builder.append("&amp;"); //$NON-NLS-1$
+                    break;
+
+                case '<':
+                    builder.append("&lt;"); //$NON-NLS-1$
+                    break;
+
+                case '>':
+                    builder.append("&gt;"); //$NON-NLS-1$
+                    break;
+
+                case '\r':
+                    builder.append("&#13;"); //$NON-NLS-1$
+                    break;
+
+                case '\n':
+                    builder.append(LINE_SEPARATOR);
+                    break;
+
+                default:
+                    i = append(builder, value, i);
+            }
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,101 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.util;
+
+/**
+ * Common interface of builders for XML documents. The {@link DOMBuilder} creates a DOM, the {@link StAXBuilder}
+ * streams the document.
+ *
+ * @author Manfred Hantschel
+ */
+public interface XMLBuilder
+{
+
+    /**
+     * Adds a comment
+     *
+     * @param comment the comment
+     * @return the builder instance
+     */
+    XMLBuilder comment(Object comment);
+
+    /**
+     * Begins a new element and adds it at the current position
+     *
+     * @param name the name of the element
+     * @return the builder instance
+     */
+    XMLBuilder begin(String name);
+
+    /**
+     * Adds an attribute to the current element
+     *
+     * @param name the name of the attribute
+     * @param value the value of the attribute, ignored if null
+     * @return the builder instance
+     */
+    XMLBuilder attribute(String name, Object value);
+
+    /**
+     * Adds text to the current element
+     *
+     * @param text the text, ignored if null
+     * @return the builder instance
+     */
+    XMLBuilder text(Object text);
+
+    /**
+     * Adds an empty element with the specified name
+     *
+     * @param name the name
+     * @return the builder instance
+     */
+    XMLBuilder element(String name);
+
+    /**
+     * Adds an element with the specified name that contains the specified text
+     *
+     * @param name the name
+     * @param text the text
+     * @return the builder instance
+     */
+    XMLBuilder element(String name, Object text);
+
+    /**
+     * Adds an element with the specified name and exactly one attribute. The element contains no text.
+     *
+     * @param name the name
+     * @param attrName the name of the attribute
+     * @param attrValue the value of the attribute
+     * @return the builder instance
+     */
+    XMLBuilder element(String name, String attrName, Object attrValue);
+
+    /**
+     * Adds an element with the specified name and exactly one attribute. The element contains the specified text.
+     *
+     * @param name the name
+     * @param attrName the name of the attribute
+     * @param attrValue the value of the attribute
+     * @param text the text
+     * @return the builder instance
+     */
+    XMLBuilder element(String name, String attrName, Object attrValue, Object text);
+
+    /**
+     * Ends the current element and steps one element back
+     *
+     * @return the builder instance
+     */
+    XMLBuilder end();
+
+}
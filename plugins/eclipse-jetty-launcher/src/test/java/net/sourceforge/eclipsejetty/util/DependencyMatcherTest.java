@@ -0,0 +1,191 @@
+package net.sourceforge.eclipsejetty.util;
+
+import static net.sourceforge.eclipsejetty.util.DependencyMatcher.*;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import net.sourceforge.eclipsejetty.JettyPluginUtils;
+
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+import org.junit.Test;
+
+public class DependencyMatcherTest {
+
+  @Test
+  public void orListsMatchesOfFirstMatcherFirst() throws Exception {
+    Dependency a = createDependency("g:a", MavenScope.COMPILE, IRuntimeClasspathEntry.CLASS_PATH);
+    Dependency b = createDependency("g:b", MavenScope.TEST, IRuntimeClasspathEntry.USER_CLASSES);
+    Dependency c = createDependency("g:c", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES);
+
+    Collection<Dependency> result = or(userClasses(), classPath()).match(set(a, b, c));
+
+    assertThat(new ArrayList<Dependency>(result), is(Arrays.asList(b, c, a)));
+  }
+
+  @Test
+  public void andAppliesAllMatchers() throws Exception {
+    Dependency a = createDependency("g:a", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES);
+    Dependency b = createDependency("g:b", MavenScope.TEST, IRuntimeClasspathEntry.USER_CLASSES);
+    Dependency c = createDependency("g:c", MavenScope.PROVIDED, IRuntimeClasspathEntry.USER_CLASSES);
+
+    Collection<Dependency> result =
+        and(userClasses(), not(withScope(MavenScope.TEST)), notExcludedGenericIds(Arrays.asList("g:c"))).match(
+            set(a, b, c));
+
+    assertThat(new ArrayList<Dependency>(result), is(Arrays.asList(a)));
+  }
+
+  @Test
+  public void orWithinAndKeepsOrderOfOr() throws Exception {
+    Dependency a = createDependency("g:a", MavenScope.COMPILE, IRuntimeClasspathEntry.CLASS_PATH);
+    Dependency b = createDependency("g:b", MavenScope.TEST, IRuntimeClasspathEntry.USER_CLASSES);
+    Dependency c = createDependency("g:c", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES);
+
+    Collection<Dependency> result =
+        or(isIncludedGenericId(Arrays.asList("g:b")), and(or(userClasses(), classPath()), not(withScope(MavenScope.TEST))))
+            .match(set(a, b, c));
+
+    assertThat(new ArrayList<Dependency>(result), is(Arrays.asList(b, c, a)));
+  }
+
+  @Test
+  public void genericIdWildcard() throws Exception {
+    Dependency a = createDependency("g:a", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES);
+    Dependency b = createDependency("h:b", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES);
+    Dependency c = createDependency("g:c", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES);
+
+    assertThat(new ArrayList<Dependency>(notExcludedGenericIds(Arrays.asList("g:*")).match(set(a, b, c))),
+        is(Arrays.asList(b)));
+    assertThat(new ArrayList<Dependency>(isIncludedGenericId(Arrays.asList("g:*", "h:b")).match(set(a, b, c))),
+        is(Arrays.asList(a, b, c)));
+  }
+
+  @Test
+  public void matchLargeSet() throws Exception {
+    List<Dependency> dependencies = new ArrayList<Dependency>();
+    List<Dependency> expected = new ArrayList<Dependency>();
+
+    for (int i = 0; i < 10000; i += 1) {
+      Dependency dependency =
+          createDependency("g:a" + i, (i % 2 == 0) ? MavenScope.COMPILE : MavenScope.TEST,
+              IRuntimeClasspathEntry.USER_CLASSES);
+
+      dependencies.add(dependency);
+
+      if (i % 2 == 0) {
+        expected.add(dependency);
+      }
+    }
+
+    Collection<Dependency> result =
+        and(or(userClasses(), classPath()), not(withScope(MavenScope.TEST))).match(
+            new LinkedHashSet<Dependency>(dependencies));
+
+    assertThat(new ArrayList<Dependency>(result), is(expected));
+  }
+
+  @Test
+  public void combinedRegExLiteralsIgnoreCase() throws Exception {
+    // "\\L" is no valid escape, thus the first one is a literal only
+    List<String> regexes = Arrays.asList("C:\\Lib\\A.jar", "/Repo/B.jar", "/REPO/b.JAR");
+
+    assertSameAsSeparate(regexes, "c:/lib/a.jar", "C:\\LIB\\A.JAR", "/repo/b.jar", "/repo/bxjar", "/repo/c.jar");
+    assertTrue(combine(regexes).matches("c:\\lib\\a.jar"));
+    assertTrue(combine(regexes).matches("/repo/B.JAR"));
+    assertFalse(combine(regexes).matches("/repo/c.jar"));
+  }
+
+  @Test
+  public void combinedRegExWithBackReference() throws Exception {
+    List<String> regexes = Arrays.asList(".*/(x)(y)\\.jar", ".*/(\\w+)/\\1-.*\\.jar", ".*/(?<a>z)/\\k<a>\\.jar");
+
+    assertSameAsSeparate(regexes, "/repo/foo/foo-1.0.jar", "/repo/foo/bar-1.0.jar", "/repo/FOO/foo-1.0.jar",
+        "/repo/xy.jar", "/repo/z/z.jar", "/repo/z/y.jar");
+    assertTrue(combine(regexes).matches("/repo/foo/foo-1.0.jar"));
+    assertFalse(combine(regexes).matches("/repo/foo/bar-1.0.jar"));
+  }
+
+  @Test
+  public void combinedRegExFallsBackIfAlternationBreaks() throws Exception {
+    // the unterminated \Q quotes the closing bracket of the group in the alternation
+    List<String> regexes = Arrays.asList(".*/a\\.jar", "\\Q/repo/b.jar", ".*/(c)/\\1\\.jar");
+
+    assertSameAsSeparate(regexes, "/repo/a.jar", "/repo/b.jar", "/REPO/B.JAR", "/repo/bxjar", "/repo/c/c.jar",
+        "/repo/d.jar");
+    assertTrue(combine(regexes).matches("/repo/a.jar"));
+    assertTrue(combine(regexes).matches("/repo/b.jar"));
+    assertTrue(combine(regexes).matches("/repo/c/c.jar"));
+    assertFalse(combine(regexes).matches("/repo/bxjar"));
+  }
+
+  @Test
+  public void combinedRegExMatchesForwardAndBackSlashes() throws Exception {
+    List<String> regexes = Arrays.asList(".*\\\\lib\\\\a\\.jar", ".*/lib/b\\.jar");
+
+    assertSameAsSeparate(regexes, "C:\\lib\\a.jar", "C:/lib/a.jar", "C:\\lib\\b.jar", "C:/lib/b.jar",
+        "C:/lib/c.jar");
+
+    Dependency a = createDependency("g:a", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES, "C:\\lib\\a.jar");
+    Dependency b = createDependency("g:b", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES, "C:\\lib\\b.jar");
+    Dependency c = createDependency("g:c", MavenScope.COMPILE, IRuntimeClasspathEntry.USER_CLASSES, "C:/lib/c.jar");
+
+    assertThat(new ArrayList<Dependency>(isIncludedRegEx(regexes).match(set(a, b, c))), is(Arrays.asList(a, b)));
+    assertThat(new ArrayList<Dependency>(notExcludedRegEx(regexes).match(set(a, b, c))), is(Arrays.asList(c)));
+  }
+
+  /**
+   * Compares the combined matcher with testing each pattern on its own, on forward and back slashes, like the
+   * matchers did before they were combined.
+   */
+  private void assertSameAsSeparate(List<String> regexes, String... locations) {
+    List<RegularMatcher> matchers = JettyPluginUtils.extractPatterns(new ArrayList<RegularMatcher>(), regexes);
+    CombinedRegularMatcher combined = new CombinedRegularMatcher(matchers);
+
+    for (String location : locations) {
+      String forwardSlashes = location.replace('\\', '/');
+      String backSlashes = location.replace('/', '\\');
+      boolean expected = false;
+
+      for (RegularMatcher matcher : matchers) {
+        expected |= (matcher.matches(forwardSlashes)) || (matcher.matches(backSlashes));
+      }
+
+      assertThat(location, (combined.matches(forwardSlashes)) || (combined.matches(backSlashes)), is(expected));
+    }
+  }
+
+  private CombinedRegularMatcher combine(List<String> regexes) {
+    return new CombinedRegularMatcher(JettyPluginUtils.extractPatterns(new ArrayList<RegularMatcher>(), regexes));
+  }
+
+  private Collection<Dependency> set(Dependency... dependencies) {
+    return new LinkedHashSet<Dependency>(Arrays.asList(dependencies));
+  }
+
+  private Dependency createDependency(String genericId, MavenScope scope, int classpathProperty) {
+    return createDependency(genericId, scope, classpathProperty, "/repository/" + genericId.replace(':', '/') + ".jar");
+  }
+
+  private Dependency createDependency(String genericId, MavenScope scope, int classpathProperty, String location) {
+    IRuntimeClasspathEntry entry = mock(IRuntimeClasspathEntry.class);
+    when(entry.getLocation()).thenReturn(location);
+    when(entry.getClasspathProperty()).thenReturn(classpathProperty);
+
+    MavenDependencyInfo info = mock(MavenDependencyInfo.class);
+    when(info.toPortableString()).thenReturn(genericId);
+    when(info.getScope()).thenReturn(scope);
+
+    MavenDependencyInfoMap map = mock(MavenDependencyInfoMap.class);
+    when(map.resolve(entry)).thenReturn(info);
+
+    return Dependency.create(map, entry);
+  }
+
+}
@@ -43,6 +43,7 @@ public abstract class AbstractJettyLauncherMain
     public static final String CONFIGURATION_KEY = "jetty.launcher.configuration";
     public static final String HIDE_LAUNCH_INFO_KEY = "jetty.launcher.hideLaunchInfo";
     public static final String DISABLE_CONSOLE_KEY = "jetty.launcher.disableConsole";
+    public static final String STATISTICS_KEY = "jetty.launcher.statistics";
 
     /**
      * Launches the server. This method has to be called by the main method of the implementations for the various Jetty
@@ -53,7 +54,7 @@ public abstract class AbstractJettyLauncherMain
      */
     protected void launch(String[] args) throws Exception
     {
-        long millis = System.currentTimeMillis();
+        StartupTimer timer = new StartupTimer();
         boolean showInfo = System.getProperty(HIDE_LAUNCH_INFO_KEY) == null;
         boolean consoleEnabled = System.getProperty(DISABLE_CONSOLE_KEY) == null;
 
@@ -72,20 +73,80 @@ public abstract class AbstractJettyLauncherMain
         File[] configurationFiles = getConfigurationFiles(configurationFileDef);
         ServerAdapter adapter = createAdapter(configurationFiles, showInfo);
 
-        configure(System.out, adapter, configurationFiles, showInfo);
+        configure(System.out, adapter, configurationFiles, showInfo, timer);
 
         if (showInfo)
         {
             adapter.info(System.out);
         }
 
+        if (System.getProperty(STATISTICS_KEY) != null)
+        {
+            enableStatistics(adapter);
+        }
+
         initConsole(consoleEnabled, adapter);
 
-        adapter.start();
+        adapter.setStartupTimer(timer);
+        timer.begin("Server start");
+
+        try
+        {
+            adapter.start();
+        }
+        finally
+        {
+            timer.end("Server start");
+            timer.stop();
+            adapter.setStartupTimer(null);
+        }
+
+        writeStartupTimes(timer, configurationFiles[0]);
 
         if (showInfo)
         {
-            printStartupTime(System.out, millis, consoleEnabled);
+            printStartupTime(System.out, timer, consoleEnabled);
+        }
+    }
+
+    /**
+     * Writes the phases of the startup as JSON file next to the (first) configuration file.
+     * 
+     * @param timer the timer
+     * @param configurationFile the configuration file
+     */
+    private void writeStartupTimes(StartupTimer timer, File configurationFile)
+    {
+        String name = configurationFile.getName();
+        int index = name.lastIndexOf('.');
+        File file =
+            new File(configurationFile.getAbsoluteFile().getParentFile(), ((index > 0) ? name.substring(0, index)
+                : name) + "-startup.json");
+
+        try
+        {
+            timer.write(file);
+        }
+        catch (IOException e)
+        {
+            System.err.println(String.format("Failed to write startup times to %s: %s", file, e.getMessage()));
+        }
+    }
+
+    /**
+     * Enables the collection of request statistics, if supported by the adapter.
+     * 
+     * @param adapter the server adapter
+     */
+    private void enableStatistics(ServerAdapter adapter)
+    {
+        if (adapter instanceof StatisticsServerAdapter)
+        {
+            ((StatisticsServerAdapter) adapter).enableStatistics();
+        }
+        else
+        {
+            System.err.println("Request statistics are not supported by this Jetty version.");
         }
     }
 
@@ -123,8 +184,8 @@ public abstract class AbstractJettyLauncherMain
 
     protected abstract void printLogo(PrintStream out);
 
-    protected void configure(PrintStream out, ServerAdapter adapter, File[] configurationFiles, boolean showInfo)
-        throws Exception
+    protected void configure(PrintStream out, ServerAdapter adapter, File[] configurationFiles, boolean showInfo,
+        StartupTimer timer) throws Exception
     {
         for (int i = 0; i < configurationFiles.length; i += 1)
         {
@@ -136,8 +197,21 @@ public abstract class AbstractJettyLauncherMain
                     configurationFile.getAbsolutePath()));
             }
 
+            String parsePhase = String.format("Parse %s", configurationFile.getName());
+
+            timer.begin(parsePhase);
+
             Class<?> type = determineClass(configurationFile);
+
+            timer.end(parsePhase);
+
+            String configurePhase = String.format("Configure %s", configurationFile.getName());
+
+            timer.begin(configurePhase);
+
             configure(configurationFile, type, adapter);
+
+            timer.end(configurePhase);
         }
     }
 
@@ -239,13 +313,10 @@ public abstract class AbstractJettyLauncherMain
         }
     }
 
-    protected void printStartupTime(PrintStream out, long millis, boolean consoleEnabled)
+    protected void printStartupTime(PrintStream out, StartupTimer timer, boolean consoleEnabled)
     {
         Runtime runtime = Runtime.getRuntime();
-
-        System.gc();
-
-        double seconds = ((double) System.currentTimeMillis() - millis) / 1000d;
+        double seconds = timer.getSeconds();
         long maxMemory = runtime.maxMemory();
         long totalMemory = runtime.totalMemory();
         long freeMemory = runtime.freeMemory();
@@ -258,6 +329,8 @@ public abstract class AbstractJettyLauncherMain
 
         String line = Utils.repeat("-", Math.max(duration.length(), Math.max(memory.length(), console.length())));
 
+        out.println(line);
+        timer.print(out);
         out.println(line);
         out.println(duration);
         out.println(memory);
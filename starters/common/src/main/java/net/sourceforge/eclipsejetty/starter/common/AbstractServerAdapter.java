@@ -12,8 +12,11 @@
 package net.sourceforge.eclipsejetty.starter.common;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * Abstract base class for {@link ServerAdapter}s
@@ -23,11 +26,33 @@ import java.util.LinkedHashSet;
 public abstract class AbstractServerAdapter implements ServerAdapter
 {
 
+    private StartupTimer startupTimer;
+
     public AbstractServerAdapter()
     {
         super();
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.common.ServerAdapter#setStartupTimer(net.sourceforge.eclipsejetty.starter.common.StartupTimer)
+     */
+    public void setStartupTimer(StartupTimer startupTimer)
+    {
+        this.startupTimer = startupTimer;
+    }
+
+    /**
+     * Returns the timer, that measures the phases of the startup.
+     * 
+     * @return the timer, null if disabled
+     */
+    protected StartupTimer getStartupTimer()
+    {
+        return startupTimer;
+    }
+
     /**
      * Prints the info. Gathers the data using various abstract methods.
      * 
@@ -42,6 +67,16 @@ public abstract class AbstractServerAdapter implements ServerAdapter
             getClassPathDescription().replaceAll("\\n", "\n                  ")));
     }
 
+    /**
+     * Returns an empty list, Unix-domain sockets are not supported by default.
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.common.ServerAdapter#getUnixDomainPaths()
+     */
+    public Collection<String> getUnixDomainPaths()
+    {
+        return Collections.emptyList();
+    }
+
     /**
      * Returns the Jetty version
      * 
@@ -73,7 +108,8 @@ public abstract class AbstractServerAdapter implements ServerAdapter
     }
 
     /**
-     * Creates a description of ports gathered from the {@link #getPorts()} method.
+     * Creates a description of ports gathered from the {@link #getPorts()}, {@link #getSecurePorts()} and
+     * {@link #getUnixDomainPaths()} methods.
      * 
      * @return a description of ports
      */
@@ -95,9 +131,61 @@ public abstract class AbstractServerAdapter implements ServerAdapter
             builder.append(port);
         }
 
+        for (String path : getUnixDomainPaths())
+        {
+            if (builder.length() > 0)
+            {
+                builder.append(", ");
+            }
+
+            builder.append("unix:").append(path);
+        }
+
         return builder.toString();
     }
 
+    /**
+     * Surrounds the annotation configuration in the list of configuration classes with the specified classes, thus
+     * the scanning of the annotations can be measured. Returns the list unchanged, if it contains no annotation
+     * configuration.
+     * 
+     * @param configurationClasses the configuration classes
+     * @param beginClass the class to be added before the annotation configuration
+     * @param endClass the class to be added after the annotation configuration
+     * @return the configuration classes
+     */
+    protected static String[] surroundAnnotationConfiguration(String[] configurationClasses, String beginClass,
+        String endClass)
+    {
+        if (configurationClasses == null)
+        {
+            return null;
+        }
+
+        List<String> results = new ArrayList<String>();
+
+        for (String configurationClass : configurationClasses)
+        {
+            if ((configurationClass.equals(beginClass)) || (configurationClass.equals(endClass)))
+            {
+                return configurationClasses;
+            }
+
+            if (configurationClass.endsWith("AnnotationConfiguration"))
+            {
+                results.add(beginClass);
+                results.add(configurationClass);
+                results.add(endClass);
+            }
+            else
+            {
+                results.add(configurationClass);
+            }
+        }
+
+        return results.toArray(new String[results.size()]);
+    }
+
     /**
      * Creates a description of the used classpath.
      * 
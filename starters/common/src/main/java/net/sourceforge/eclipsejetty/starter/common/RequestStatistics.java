@@ -0,0 +1,316 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.common;
+
+/**
+ * A snapshot of the request statistics of one context.
+ * 
+ * @author Manfred Hantschel
+ */
+public class RequestStatistics
+{
+
+    /**
+     * The percentiles of the response times, that are calculated.
+     */
+    public static final double[] PERCENTILES = {50, 90, 99};
+
+    private String contextPath;
+    private long statsOnMs;
+    private int requests;
+    private int requestsActive;
+    private int requestsActiveMax;
+    private double requestTimeMean;
+    private long requestTimeMax;
+    private double[] percentiles = {-1, -1, -1};
+    private int responses1xx;
+    private int responses2xx;
+    private int responses3xx;
+    private int responses4xx;
+    private int responses5xx;
+
+    public RequestStatistics()
+    {
+        super();
+    }
+
+    /**
+     * Returns the number of requests per second since the statistics have been reset.
+     * 
+     * @return the requests per second
+     */
+    public double getRequestsPerSecond()
+    {
+        return (statsOnMs > 0) ? (requests * 1000d) / statsOnMs : 0;
+    }
+
+    /**
+     * Returns the path of the context.
+     * 
+     * @return the path of the context
+     */
+    public String getContextPath()
+    {
+        return contextPath;
+    }
+
+    /**
+     * Sets the path of the context.
+     * 
+     * @param contextPath the path of the context
+     */
+    public void setContextPath(String contextPath)
+    {
+        this.contextPath = contextPath;
+    }
+
+    /**
+     * Returns the time since the statistics have been reset, in milliseconds.
+     * 
+     * @return the time since the statistics have been reset, in milliseconds
+     */
+    public long getStatsOnMs()
+    {
+        return statsOnMs;
+    }
+
+    /**
+     * Sets the time since the statistics have been reset, in milliseconds.
+     * 
+     * @param statsOnMs the time since the statistics have been reset, in milliseconds
+     */
+    public void setStatsOnMs(long statsOnMs)
+    {
+        this.statsOnMs = statsOnMs;
+    }
+
+    /**
+     * Returns the number of requests.
+     * 
+     * @return the number of requests
+     */
+    public int getRequests()
+    {
+        return requests;
+    }
+
+    /**
+     * Sets the number of requests.
+     * 
+     * @param requests the number of requests
+     */
+    public void setRequests(int requests)
+    {
+        this.requests = requests;
+    }
+
+    /**
+     * Returns the number of requests currently active.
+     * 
+     * @return the number of requests currently active
+     */
+    public int getRequestsActive()
+    {
+        return requestsActive;
+    }
+
+    /**
+     * Sets the number of requests currently active.
+     * 
+     * @param requestsActive the number of requests currently active
+     */
+    public void setRequestsActive(int requestsActive)
+    {
+        this.requestsActive = requestsActive;
+    }
+
+    /**
+     * Returns the maximum number of active requests.
+     * 
+     * @return the maximum number of active requests
+     */
+    public int getRequestsActiveMax()
+    {
+        return requestsActiveMax;
+    }
+
+    /**
+     * Sets the maximum number of active requests.
+     * 
+     * @param requestsActiveMax the maximum number of active requests
+     */
+    public void setRequestsActiveMax(int requestsActiveMax)
+    {
+        this.requestsActiveMax = requestsActiveMax;
+    }
+
+    /**
+     * Returns the mean time of the requests, in milliseconds.
+     * 
+     * @return the mean time of the requests, in milliseconds
+     */
+    public double getRequestTimeMean()
+    {
+        return requestTimeMean;
+    }
+
+    /**
+     * Sets the mean time of the requests, in milliseconds.
+     * 
+     * @param requestTimeMean the mean time of the requests, in milliseconds
+     */
+    public void setRequestTimeMean(double requestTimeMean)
+    {
+        this.requestTimeMean = requestTimeMean;
+    }
+
+    /**
+     * Returns the maximum time of a request, in milliseconds.
+     * 
+     * @return the maximum time of a request, in milliseconds
+     */
+    public long getRequestTimeMax()
+    {
+        return requestTimeMax;
+    }
+
+    /**
+     * Sets the maximum time of a request, in milliseconds.
+     * 
+     * @param requestTimeMax the maximum time of a request, in milliseconds
+     */
+    public void setRequestTimeMax(long requestTimeMax)
+    {
+        this.requestTimeMax = requestTimeMax;
+    }
+
+    /**
+     * Returns the response times of the {@link #PERCENTILES}, in milliseconds, -1 if not available.
+     * 
+     * @return the response times of the {@link #PERCENTILES}, in milliseconds, -1 if not available
+     */
+    public double[] getPercentiles()
+    {
+        return percentiles;
+    }
+
+    /**
+     * Sets the response times of the {@link #PERCENTILES}, in milliseconds, -1 if not available.
+     * 
+     * @param percentiles the response times of the {@link #PERCENTILES}, in milliseconds, -1 if not available
+     */
+    public void setPercentiles(double[] percentiles)
+    {
+        this.percentiles = percentiles;
+    }
+
+    /**
+     * Returns the number of responses with 1xx status.
+     * 
+     * @return the number of responses with 1xx status
+     */
+    public int getResponses1xx()
+    {
+        return responses1xx;
+    }
+
+    /**
+     * Sets the number of responses with 1xx status.
+     * 
+     * @param responses1xx the number of responses with 1xx status
+     */
+    public void setResponses1xx(int responses1xx)
+    {
+        this.responses1xx = responses1xx;
+    }
+
+    /**
+     * Returns the number of responses with 2xx status.
+     * 
+     * @return the number of responses with 2xx status
+     */
+    public int getResponses2xx()
+    {
+        return responses2xx;
+    }
+
+    /**
+     * Sets the number of responses with 2xx status.
+     * 
+     * @param responses2xx the number of responses with 2xx status
+     */
+    public void setResponses2xx(int responses2xx)
+    {
+        this.responses2xx = responses2xx;
+    }
+
+    /**
+     * Returns the number of responses with 3xx status.
+     * 
+     * @return the number of responses with 3xx status
+     */
+    public int getResponses3xx()
+    {
+        return responses3xx;
+    }
+
+    /**
+     * Sets the number of responses with 3xx status.
+     * 
+     * @param responses3xx the number of responses with 3xx status
+     */
+    public void setResponses3xx(int responses3xx)
+    {
+        this.responses3xx = responses3xx;
+    }
+
+    /**
+     * Returns the number of responses with 4xx status.
+     * 
+     * @return the number of responses with 4xx status
+     */
+    public int getResponses4xx()
+    {
+        return responses4xx;
+    }
+
+    /**
+     * Sets the number of responses with 4xx status.
+     * 
+     * @param responses4xx the number of responses with 4xx status
+     */
+    public void setResponses4xx(int responses4xx)
+    {
+        this.responses4xx = responses4xx;
+    }
+
+    /**
+     * Returns the number of responses with 5xx status.
+     * 
+     * @return the number of responses with 5xx status
+     */
+    public int getResponses5xx()
+    {
+        return responses5xx;
+    }
+
+    /**
+     * Sets the number of responses with 5xx status.
+     * 
+     * @param responses5xx the number of responses with 5xx status
+     */
+    public void setResponses5xx(int responses5xx)
+    {
+        this.responses5xx = responses5xx;
+    }
+
+}
@@ -31,6 +31,14 @@ public interface ServerAdapter
      */
     Object getServer();
 
+    /**
+     * Sets the timer, that measures the phases of the startup. The phases within the start of the server, like the
+     * start of the contexts and connectors, are added to the timer.
+     * 
+     * @param timer the timer, null to disable
+     */
+    void setStartupTimer(StartupTimer timer);
+
     /**
      * Starts the server.
      * 
@@ -73,6 +81,13 @@ public interface ServerAdapter
      */
     Collection<Integer> getSecurePorts();
 
+    /**
+     * Returns a list of paths of Unix-domain sockets.
+     * 
+     * @return the paths, never null
+     */
+    Collection<String> getUnixDomainPaths();
+
     /**
      * Returns a list of context paths.
      * 
@@ -0,0 +1,234 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import net.sourceforge.eclipsejetty.starter.util.Utils;
+
+/**
+ * Measures the phases of the startup of the server. Phases may be nested (e.g. the start of a context within the
+ * start of the server). The timer is thread-safe, phases may be started and ended by different threads.
+ *
+ * @author Manfred Hantschel
+ */
+public class StartupTimer
+{
+
+    /**
+     * The name of the context attribute, that holds the timer while the context is starting.
+     */
+    public static final String ATTRIBUTE = StartupTimer.class.getName();
+
+    private static class Phase
+    {
+        private final String name;
+        private final int depth;
+        private final long beginNanos;
+
+        private long endNanos = -1;
+
+        public Phase(String name, int depth, long beginNanos)
+        {
+            super();
+
+            this.name = name;
+            this.depth = depth;
+            this.beginNanos = beginNanos;
+        }
+
+        public boolean isOpen()
+        {
+            return endNanos < 0;
+        }
+    }
+
+    private final long beginNanos;
+    private final List<Phase> phases = new ArrayList<Phase>();
+
+    private long endNanos = -1;
+
+    public StartupTimer()
+    {
+        super();
+
+        beginNanos = System.nanoTime();
+    }
+
+    /**
+     * Begins a phase
+     *
+     * @param name the name of the phase
+     */
+    public synchronized void begin(String name)
+    {
+        int depth = 0;
+
+        for (Phase phase : phases)
+        {
+            if (phase.isOpen())
+            {
+                depth += 1;
+            }
+        }
+
+        phases.add(new Phase(name, depth, System.nanoTime()));
+    }
+
+    /**
+     * Ends the last open phase with the specified name. Ignored if there is no such phase.
+     *
+     * @param name the name of the phase
+     */
+    public synchronized void end(String name)
+    {
+        long nanos = System.nanoTime();
+
+        for (int i = phases.size() - 1; i >= 0; i -= 1)
+        {
+            Phase phase = phases.get(i);
+
+            if ((phase.isOpen()) && (phase.name.equals(name)))
+            {
+                phase.endNanos = nanos;
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the timer. Phases, that are still open, are ignored.
+     */
+    public synchronized void stop()
+    {
+        if (endNanos < 0)
+        {
+            endNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Returns the time since the creation of the timer until it was stopped (or until now, if it was not stopped yet).
+     *
+     * @return the time in seconds
+     */
+    public synchronized double getSeconds()
+    {
+        return toMillis(((endNanos < 0) ? System.nanoTime() : endNanos) - beginNanos) / 1000d;
+    }
+
+    /**
+     * Prints the phases as table.
+     *
+     * @param out the stream
+     */
+    public synchronized void print(PrintStream out)
+    {
+        int width = 5;
+
+        for (Phase phase : phases)
+        {
+            width = Math.max(width, (phase.depth * 2) + phase.name.length());
+        }
+
+        String format = "%-" + width + "s %12s %12s";
+
+        out.println(String.format(format, "Phase", "Begin", "Duration"));
+
+        for (Phase phase : phases)
+        {
+            if (phase.isOpen())
+            {
+                continue;
+            }
+
+            out.println(String.format(format, Utils.repeat(" ", phase.depth * 2) + phase.name,
+                String.format("%,.1f ms", toMillis(phase.beginNanos - beginNanos)),
+                String.format("%,.1f ms", toMillis(phase.endNanos - phase.beginNanos))));
+        }
+    }
+
+    /**
+     * Writes the phases as JSON to the specified file. All times are in milliseconds, the begin of a phase is relative
+     * to the creation of the timer.
+     *
+     * @param file the file
+     * @throws IOException on occasion
+     */
+    public synchronized void write(File file) throws IOException
+    {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append("{\n");
+        builder.append(String.format(Locale.ENGLISH, "  \"total\": %.3f,\n", getSeconds() * 1000d));
+        builder.append("  \"phases\": [");
+
+        boolean first = true;
+
+        for (Phase phase : phases)
+        {
+            if (phase.isOpen())
+            {
+                continue;
+            }
+
+            builder.append((first) ? "\n" : ",\n");
+            builder.append(String.format(Locale.ENGLISH,
+                "    {\"name\": \"%s\", \"depth\": %d, \"begin\": %.3f, \"duration\": %.3f}", escape(phase.name),
+                phase.depth, toMillis(phase.beginNanos - beginNanos), toMillis(phase.endNanos - phase.beginNanos)));
+
+            first = false;
+        }
+
+        builder.append("\n  ]\n");
+        builder.append("}\n");
+
+        Utils.write(file, builder.toString());
+    }
+
+    private static double toMillis(long nanos)
+    {
+        return nanos / 1000000d;
+    }
+
+    private static String escape(String value)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < value.length(); i += 1)
+        {
+            char ch = value.charAt(i);
+
+            if ((ch == '"') || (ch == '\\'))
+            {
+                builder.append('\\').append(ch);
+            }
+            else if (ch < ' ')
+            {
+                builder.append(String.format("\\u%04x", (int) ch));
+            }
+            else
+            {
+                builder.append(ch);
+            }
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,60 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.common;
+
+import java.util.Collection;
+import java.util.Map;
+
+import net.sourceforge.eclipsejetty.starter.util.LatencyHistogram;
+
+/**
+ * A {@link ServerAdapter} for a Jetty server that supports the collection of request statistics per context (>= Jetty
+ * 9)
+ * 
+ * @author Manfred Hantschel
+ */
+public interface StatisticsServerAdapter extends ServerAdapter
+{
+
+    /**
+     * Enables the collection of request statistics. The statistics handlers are added to the contexts, when the server
+     * gets started, thus this method must be called before the start.
+     */
+    void enableStatistics();
+
+    /**
+     * Returns true if the collection of request statistics has been enabled.
+     * 
+     * @return true if enabled
+     */
+    boolean isStatisticsEnabled();
+
+    /**
+     * Returns the current request statistics, one for each context.
+     * 
+     * @return the statistics, never null
+     */
+    Collection<RequestStatistics> getStatistics();
+
+    /**
+     * Returns the histograms of the request latencies (in microseconds), one for each context path.
+     * 
+     * @return the histograms by context path, never null
+     */
+    Map<String, LatencyHistogram> getLatencyHistograms();
+
+    /**
+     * Resets the request statistics and the latency histograms of all contexts.
+     */
+    void resetStatistics();
+
+}
@@ -0,0 +1,180 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.common.command;
+
+import java.util.Locale;
+import java.util.Map;
+
+import net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter;
+import net.sourceforge.eclipsejetty.starter.console.AbstractCommand;
+import net.sourceforge.eclipsejetty.starter.console.ArgumentException;
+import net.sourceforge.eclipsejetty.starter.console.ConsoleAdapter;
+import net.sourceforge.eclipsejetty.starter.console.Process;
+import net.sourceforge.eclipsejetty.starter.util.LatencyHistogram;
+
+/**
+ * Prints the latency histograms of the contexts.
+ * 
+ * @author Manfred Hantschel
+ */
+public class LatencyCommand extends AbstractCommand
+{
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final StatisticsServerAdapter serverAdapter;
+
+    public LatencyCommand(ConsoleAdapter consoleAdapter, StatisticsServerAdapter serverAdapter)
+    {
+        super(consoleAdapter, "latency", "lat");
+
+        this.serverAdapter = serverAdapter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getFormat()
+     */
+    public String getFormat()
+    {
+        return "[csv|reset]";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getDescription()
+     */
+    public String getDescription()
+    {
+        return "Request latency percentiles.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.AbstractCommand#getHelpDescription()
+     */
+    @Override
+    protected String getHelpDescription()
+    {
+        return "Prints the number of requests, the mean, the p50, p90, p99, p99.9 and the maximum of the request "
+            + "latencies for each context. The latencies are recorded in histograms with a precision of 1 %. "
+            + "If invoked with the csv command, the values are printed as CSV, use \"latency csv > file.csv\" to "
+            + "write them to a file. If invoked with the reset command, all statistics are reset. "
+            + "The statistics must be enabled in the launch configuration.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getOrdinal()
+     */
+    public int getOrdinal()
+    {
+        return 8010;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#execute(java.lang.String,
+     *      net.sourceforge.eclipsejetty.starter.console.Process)
+     */
+    public int execute(String commandName, Process process) throws Exception
+    {
+        String command = process.args.consumeString();
+
+        if ((command != null) && (!"csv".equalsIgnoreCase(command)) && (!"reset".equalsIgnoreCase(command)))
+        {
+            throw new ArgumentException(String.format("Invalid command: %s", command));
+        }
+
+        if (!serverAdapter.isStatisticsEnabled())
+        {
+            process.err.println("The request statistics are disabled. Enable them in the launch configuration.");
+
+            return -1;
+        }
+
+        if ("reset".equalsIgnoreCase(command))
+        {
+            serverAdapter.resetStatistics();
+
+            process.out.println("Request statistics reset.");
+
+            return 0;
+        }
+
+        Map<String, LatencyHistogram> histograms = serverAdapter.getLatencyHistograms();
+
+        if (command != null)
+        {
+            printCSV(process, histograms);
+        }
+        else
+        {
+            print(process, histograms);
+        }
+
+        return 0;
+    }
+
+    private void print(Process process, Map<String, LatencyHistogram> histograms)
+    {
+        int width = 7;
+
+        for (String contextPath : histograms.keySet())
+        {
+            width = Math.max(width, contextPath.length());
+        }
+
+        String format = "%-" + width + "s %9s %11s %11s %11s %11s %11s %11s\n";
+
+        process.out.printf(format, "Context", "Requests", "Mean", "p50", "p90", "p99", "p99.9", "Max");
+
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet())
+        {
+            LatencyHistogram histogram = entry.getValue();
+
+            process.out.printf(format, entry.getKey(), histogram.getTotalCount(),
+                formatMillis(histogram.getMean()), formatMillis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                formatMillis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                formatMillis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                formatMillis(histogram.getValueAtPercentile(PERCENTILES[3])), formatMillis(histogram.getMax()));
+        }
+    }
+
+    private void printCSV(Process process, Map<String, LatencyHistogram> histograms)
+    {
+        process.out.println("context,requests,mean_ms,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet())
+        {
+            LatencyHistogram histogram = entry.getValue();
+
+            process.out.printf(Locale.ENGLISH, "\"%s\",%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f\n",
+                entry.getKey().replace("\"", "\"\""), histogram.getTotalCount(), histogram.getMean() / 1000d,
+                histogram.getValueAtPercentile(PERCENTILES[0]) / 1000d,
+                histogram.getValueAtPercentile(PERCENTILES[1]) / 1000d,
+                histogram.getValueAtPercentile(PERCENTILES[2]) / 1000d,
+                histogram.getValueAtPercentile(PERCENTILES[3]) / 1000d, histogram.getMax() / 1000d);
+        }
+    }
+
+    private static String formatMillis(double micros)
+    {
+        return String.format(Locale.ENGLISH, "%,.3f ms", micros / 1000d);
+    }
+
+}
@@ -0,0 +1,161 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.common.command;
+
+import java.util.Collection;
+import java.util.Locale;
+
+import net.sourceforge.eclipsejetty.starter.common.RequestStatistics;
+import net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter;
+import net.sourceforge.eclipsejetty.starter.console.AbstractCommand;
+import net.sourceforge.eclipsejetty.starter.console.ArgumentException;
+import net.sourceforge.eclipsejetty.starter.console.ConsoleAdapter;
+import net.sourceforge.eclipsejetty.starter.console.Process;
+import net.sourceforge.eclipsejetty.starter.util.Utils;
+
+/**
+ * Prints the request statistics of the contexts.
+ * 
+ * @author Manfred Hantschel
+ */
+public class StatsCommand extends AbstractCommand
+{
+
+    private final StatisticsServerAdapter serverAdapter;
+
+    public StatsCommand(ConsoleAdapter consoleAdapter, StatisticsServerAdapter serverAdapter)
+    {
+        super(consoleAdapter, "stats", "st");
+
+        this.serverAdapter = serverAdapter;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getFormat()
+     */
+    public String getFormat()
+    {
+        return "[reset]";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getDescription()
+     */
+    public String getDescription()
+    {
+        return "Request statistics.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.AbstractCommand#getHelpDescription()
+     */
+    @Override
+    protected String getHelpDescription()
+    {
+        return "Prints the requests per second, the active requests, the percentiles of the response times and the "
+            + "number of responses by status for each context. The percentiles are taken from the latency "
+            + "histograms (see the latency command). If invoked with the reset command, all statistics are reset. "
+            + "The statistics must be enabled in the launch configuration.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getOrdinal()
+     */
+    public int getOrdinal()
+    {
+        return 8000;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#execute(java.lang.String,
+     *      net.sourceforge.eclipsejetty.starter.console.Process)
+     */
+    public int execute(String commandName, Process process) throws Exception
+    {
+        String command = process.args.consumeString();
+
+        if ((command != null) && (!"reset".equalsIgnoreCase(command)))
+        {
+            throw new ArgumentException(String.format("Invalid command: %s", command));
+        }
+
+        if (!serverAdapter.isStatisticsEnabled())
+        {
+            process.err.println("The request statistics are disabled. Enable them in the launch configuration.");
+
+            return -1;
+        }
+
+        if (command != null)
+        {
+            serverAdapter.resetStatistics();
+
+            process.out.println("Request statistics reset.");
+
+            return 0;
+        }
+
+        print(process, serverAdapter.getStatistics());
+
+        return 0;
+    }
+
+    private void print(Process process, Collection<RequestStatistics> statistics)
+    {
+        int width = 7;
+
+        for (RequestStatistics statistic : statistics)
+        {
+            width = Math.max(width, statistic.getContextPath().length());
+        }
+
+        String format = "%-" + width + "s %11s %9s %8s %8s %8s %8s %8s %8s %8s %7s %7s %7s %7s %7s\n";
+
+        process.out.printf(format, "Context", "Duration", "Requests", "Req/s", "Active", "Mean", "p50", "p90", "p99",
+            "Max", "1xx", "2xx", "3xx", "4xx", "5xx");
+
+        for (RequestStatistics statistic : statistics)
+        {
+            double[] percentiles = statistic.getPercentiles();
+
+            process.out.printf(format, statistic.getContextPath(),
+                Utils.formatSeconds(statistic.getStatsOnMs() / 1000d), statistic.getRequests(),
+                String.format(Locale.ENGLISH, "%.1f", statistic.getRequestsPerSecond()),
+                String.format("%d/%d", statistic.getRequestsActive(), statistic.getRequestsActiveMax()),
+                formatMillis(statistic.getRequestTimeMean()), formatMillis(percentiles[0]),
+                formatMillis(percentiles[1]), formatMillis(percentiles[2]), formatMillis(statistic.getRequestTimeMax()),
+                statistic.getResponses1xx(), statistic.getResponses2xx(), statistic.getResponses3xx(),
+                statistic.getResponses4xx(), statistic.getResponses5xx());
+        }
+    }
+
+    private static String formatMillis(double millis)
+    {
+        if (millis < 0)
+        {
+            return "-";
+        }
+
+        return String.format(Locale.ENGLISH, "%,.1f ms", millis);
+    }
+
+}
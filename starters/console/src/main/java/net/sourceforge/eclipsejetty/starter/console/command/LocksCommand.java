@@ -0,0 +1,495 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.console.command;
+
+import java.lang.management.LockInfo;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.sourceforge.eclipsejetty.starter.console.AbstractCommand;
+import net.sourceforge.eclipsejetty.starter.console.ArgumentException;
+import net.sourceforge.eclipsejetty.starter.console.ConsoleAdapter;
+import net.sourceforge.eclipsejetty.starter.console.Process;
+import net.sourceforge.eclipsejetty.starter.console.util.ThreadUtils;
+import net.sourceforge.eclipsejetty.starter.util.Utils;
+
+/**
+ * Detects deadlocks and lock contention.
+ * 
+ * @author Manfred Hantschel
+ */
+public class LocksCommand extends AbstractCommand
+{
+
+    private static final int MAX_ENTRIES = 10;
+
+    private static final String QUEUED_THREAD_POOL = "org.eclipse.jetty.util.thread.QueuedThreadPool";
+
+    /**
+     * Methods, in which the threads of the pool wait for jobs.
+     */
+    private static final String[] IDLE_METHODS = {"QueuedThreadPool.idleJobPoll",
+        "QueuedThreadPool$Runner.idleJobPoll", "BlockingArrayQueue.poll", "BlockingArrayQueue.take",
+        "ReservedThreadExecutor$ReservedThread.reservedWait", "ManagedSelector.select", "SelectorManager",
+        "ServerSocketChannelImpl.accept", "Net.accept", "EPoll.wait", "KQueue.poll"};
+
+    public LocksCommand(ConsoleAdapter consoleAdapter)
+    {
+        super(consoleAdapter, "locks", "l");
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getFormat()
+     */
+    public String getFormat()
+    {
+        return "[on|off]";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getDescription()
+     */
+    public String getDescription()
+    {
+        return "Deadlocks and lock contention.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.AbstractCommand#getHelpDescription()
+     */
+    @Override
+    protected String getHelpDescription()
+    {
+        return "Searches for deadlocked threads and prints the cycles of the deadlocks. Prints the monitors and "
+            + "ownable synchronizers, that are currently contended, the threads, that have been blocked the most, "
+            + "and the threads of Jetty's QueuedThreadPool, that are blocked or waiting outside of the pool. "
+            + "If invoked with on or off, the contention monitoring of the JVM gets enabled or disabled. If enabled, "
+            + "the time threads have been blocked or have waited is measured.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getOrdinal()
+     */
+    public int getOrdinal()
+    {
+        return 525;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#execute(java.lang.String,
+     *      net.sourceforge.eclipsejetty.starter.console.Process)
+     */
+    public int execute(String commandName, Process process) throws Exception
+    {
+        String command = process.args.consumeString();
+
+        if (command == null)
+        {
+            return report(process);
+        }
+
+        if (("on".equalsIgnoreCase(command)) || ("off".equalsIgnoreCase(command)))
+        {
+            return monitor(process, "on".equalsIgnoreCase(command));
+        }
+
+        throw new ArgumentException(String.format("Invalid command: %s", command));
+    }
+
+    private int monitor(Process process, boolean enabled)
+    {
+        ThreadMXBean bean = ThreadUtils.getThreadMXBean();
+
+        if (!bean.isThreadContentionMonitoringSupported())
+        {
+            process.err.println("The JVM does not support contention monitoring.");
+
+            return -1;
+        }
+
+        bean.setThreadContentionMonitoringEnabled(enabled);
+
+        process.out.printf("Contention monitoring %s.\n", (enabled) ? "enabled" : "disabled");
+
+        return 0;
+    }
+
+    private int report(Process process)
+    {
+        ThreadMXBean bean = ThreadUtils.getThreadMXBean();
+        ThreadInfo[] infos =
+            bean.dumpAllThreads(bean.isObjectMonitorUsageSupported(), bean.isSynchronizerUsageSupported());
+        Map<Long, ThreadInfo> infosById = new HashMap<Long, ThreadInfo>();
+
+        for (ThreadInfo info : infos)
+        {
+            if (info != null)
+            {
+                infosById.put(info.getThreadId(), info);
+            }
+        }
+
+        printDeadlocks(process, bean, infosById);
+        printContendedLocks(process, infosById);
+        printBlockedThreads(process, bean, infosById);
+        printPoolThreads(process, infosById);
+
+        return 0;
+    }
+
+    private void printDeadlocks(Process process, ThreadMXBean bean, Map<Long, ThreadInfo> infosById)
+    {
+        long[] ids =
+            (bean.isSynchronizerUsageSupported()) ? bean.findDeadlockedThreads() : bean.findMonitorDeadlockedThreads();
+
+        printTitle(process, "Deadlocks");
+
+        if (ids == null)
+        {
+            process.out.println("No deadlocks found.");
+            process.out.println();
+
+            return;
+        }
+
+        Set<Long> visited = new HashSet<Long>();
+        int index = 0;
+
+        for (long id : ids)
+        {
+            if (visited.contains(id))
+            {
+                continue;
+            }
+
+            List<ThreadInfo> cycle = new ArrayList<ThreadInfo>();
+            Set<Long> path = new HashSet<Long>();
+            ThreadInfo info = infosById.get(id);
+
+            while ((info != null) && (path.add(info.getThreadId())))
+            {
+                cycle.add(info);
+                info = infosById.get(info.getLockOwnerId());
+            }
+
+            // the chain may lead into the cycle, strip the threads before the cycle
+            if (info != null)
+            {
+                while ((!cycle.isEmpty()) && (cycle.get(0).getThreadId() != info.getThreadId()))
+                {
+                    cycle.remove(0);
+                }
+            }
+
+            visited.addAll(path);
+
+            if (cycle.isEmpty())
+            {
+                continue;
+            }
+
+            process.out.printf("Deadlock %d:\n", ++index);
+
+            for (ThreadInfo member : cycle)
+            {
+                process.out.printf("  %s waits for %s held by %s\n", describe(member), member.getLockInfo(),
+                    describe(member.getLockOwnerId(), member.getLockOwnerName()));
+                process.out.printf("      at %s\n", getTopFrame(member));
+            }
+
+            process.out.println();
+        }
+    }
+
+    private void printContendedLocks(Process process, Map<Long, ThreadInfo> infosById)
+    {
+        Map<String, ContendedLock> locks = new LinkedHashMap<String, ContendedLock>();
+
+        for (ThreadInfo info : infosById.values())
+        {
+            LockInfo lockInfo = info.getLockInfo();
+
+            if ((lockInfo == null) || (info.getLockOwnerId() < 0))
+            {
+                continue;
+            }
+
+            String key = lockInfo.toString();
+            ContendedLock lock = locks.get(key);
+
+            if (lock == null)
+            {
+                lock = new ContendedLock(lockInfo, getLockType(infosById.get(info.getLockOwnerId()), lockInfo),
+                    describe(info.getLockOwnerId(), info.getLockOwnerName()));
+                locks.put(key, lock);
+            }
+
+            lock.waiting.add(info);
+        }
+
+        List<ContendedLock> sortedLocks = new ArrayList<ContendedLock>(locks.values());
+
+        Collections.sort(sortedLocks);
+
+        printTitle(process, "Contended Locks");
+
+        if (sortedLocks.isEmpty())
+        {
+            process.out.println("No contended monitors or ownable synchronizers found.");
+            process.out.println();
+
+            return;
+        }
+
+        for (ContendedLock lock : sortedLocks.subList(0, Math.min(MAX_ENTRIES, sortedLocks.size())))
+        {
+            process.out.printf("%s %s held by %s, %d waiting:\n", lock.type, lock.lockInfo, lock.owner,
+                lock.waiting.size());
+
+            for (ThreadInfo info : lock.waiting)
+            {
+                process.out.printf("  %s at %s\n", describe(info), getTopFrame(info));
+            }
+        }
+
+        process.out.println();
+    }
+
+    private void printBlockedThreads(Process process, ThreadMXBean bean, Map<Long, ThreadInfo> infosById)
+    {
+        final boolean timed =
+            (bean.isThreadContentionMonitoringSupported()) && (bean.isThreadContentionMonitoringEnabled());
+        List<ThreadInfo> infos = new ArrayList<ThreadInfo>();
+
+        for (ThreadInfo info : infosById.values())
+        {
+            if (info.getBlockedCount() > 0)
+            {
+                infos.add(info);
+            }
+        }
+
+        Collections.sort(infos, new Comparator<ThreadInfo>()
+        {
+            public int compare(ThreadInfo o1, ThreadInfo o2)
+            {
+                long value1 = (timed) ? o1.getBlockedTime() : o1.getBlockedCount();
+                long value2 = (timed) ? o2.getBlockedTime() : o2.getBlockedCount();
+
+                return (value1 > value2) ? -1 : ((value1 == value2) ? 0 : 1);
+            }
+        });
+
+        printTitle(process, "Most Blocked Threads");
+
+        if (infos.isEmpty())
+        {
+            process.out.println("No thread has been blocked.");
+        }
+
+        for (ThreadInfo info : infos.subList(0, Math.min(MAX_ENTRIES, infos.size())))
+        {
+            process.out.printf("  %s blocked %,d times%s, waited %,d times%s\n", describe(info),
+                info.getBlockedCount(), (timed) ? String.format(" (%,d ms)", info.getBlockedTime()) : Utils.EMPTY,
+                info.getWaitedCount(), (timed) ? String.format(" (%,d ms)", info.getWaitedTime()) : Utils.EMPTY);
+        }
+
+        if (!timed)
+        {
+            process.out.println();
+            process.out.println("Use \"locks on\" to measure the blocked and waited times.");
+        }
+
+        process.out.println();
+    }
+
+    private void printPoolThreads(Process process, Map<Long, ThreadInfo> infosById)
+    {
+        List<ThreadInfo> infos = new ArrayList<ThreadInfo>();
+
+        for (ThreadInfo info : infosById.values())
+        {
+            if ((isPoolThread(info)) && (isBlockedOutsideOfPool(info)))
+            {
+                infos.add(info);
+            }
+        }
+
+        Collections.sort(infos, new Comparator<ThreadInfo>()
+        {
+            public int compare(ThreadInfo o1, ThreadInfo o2)
+            {
+                return (o1.getThreadId() < o2.getThreadId()) ? -1 : ((o1.getThreadId() == o2.getThreadId()) ? 0 : 1);
+            }
+        });
+
+        printTitle(process, "Blocked Threads of the QueuedThreadPool");
+
+        if (infos.isEmpty())
+        {
+            process.out.println("No blocked threads found.");
+            process.out.println();
+
+            return;
+        }
+
+        for (ThreadInfo info : infos)
+        {
+            process.out.printf("  %s %s%s\n", describe(info), info.getThreadState(),
+                (info.getLockInfo() != null) ? String.format(" on %s", info.getLockInfo()) : Utils.EMPTY);
+
+            if (info.getLockOwnerId() >= 0)
+            {
+                process.out.printf("      held by %s\n", describe(info.getLockOwnerId(), info.getLockOwnerName()));
+            }
+
+            process.out.printf("      at %s\n", getTopFrame(info));
+        }
+
+        process.out.println();
+    }
+
+    private static void printTitle(Process process, String title)
+    {
+        process.out.println(title);
+        process.out.println(Utils.repeat("-", title.length()));
+    }
+
+    private static boolean isPoolThread(ThreadInfo info)
+    {
+        for (StackTraceElement element : info.getStackTrace())
+        {
+            if (element.getClassName().startsWith(QUEUED_THREAD_POOL))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isBlockedOutsideOfPool(ThreadInfo info)
+    {
+        switch (info.getThreadState())
+        {
+            case BLOCKED:
+                return true;
+
+            case WAITING:
+            case TIMED_WAITING:
+                for (StackTraceElement element : info.getStackTrace())
+                {
+                    String method = element.getClassName() + "." + element.getMethodName();
+
+                    for (String idleMethod : IDLE_METHODS)
+                    {
+                        if (method.contains(idleMethod))
+                        {
+                            return false;
+                        }
+                    }
+                }
+
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    private static String getLockType(ThreadInfo owner, LockInfo lockInfo)
+    {
+        if (owner != null)
+        {
+            for (LockInfo synchronizer : owner.getLockedSynchronizers())
+            {
+                if (synchronizer.getIdentityHashCode() == lockInfo.getIdentityHashCode())
+                {
+                    return "Synchronizer";
+                }
+            }
+
+            for (MonitorInfo monitor : owner.getLockedMonitors())
+            {
+                if (monitor.getIdentityHashCode() == lockInfo.getIdentityHashCode())
+                {
+                    return "Monitor";
+                }
+            }
+        }
+
+        return "Lock";
+    }
+
+    private static String getTopFrame(ThreadInfo info)
+    {
+        StackTraceElement[] stackTrace = info.getStackTrace();
+
+        return (stackTrace.length > 0) ? stackTrace[0].toString() : "<unknown>";
+    }
+
+    private static String describe(ThreadInfo info)
+    {
+        return describe(info.getThreadId(), info.getThreadName());
+    }
+
+    private static String describe(long id, String name)
+    {
+        return String.format("%d.) %s", id, name);
+    }
+
+    /**
+     * A lock, threads are waiting for.
+     */
+    private static class ContendedLock implements Comparable<ContendedLock>
+    {
+        private final LockInfo lockInfo;
+        private final String type;
+        private final String owner;
+        private final List<ThreadInfo> waiting = new ArrayList<ThreadInfo>();
+
+        public ContendedLock(LockInfo lockInfo, String type, String owner)
+        {
+            super();
+
+            this.lockInfo = lockInfo;
+            this.type = type;
+            this.owner = owner;
+        }
+
+        public int compareTo(ContendedLock other)
+        {
+            return other.waiting.size() - waiting.size();
+        }
+    }
+
+}
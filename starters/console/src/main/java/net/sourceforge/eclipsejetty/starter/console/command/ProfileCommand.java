@@ -0,0 +1,125 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.console.command;
+
+import net.sourceforge.eclipsejetty.starter.console.AbstractCommand;
+import net.sourceforge.eclipsejetty.starter.console.ArgumentException;
+import net.sourceforge.eclipsejetty.starter.console.ConsoleAdapter;
+import net.sourceforge.eclipsejetty.starter.console.Process;
+import net.sourceforge.eclipsejetty.starter.console.util.StackSampler;
+import net.sourceforge.eclipsejetty.starter.util.Utils;
+
+/**
+ * Samples the stacks of all threads and prints them in the collapsed stack format.
+ * 
+ * @author Manfred Hantschel
+ */
+public class ProfileCommand extends AbstractCommand
+{
+
+    private static final long DEFAULT_INTERVAL = 10;
+
+    public ProfileCommand(ConsoleAdapter consoleAdapter)
+    {
+        super(consoleAdapter, "profile", "pr");
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getFormat()
+     */
+    public String getFormat()
+    {
+        return "[-all] <SECONDS> [<INTERVAL>]";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getDescription()
+     */
+    public String getDescription()
+    {
+        return "Sampling profiler.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.AbstractCommand#getHelpDescription()
+     */
+    @Override
+    protected String getHelpDescription()
+    {
+        return "Samples the stacks of all runnable threads for the specified number of <SECONDS>, every <INTERVAL> "
+            + "milliseconds (default: 10). If -all is specified, threads in any state are sampled. The result is "
+            + "printed in the collapsed stack format, as used by flamegraph.pl or speedscope. "
+            + "Use \"profile 30 > profile.txt\" to write the result to a file.";
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#getOrdinal()
+     */
+    public int getOrdinal()
+    {
+        return 540;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.console.Command#execute(java.lang.String,
+     *      net.sourceforge.eclipsejetty.starter.console.Process)
+     */
+    public int execute(String commandName, Process process) throws Exception
+    {
+        boolean allThreads = process.args.consumeFlag("-all");
+        Long seconds = process.args.consumeLong();
+        long interval = Utils.ensure(process.args.consumeLong(), DEFAULT_INTERVAL);
+
+        if ((seconds == null) || (seconds <= 0))
+        {
+            throw new ArgumentException("Invalid number of seconds");
+        }
+
+        if (interval <= 0)
+        {
+            throw new ArgumentException(String.format("Invalid interval: %d", interval));
+        }
+
+        if (process.args.size() > 0)
+        {
+            throw new ArgumentException("Too many arguments");
+        }
+
+        StackSampler sampler = new StackSampler(seconds * 1000, interval, allThreads);
+
+        sampler.start();
+
+        try
+        {
+            sampler.join();
+        }
+        catch (InterruptedException e)
+        {
+            sampler.stop();
+        }
+
+        sampler.write(process.out);
+
+        return 0;
+    }
+
+}
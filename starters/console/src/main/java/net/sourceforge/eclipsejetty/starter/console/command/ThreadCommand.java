@@ -11,15 +11,21 @@
 // limitations under the License.
 package net.sourceforge.eclipsejetty.starter.console.command;
 
+import java.lang.management.LockInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.sourceforge.eclipsejetty.starter.console.AbstractCommand;
 import net.sourceforge.eclipsejetty.starter.console.ArgumentException;
 import net.sourceforge.eclipsejetty.starter.console.ConsoleAdapter;
 import net.sourceforge.eclipsejetty.starter.console.Process;
+import net.sourceforge.eclipsejetty.starter.console.util.ThreadUtils;
 import net.sourceforge.eclipsejetty.starter.console.util.WildcardUtils;
 import net.sourceforge.eclipsejetty.starter.util.Utils;
 
@@ -31,6 +37,9 @@ import net.sourceforge.eclipsejetty.starter.util.Utils;
 public class ThreadCommand extends AbstractCommand
 {
 
+    private static final long DEFAULT_TOP_SECONDS = 1;
+    private static final long DEFAULT_TOP_COUNT = 10;
+
     public ThreadCommand(ConsoleAdapter consoleAdapter)
     {
         super(consoleAdapter, "thread", "t");
@@ -43,7 +52,7 @@ public class ThreadCommand extends AbstractCommand
      */
     public String getFormat()
     {
-        return "{<ID>}";
+        return "{<ID>} | top [<SECONDS> [<COUNT>]]";
     }
 
     /**
@@ -65,9 +74,12 @@ public class ThreadCommand extends AbstractCommand
     protected String getHelpDescription()
     {
         return "Displays information gathered form threads. If the command is invoked without an <ID>, "
-            + "a summary of all threads will be displayed. If the command is invoked with an <ID> (as thread id), "
-            + "detail information of the thread will be displayed. You can use * as <ID> to display detail information "
-            + "of all threads.";
+            + "a summary of all threads will be displayed, including the state, the CPU time, the allocated memory "
+            + "and how often each thread has been blocked or has waited. If the command is invoked with an <ID> "
+            + "(as thread id), detail information of the thread will be displayed. You can use * as <ID> to display "
+            + "detail information of all threads. If the command is invoked with top, it measures the CPU time of "
+            + "all threads for the specified <SECONDS> (default: 1) and displays the <COUNT> (default: 10) threads "
+            + "with the highest CPU usage.";
     }
 
     /**
@@ -93,6 +105,26 @@ public class ThreadCommand extends AbstractCommand
             return list(process);
         }
 
+        if (process.args.indexOf("top") == 0)
+        {
+            process.args.consumeString();
+
+            long seconds = Utils.ensure(process.args.consumeLong(), DEFAULT_TOP_SECONDS);
+            long count = Utils.ensure(process.args.consumeLong(), DEFAULT_TOP_COUNT);
+
+            if (seconds <= 0)
+            {
+                throw new ArgumentException(String.format("Invalid number of seconds: %d", seconds));
+            }
+
+            if (count <= 0)
+            {
+                throw new ArgumentException(String.format("Invalid count: %d", count));
+            }
+
+            return top(process, seconds, (int) count);
+        }
+
         String id;
 
         while ((id = process.args.consumeString()) != null)
@@ -105,46 +137,146 @@ public class ThreadCommand extends AbstractCommand
 
     private int list(Process process)
     {
-        List<Thread> threads = getThreads();
+        List<ThreadInfo> infos = getThreadInfos(0);
+        long[] ids = getIds(infos);
+        long[] cpuTimes = ThreadUtils.getCpuTimes(ids);
+        long[] allocatedBytes = ThreadUtils.getAllocatedBytes(ids);
+
+        int idLength = 2;
+        int nameLength = 4;
+        int stateLength = 5;
+
+        for (ThreadInfo info : infos)
+        {
+            idLength = Math.max(idLength, String.valueOf(info.getThreadId()).length());
+            nameLength = Math.max(nameLength, info.getThreadName().length());
+            stateLength = Math.max(stateLength, String.valueOf(info.getThreadState()).length());
+        }
+
+        String format =
+            " %" + idLength + "s | %-" + nameLength + "s | %-" + stateLength + "s | %12s | %12s | %9s | %9s \n";
+
+        process.out.printf(format, "ID", "Name", "State", "CPU Time", "Allocated", "Blocked", "Waited");
+        process.out.println("-" + Utils.repeat("-", idLength) + "-+-" + Utils.repeat("-", nameLength) + "-+-"
+            + Utils.repeat("-", stateLength) + "-+-" + Utils.repeat("-", 12) + "-+-" + Utils.repeat("-", 12) + "-+-"
+            + Utils.repeat("-", 9) + "-+-" + Utils.repeat("-", 9) + "-");
+
+        long totalCpuTime = 0;
+
+        for (int i = 0; i < infos.size(); i += 1)
+        {
+            ThreadInfo info = infos.get(i);
+
+            process.out.printf(format, info.getThreadId(), info.getThreadName(), info.getThreadState(),
+                formatNanos(cpuTimes[i]), formatBytes(allocatedBytes[i]), info.getBlockedCount(),
+                info.getWaitedCount());
+
+            totalCpuTime += Math.max(0, cpuTimes[i]);
+        }
+
+        process.out.println();
+        process.out.printf("Thread count: %s\n", infos.size());
+
+        if (ThreadUtils.isCpuTimeSupported())
+        {
+            process.out.printf("CPU time:     %s\n", formatNanos(totalCpuTime));
+        }
+
+        return 0;
+    }
+
+    private int top(Process process, long seconds, int count) throws InterruptedException
+    {
+        if (!ThreadUtils.isCpuTimeSupported())
+        {
+            process.err.println("The JVM does not support the measurement of the CPU time of threads.");
+
+            return -1;
+        }
+
+        List<ThreadInfo> beginInfos = getThreadInfos(0);
+        long[] beginIds = getIds(beginInfos);
+        long[] beginCpuTimes = ThreadUtils.getCpuTimes(beginIds);
+        long[] beginAllocatedBytes = ThreadUtils.getAllocatedBytes(beginIds);
+        long beginNanos = System.nanoTime();
+
+        process.out.printf("Measuring for %d s...\n\n", seconds);
+
+        Thread.sleep(seconds * 1000);
+
+        List<ThreadInfo> infos = getThreadInfos(0);
+        long[] ids = getIds(infos);
+        long[] cpuTimes = ThreadUtils.getCpuTimes(ids);
+        long[] allocatedBytes = ThreadUtils.getAllocatedBytes(ids);
+        long nanos = System.nanoTime() - beginNanos;
+
+        Map<Long, Integer> beginIndices = new HashMap<Long, Integer>();
+
+        for (int i = 0; i < beginIds.length; i += 1)
+        {
+            beginIndices.put(beginIds[i], i);
+        }
+
+        List<TopEntry> entries = new ArrayList<TopEntry>();
+
+        for (int i = 0; i < infos.size(); i += 1)
+        {
+            if (cpuTimes[i] < 0)
+            {
+                continue;
+            }
 
-        int idLength = 0;
-        int nameLength = 0;
-        int classLength = 0;
+            Integer beginIndex = beginIndices.get(ids[i]);
+            long cpuTime = cpuTimes[i] - getBeginValue(beginCpuTimes, beginIndex);
+            long allocated =
+                (allocatedBytes[i] >= 0) ? allocatedBytes[i] - getBeginValue(beginAllocatedBytes, beginIndex) : -1;
 
-        for (Thread thread : threads)
+            entries.add(new TopEntry(infos.get(i), cpuTime, allocated));
+        }
+
+        Collections.sort(entries);
+
+        int idLength = 2;
+        int nameLength = 4;
+        int stateLength = 5;
+
+        for (TopEntry entry : entries.subList(0, Math.min(count, entries.size())))
         {
-            idLength = Math.max(idLength, String.valueOf(thread.getId()).length());
-            nameLength = Math.max(nameLength, thread.getName().length());
-            classLength = Math.max(classLength, thread.getClass().getName().length());
+            idLength = Math.max(idLength, String.valueOf(entry.info.getThreadId()).length());
+            nameLength = Math.max(nameLength, entry.info.getThreadName().length());
+            stateLength = Math.max(stateLength, String.valueOf(entry.info.getThreadState()).length());
         }
 
-        process.out.printf(" %" + idLength + "s | %-" + nameLength + "s | %-" + classLength + "s \n", "ID", "Name",
-            "Class");
+        String format = " %" + idLength + "s | %-" + nameLength + "s | %-" + stateLength + "s | %7s | %12s | %12s \n";
+
+        process.out.printf(format, "ID", "Name", "State", "CPU", "CPU Time", "Allocated");
         process.out.println("-" + Utils.repeat("-", idLength) + "-+-" + Utils.repeat("-", nameLength) + "-+-"
-            + Utils.repeat("-", classLength) + "-");
+            + Utils.repeat("-", stateLength) + "-+-" + Utils.repeat("-", 7) + "-+-" + Utils.repeat("-", 12) + "-+-"
+            + Utils.repeat("-", 12) + "-");
 
-        for (Thread thread : threads)
+        for (TopEntry entry : entries.subList(0, Math.min(count, entries.size())))
         {
-            process.out.printf(" %" + idLength + "d | %-" + nameLength + "s | %-" + classLength + "s \n",
-                thread.getId(), thread.getName(), thread.getClass().getName());
+            process.out.printf(format, entry.info.getThreadId(), entry.info.getThreadName(),
+                entry.info.getThreadState(), String.format("%.1f %%", (entry.cpuTime * 100d) / nanos),
+                formatNanos(entry.cpuTime), formatBytes(entry.allocatedBytes));
         }
 
         process.out.println();
-        process.out.printf("Thread count: %s\n", threads.size());
+        process.out.printf("Thread count: %s\n", infos.size());
 
         return 0;
     }
 
     private int show(Process process, String id)
     {
-        List<Thread> threads = getThreads();
+        List<ThreadInfo> infos = getThreadInfos(Integer.MAX_VALUE);
         boolean hit = false;
 
-        for (Thread thread : threads)
+        for (ThreadInfo info : infos)
         {
-            if (WildcardUtils.match(String.valueOf(thread.getId()), id))
+            if (WildcardUtils.match(String.valueOf(info.getThreadId()), id))
             {
-                show(process, thread);
+                show(process, info);
 
                 hit = true;
             }
@@ -158,14 +290,31 @@ public class ThreadCommand extends AbstractCommand
         return 0;
     }
 
-    private void show(Process process, Thread thread)
+    private void show(Process process, ThreadInfo info)
     {
-        String title = thread.getId() + ".) " + thread.getName() + " (" + thread.getClass() + ")";
+        long[] ids = {info.getThreadId()};
+        String title = info.getThreadId() + ".) " + info.getThreadName() + " (" + info.getThreadState() + ")";
 
         process.out.println(title);
         process.out.println(Utils.repeat("-", title.length()));
 
-        StackTraceElement[] stackTraceElements = thread.getStackTrace();
+        process.out.printf("CPU Time:  %s\n", formatNanos(ThreadUtils.getCpuTimes(ids)[0]));
+        process.out.printf("User Time: %s\n", formatNanos(ThreadUtils.getUserTimes(ids)[0]));
+        process.out.printf("Allocated: %s\n", formatBytes(ThreadUtils.getAllocatedBytes(ids)[0]));
+        process.out.printf("Blocked:   %d times%s\n", info.getBlockedCount(), formatMillis(info.getBlockedTime()));
+        process.out.printf("Waited:    %d times%s\n", info.getWaitedCount(), formatMillis(info.getWaitedTime()));
+
+        LockInfo lockInfo = info.getLockInfo();
+
+        if (lockInfo != null)
+        {
+            process.out.printf("Lock:      %s%s\n", lockInfo, (info.getLockOwnerName() != null) ? String.format(
+                " (owned by %d.) %s)", info.getLockOwnerId(), info.getLockOwnerName()) : Utils.EMPTY);
+        }
+
+        process.out.println();
+
+        StackTraceElement[] stackTraceElements = info.getStackTrace();
 
         for (StackTraceElement element : stackTraceElements)
         {
@@ -175,21 +324,91 @@ public class ThreadCommand extends AbstractCommand
         process.out.println();
     }
 
-    private List<Thread> getThreads()
+    private List<ThreadInfo> getThreadInfos(int maxDepth)
     {
-        List<Thread> threads = new ArrayList<Thread>(Thread.getAllStackTraces().keySet());
+        ThreadMXBean bean = ThreadUtils.getThreadMXBean();
+        List<ThreadInfo> infos = new ArrayList<ThreadInfo>();
+
+        for (ThreadInfo info : bean.getThreadInfo(bean.getAllThreadIds(), maxDepth))
+        {
+            if (info != null)
+            {
+                infos.add(info);
+            }
+        }
 
-        Collections.sort(threads, new Comparator<Thread>()
+        Collections.sort(infos, new Comparator<ThreadInfo>()
         {
 
-            public int compare(Thread o1, Thread o2)
+            public int compare(ThreadInfo o1, ThreadInfo o2)
             {
-                return (int) (o1.getId() - o2.getId());
+                return (o1.getThreadId() < o2.getThreadId()) ? -1 : ((o1.getThreadId() == o2.getThreadId()) ? 0 : 1);
             }
 
         });
 
-        return threads;
+        return infos;
+    }
+
+    private static long[] getIds(List<ThreadInfo> infos)
+    {
+        long[] ids = new long[infos.size()];
+
+        for (int i = 0; i < ids.length; i += 1)
+        {
+            ids[i] = infos.get(i).getThreadId();
+        }
+
+        return ids;
+    }
+
+    private static long getBeginValue(long[] values, Integer index)
+    {
+        if ((index == null) || (values[index] < 0))
+        {
+            return 0;
+        }
+
+        return values[index];
+    }
+
+    private static String formatNanos(long nanos)
+    {
+        return (nanos >= 0) ? String.format("%,.1f ms", nanos / 1000000d) : "-";
+    }
+
+    private static String formatMillis(long millis)
+    {
+        return (millis >= 0) ? String.format(" (%,d ms)", millis) : Utils.EMPTY;
+    }
+
+    private static String formatBytes(long bytes)
+    {
+        return (bytes >= 0) ? Utils.formatBytes(bytes) : "-";
+    }
+
+    /**
+     * A thread with the CPU time and the allocated bytes measured by the top command.
+     */
+    private static class TopEntry implements Comparable<TopEntry>
+    {
+        private final ThreadInfo info;
+        private final long cpuTime;
+        private final long allocatedBytes;
+
+        public TopEntry(ThreadInfo info, long cpuTime, long allocatedBytes)
+        {
+            super();
+
+            this.info = info;
+            this.cpuTime = cpuTime;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public int compareTo(TopEntry other)
+        {
+            return (cpuTime > other.cpuTime) ? -1 : ((cpuTime == other.cpuTime) ? 0 : 1);
+        }
     }
 
 }
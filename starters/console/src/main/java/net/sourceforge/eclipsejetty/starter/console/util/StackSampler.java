@@ -0,0 +1,375 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.console.util;
+
+import java.io.PrintStream;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Samples the stacks of all threads by the {@link ThreadMXBean} and aggregates them in the collapsed stack format
+ * (one line per distinct stack, frames separated by semicolons, followed by the number of samples), as used by
+ * flamegraph.pl and speedscope. The sampling runs on a separate daemon thread. The frames are interned to ids and
+ * the stacks are kept as arrays of these ids. The memory is bounded: stacks are cut after {@link #MAX_DEPTH} frames
+ * (marked with a synthetic root frame), and samples of new stacks are counted as one truncated stack once the
+ * distinct stacks retain {@link #MAX_RETAINED_FRAMES} frames in total.
+ * 
+ * @author Manfred Hantschel
+ */
+public class StackSampler implements Runnable
+{
+
+    public static final int MAX_DEPTH = 128;
+    public static final int MAX_RETAINED_FRAMES = 1000000;
+
+    private static final String TRUNCATED = "[truncated]";
+    private static final String TRUNCATED_DEPTH = "[truncated-depth]";
+
+    private final Map<String, Map<String, Integer>> frameIds = new HashMap<String, Map<String, Integer>>();
+    private final List<String> frames = new ArrayList<String>();
+    private final Map<Stack, long[]> stacks = new HashMap<Stack, long[]>();
+    private final long durationNanos;
+    private final long intervalNanos;
+    private final boolean allThreads;
+
+    private Thread thread;
+    private int samples = 0;
+    private int retainedFrames = 0;
+    private long truncatedCount = 0;
+
+    /**
+     * Creates the sampler.
+     * 
+     * @param durationMillis the duration of the sampling in milliseconds
+     * @param intervalMillis the interval between two samples in milliseconds
+     * @param allThreads true to sample the threads in any state, false to sample runnable threads only
+     */
+    public StackSampler(long durationMillis, long intervalMillis, boolean allThreads)
+    {
+        super();
+
+        durationNanos = durationMillis * 1000000L;
+        intervalNanos = intervalMillis * 1000000L;
+        this.allThreads = allThreads;
+    }
+
+    /**
+     * Starts the sampling on a daemon thread.
+     */
+    public synchronized void start()
+    {
+        if (thread != null)
+        {
+            throw new IllegalStateException("Already started");
+        }
+
+        thread = new Thread(this, "Eclipse Jetty Console Profiler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Waits until the sampling has finished.
+     * 
+     * @throws InterruptedException on occasion
+     */
+    public void join() throws InterruptedException
+    {
+        Thread thread;
+
+        synchronized (this)
+        {
+            thread = this.thread;
+        }
+
+        if (thread != null)
+        {
+            thread.join();
+        }
+    }
+
+    /**
+     * Stops the sampling before the duration has elapsed.
+     */
+    public synchronized void stop()
+    {
+        if (thread != null)
+        {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see java.lang.Runnable#run()
+     */
+    public void run()
+    {
+        ThreadMXBean bean = ThreadUtils.getThreadMXBean();
+        long selfId = Thread.currentThread().getId();
+        long beginNanos = System.nanoTime();
+        long nextNanos = beginNanos;
+        Stack stack = new Stack(new int[MAX_DEPTH + 1]);
+
+        while (System.nanoTime() - beginNanos < durationNanos)
+        {
+            // one more frame than needed, to detect cut stacks
+            for (ThreadInfo info : bean.getThreadInfo(bean.getAllThreadIds(), MAX_DEPTH + 1))
+            {
+                if ((info == null) || (info.getThreadId() == selfId))
+                {
+                    continue;
+                }
+
+                if ((!allThreads) && (info.getThreadState() != Thread.State.RUNNABLE))
+                {
+                    continue;
+                }
+
+                StackTraceElement[] stackTrace = info.getStackTrace();
+
+                if (stackTrace.length == 0)
+                {
+                    continue;
+                }
+
+                add(stack, stackTrace);
+            }
+
+            synchronized (this)
+            {
+                samples += 1;
+            }
+
+            nextNanos += intervalNanos;
+
+            long sleepNanos = nextNanos - System.nanoTime();
+
+            if (sleepNanos > 0)
+            {
+                try
+                {
+                    Thread.sleep(sleepNanos / 1000000L, (int) (sleepNanos % 1000000L));
+                }
+                catch (InterruptedException e)
+                {
+                    break;
+                }
+            }
+            else
+            {
+                // the sampling takes longer than the interval, skip the missed samples
+                nextNanos = System.nanoTime();
+
+                if (Thread.interrupted())
+                {
+                    break;
+                }
+            }
+        }
+    }
+
+    private synchronized void add(Stack stack, StackTraceElement[] stackTrace)
+    {
+        int depth = Math.min(stackTrace.length, MAX_DEPTH);
+
+        stack.length = 0;
+
+        if (stackTrace.length > MAX_DEPTH)
+        {
+            // the root of the stack is missing
+            stack.frames[stack.length++] = internFrame(TRUNCATED_DEPTH, null);
+        }
+
+        for (int i = depth - 1; i >= 0; i -= 1)
+        {
+            stack.frames[stack.length++] = internFrame(stackTrace[i].getClassName(), stackTrace[i].getMethodName());
+        }
+
+        stack.updateHash();
+
+        long[] count = stacks.get(stack);
+
+        if (count == null)
+        {
+            if (retainedFrames + stack.length > MAX_RETAINED_FRAMES)
+            {
+                truncatedCount += 1;
+
+                return;
+            }
+
+            count = new long[1];
+            stacks.put(stack.copy(), count);
+            retainedFrames += stack.length;
+        }
+
+        count[0] += 1;
+    }
+
+    private int internFrame(String className, String methodName)
+    {
+        Map<String, Integer> methodIds = frameIds.get(className);
+
+        if (methodIds == null)
+        {
+            methodIds = new HashMap<String, Integer>();
+            frameIds.put(className, methodIds);
+        }
+
+        Integer id = methodIds.get(methodName);
+
+        if (id == null)
+        {
+            id = Integer.valueOf(frames.size());
+            frames.add((methodName != null) ? className + "." + methodName : className);
+            methodIds.put(methodName, id);
+        }
+
+        return id.intValue();
+    }
+
+    /**
+     * Returns the number of samples taken so far.
+     * 
+     * @return the number of samples
+     */
+    public synchronized int getSamples()
+    {
+        return samples;
+    }
+
+    /**
+     * Writes the stacks in the collapsed stack format, sorted by the stacks.
+     * 
+     * @param out the stream
+     */
+    public synchronized void write(PrintStream out)
+    {
+        List<String> lines = new ArrayList<String>(stacks.size() + 1);
+        StringBuilder builder = new StringBuilder();
+
+        for (Map.Entry<Stack, long[]> entry : stacks.entrySet())
+        {
+            Stack stack = entry.getKey();
+
+            builder.setLength(0);
+
+            for (int i = 0; i < stack.length; i += 1)
+            {
+                if (i > 0)
+                {
+                    builder.append(';');
+                }
+
+                builder.append(frames.get(stack.frames[i]));
+            }
+
+            lines.add(builder.append(' ').append(entry.getValue()[0]).toString());
+        }
+
+        if (truncatedCount > 0)
+        {
+            lines.add(TRUNCATED + " " + truncatedCount);
+        }
+
+        Collections.sort(lines);
+
+        for (String line : lines)
+        {
+            out.println(line);
+        }
+    }
+
+    /**
+     * A stack as array of frame ids, the root first.
+     */
+    private static class Stack
+    {
+        private final int[] frames;
+
+        private int length;
+        private int hash;
+
+        public Stack(int[] frames)
+        {
+            super();
+
+            this.frames = frames;
+
+            length = frames.length;
+            updateHash();
+        }
+
+        public void updateHash()
+        {
+            int result = 1;
+
+            for (int i = 0; i < length; i += 1)
+            {
+                result = (31 * result) + frames[i];
+            }
+
+            hash = result;
+        }
+
+        public Stack copy()
+        {
+            return new Stack(Arrays.copyOf(frames, length));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+
+            if (!(obj instanceof Stack))
+            {
+                return false;
+            }
+
+            Stack other = (Stack) obj;
+
+            if ((hash != other.hash) || (length != other.length))
+            {
+                return false;
+            }
+
+            for (int i = 0; i < length; i += 1)
+            {
+                if (frames[i] != other.frames[i])
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+}
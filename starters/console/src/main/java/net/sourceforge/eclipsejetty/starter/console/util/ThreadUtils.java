@@ -0,0 +1,171 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.console.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * Common utilities for threads, based on the {@link ThreadMXBean}. Unlike {@link Thread#getAllStackTraces()}, the
+ * methods do not walk the stacks of the threads.
+ * 
+ * @author Manfred Hantschel
+ */
+public class ThreadUtils
+{
+
+    /**
+     * Returns the {@link ThreadMXBean} of the platform.
+     * 
+     * @return the bean
+     */
+    public static ThreadMXBean getThreadMXBean()
+    {
+        return ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * Returns true if the JVM supports the measurement of the CPU time of threads. Enables the measurement, if
+     * necessary.
+     * 
+     * @return true if supported
+     */
+    public static boolean isCpuTimeSupported()
+    {
+        ThreadMXBean bean = getThreadMXBean();
+
+        if (!bean.isThreadCpuTimeSupported())
+        {
+            return false;
+        }
+
+        if (!bean.isThreadCpuTimeEnabled())
+        {
+            bean.setThreadCpuTimeEnabled(true);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the CPU times of the specified threads.
+     * 
+     * @param ids the ids of the threads
+     * @return the CPU times in nanoseconds, -1 for each thread, that is not alive or if not supported
+     */
+    public static long[] getCpuTimes(long[] ids)
+    {
+        long[] results = new long[ids.length];
+
+        if (!isCpuTimeSupported())
+        {
+            Arrays.fill(results, -1);
+
+            return results;
+        }
+
+        ThreadMXBean bean = getThreadMXBean();
+
+        for (int i = 0; i < ids.length; i += 1)
+        {
+            results[i] = bean.getThreadCpuTime(ids[i]);
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the user times of the specified threads.
+     * 
+     * @param ids the ids of the threads
+     * @return the user times in nanoseconds, -1 for each thread, that is not alive or if not supported
+     */
+    public static long[] getUserTimes(long[] ids)
+    {
+        long[] results = new long[ids.length];
+
+        if (!isCpuTimeSupported())
+        {
+            Arrays.fill(results, -1);
+
+            return results;
+        }
+
+        ThreadMXBean bean = getThreadMXBean();
+
+        for (int i = 0; i < ids.length; i += 1)
+        {
+            results[i] = bean.getThreadUserTime(ids[i]);
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns true if the JVM supports the measurement of the memory allocated by threads (available on HotSpot based
+     * JVMs by the com.sun.management.ThreadMXBean). Enables the measurement, if necessary.
+     * 
+     * @return true if supported
+     */
+    public static boolean isAllocatedBytesSupported()
+    {
+        try
+        {
+            ThreadMXBean bean = getThreadMXBean();
+
+            if (!(bean instanceof com.sun.management.ThreadMXBean))
+            {
+                return false;
+            }
+
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+
+            if (!sunBean.isThreadAllocatedMemorySupported())
+            {
+                return false;
+            }
+
+            if (!sunBean.isThreadAllocatedMemoryEnabled())
+            {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+            }
+
+            return true;
+        }
+        catch (LinkageError e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by the specified threads.
+     * 
+     * @param ids the ids of the threads
+     * @return the number of bytes, -1 for each thread, that is not alive or if not supported
+     */
+    public static long[] getAllocatedBytes(long[] ids)
+    {
+        if (!isAllocatedBytesSupported())
+        {
+            long[] results = new long[ids.length];
+
+            Arrays.fill(results, -1);
+
+            return results;
+        }
+
+        return ((com.sun.management.ThreadMXBean) getThreadMXBean()).getThreadAllocatedBytes(ids);
+    }
+
+}
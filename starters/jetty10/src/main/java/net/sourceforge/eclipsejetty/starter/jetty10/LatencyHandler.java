@@ -0,0 +1,116 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.jetty10;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import net.sourceforge.eclipsejetty.starter.util.LatencyHistogram;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+/**
+ * Records the latency of each request in a {@link LatencyHistogram} (in microseconds). The latency of asynchronous
+ * requests is recorded, when the request completes.
+ * 
+ * @author Manfred Hantschel
+ */
+public class LatencyHandler extends HandlerWrapper
+{
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    public LatencyHandler()
+    {
+        super();
+    }
+
+    /**
+     * Returns the histogram.
+     * 
+     * @return the histogram
+     */
+    public LatencyHistogram getHistogram()
+    {
+        return histogram;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see org.eclipse.jetty.server.handler.HandlerWrapper#handle(java.lang.String, org.eclipse.jetty.server.Request,
+     *      javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse)
+     */
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+        throws IOException, ServletException
+    {
+        if (baseRequest.getDispatcherType() != DispatcherType.REQUEST)
+        {
+            super.handle(target, baseRequest, request, response);
+
+            return;
+        }
+
+        final long beginNanos = System.nanoTime();
+
+        try
+        {
+            super.handle(target, baseRequest, request, response);
+        }
+        finally
+        {
+            if (request.isAsyncStarted())
+            {
+                request.getAsyncContext().addListener(new AsyncListener()
+                {
+                    public void onComplete(AsyncEvent event) throws IOException
+                    {
+                        record(beginNanos);
+                    }
+
+                    public void onTimeout(AsyncEvent event) throws IOException
+                    {
+                        // recorded on completion
+                    }
+
+                    public void onError(AsyncEvent event) throws IOException
+                    {
+                        // recorded on completion
+                    }
+
+                    public void onStartAsync(AsyncEvent event) throws IOException
+                    {
+                        event.getAsyncContext().addListener(this);
+                    }
+                });
+            }
+            else
+            {
+                record(beginNanos);
+            }
+        }
+    }
+
+    private void record(long beginNanos)
+    {
+        histogram.record((System.nanoTime() - beginNanos) / 1000);
+    }
+
+}
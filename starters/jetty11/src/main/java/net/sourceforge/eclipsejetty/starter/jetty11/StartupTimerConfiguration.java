@@ -0,0 +1,103 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.jetty11;
+
+import java.util.Collection;
+
+import net.sourceforge.eclipsejetty.starter.common.StartupTimer;
+
+import org.eclipse.jetty.webapp.AbstractConfiguration;
+import org.eclipse.jetty.webapp.Configuration;
+import org.eclipse.jetty.webapp.WebAppContext;
+
+/**
+ * Configurations, that surround the annotation configuration of a context to measure the scanning of the annotations.
+ * They use the {@link StartupTimer} in the attributes of the context, and do nothing if there is none.
+ * 
+ * @author Manfred Hantschel
+ */
+public class StartupTimerConfiguration
+{
+
+    /**
+     * Begins the phase. Depends on the same configurations as the annotation configuration and is a dependency of it.
+     */
+    public static class Begin extends AbstractConfiguration
+    {
+        public Begin(Configuration annotationConfiguration)
+        {
+            super(false);
+
+            addDependencies(toArray(annotationConfiguration.getDependencies()));
+            addDependents(annotationConfiguration.getClass().getName());
+        }
+
+        @Override
+        public void configure(WebAppContext context) throws Exception
+        {
+            StartupTimer timer = (StartupTimer) context.getAttribute(StartupTimer.ATTRIBUTE);
+
+            if (timer != null)
+            {
+                timer.begin(getPhase(context));
+            }
+        }
+    }
+
+    /**
+     * Ends the phase. Depends on the annotation configuration and is a dependency of the same configurations as the
+     * annotation configuration.
+     */
+    public static class End extends AbstractConfiguration
+    {
+        public End(Configuration annotationConfiguration)
+        {
+            super(false);
+
+            addDependencies(annotationConfiguration.getClass().getName());
+            addDependents(toArray(annotationConfiguration.getDependents()));
+        }
+
+        @Override
+        public void configure(WebAppContext context) throws Exception
+        {
+            StartupTimer timer = (StartupTimer) context.getAttribute(StartupTimer.ATTRIBUTE);
+
+            if (timer != null)
+            {
+                timer.end(getPhase(context));
+            }
+        }
+    }
+
+    private StartupTimerConfiguration()
+    {
+        super();
+    }
+
+    /**
+     * Returns the name of the phase for the specified context.
+     * 
+     * @param context the context
+     * @return the name of the phase
+     */
+    public static String getPhase(WebAppContext context)
+    {
+        return String.format("Annotations %s", context.getContextPath());
+    }
+
+    private static String[] toArray(Collection<String> values)
+    {
+        return values.toArray(new String[values.size()]);
+    }
+
+}
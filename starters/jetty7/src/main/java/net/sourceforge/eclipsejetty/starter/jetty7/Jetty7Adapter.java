@@ -20,12 +20,15 @@ import java.util.List;
 import net.sourceforge.eclipsejetty.starter.common.AbstractServerAdapter;
 import net.sourceforge.eclipsejetty.starter.common.DumpableServerAdapter;
 import net.sourceforge.eclipsejetty.starter.common.ServerAdapter;
+import net.sourceforge.eclipsejetty.starter.common.StartupTimer;
 
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
 import org.eclipse.jetty.webapp.WebAppContext;
 
 /**
@@ -62,7 +65,86 @@ public class Jetty7Adapter extends AbstractServerAdapter implements DumpableServ
      */
     public void start() throws Exception
     {
-        server.start();
+        StartupTimer timer = getStartupTimer();
+
+        if (timer == null)
+        {
+            server.start();
+
+            return;
+        }
+
+        List<StartupTimerListener> listeners = new ArrayList<StartupTimerListener>();
+        List<WebAppContext> webAppContexts = new ArrayList<WebAppContext>();
+
+        for (Handler handler : server.getChildHandlersByClass(ContextHandler.class))
+        {
+            ContextHandler context = (ContextHandler) handler;
+
+            if (context instanceof WebAppContext)
+            {
+                WebAppContext webAppContext = (WebAppContext) context;
+
+                surroundAnnotationConfiguration(webAppContext);
+                webAppContext.setAttribute(StartupTimer.ATTRIBUTE, timer);
+                webAppContexts.add(webAppContext);
+            }
+
+            listeners.add(new StartupTimerListener(timer, context, String.format("Context %s",
+                context.getContextPath())));
+        }
+
+        Connector[] connectors = server.getConnectors();
+
+        if (connectors != null)
+        {
+            for (Connector connector : connectors)
+            {
+                listeners.add(new StartupTimerListener(timer, connector, String.format("Connector %s",
+                    connector.getName())));
+            }
+        }
+
+        try
+        {
+            server.start();
+        }
+        finally
+        {
+            for (StartupTimerListener listener : listeners)
+            {
+                listener.remove();
+            }
+
+            for (WebAppContext webAppContext : webAppContexts)
+            {
+                webAppContext.removeAttribute(StartupTimer.ATTRIBUTE);
+            }
+        }
+    }
+
+    /**
+     * Surrounds the annotation configuration of the context with the {@link StartupTimerConfiguration}, if the
+     * configurations have not been loaded, yet.
+     * 
+     * @param context the context
+     */
+    protected void surroundAnnotationConfiguration(WebAppContext context)
+    {
+        if (context.getConfigurations() != null)
+        {
+            return;
+        }
+
+        String[] configurationClasses = context.getConfigurationClasses();
+
+        if (configurationClasses == null)
+        {
+            configurationClasses = context.getDefaultConfigurationClasses();
+        }
+
+        context.setConfigurationClasses(surroundAnnotationConfiguration(configurationClasses,
+            StartupTimerConfiguration.Begin.class.getName(), StartupTimerConfiguration.End.class.getName()));
     }
 
     /**
@@ -150,7 +232,7 @@ public class Jetty7Adapter extends AbstractServerAdapter implements DumpableServ
      */
     public Collection<String> getContextPaths()
     {
-        return getContextPaths(new LinkedHashSet<String>(), server.getHandler());
+        return getContextPaths(new LinkedHashSet<String>(), server.getChildHandlersByClass(ContextHandler.class));
     }
 
     protected Collection<String> getContextPaths(LinkedHashSet<String> results, Handler... handlers)
@@ -194,7 +276,8 @@ public class Jetty7Adapter extends AbstractServerAdapter implements DumpableServ
     {
         StringBuilder builder = new StringBuilder();
         List<String> classPathEntries =
-            new ArrayList<String>(getClassPathDescription(new LinkedHashSet<String>(), server.getHandler()));
+            new ArrayList<String>(getClassPathDescription(new LinkedHashSet<String>(),
+                server.getChildHandlersByClass(WebAppContext.class)));
 
         Collections.sort(classPathEntries);
 
@@ -236,4 +319,48 @@ public class Jetty7Adapter extends AbstractServerAdapter implements DumpableServ
 
         return classPath;
     }
+
+    /**
+     * Adds the starting of a lifecycle as phase to the timer.
+     */
+    private static class StartupTimerListener extends AbstractLifeCycle.AbstractLifeCycleListener
+    {
+        private final StartupTimer timer;
+        private final LifeCycle lifeCycle;
+        private final String phase;
+
+        public StartupTimerListener(StartupTimer timer, LifeCycle lifeCycle, String phase)
+        {
+            super();
+
+            this.timer = timer;
+            this.lifeCycle = lifeCycle;
+            this.phase = phase;
+
+            lifeCycle.addLifeCycleListener(this);
+        }
+
+        @Override
+        public void lifeCycleStarting(LifeCycle event)
+        {
+            timer.begin(phase);
+        }
+
+        @Override
+        public void lifeCycleStarted(LifeCycle event)
+        {
+            timer.end(phase);
+        }
+
+        @Override
+        public void lifeCycleFailure(LifeCycle event, Throwable cause)
+        {
+            timer.end(phase);
+        }
+
+        public void remove()
+        {
+            lifeCycle.removeLifeCycleListener(this);
+        }
+    }
 }
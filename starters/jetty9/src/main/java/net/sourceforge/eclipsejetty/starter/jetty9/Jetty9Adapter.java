@@ -14,19 +14,29 @@ package net.sourceforge.eclipsejetty.starter.jetty9;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import net.sourceforge.eclipsejetty.starter.common.AbstractServerAdapter;
 import net.sourceforge.eclipsejetty.starter.common.DumpableServerAdapter;
+import net.sourceforge.eclipsejetty.starter.common.RequestStatistics;
 import net.sourceforge.eclipsejetty.starter.common.ServerAdapter;
+import net.sourceforge.eclipsejetty.starter.common.StartupTimer;
+import net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter;
+import net.sourceforge.eclipsejetty.starter.util.LatencyHistogram;
 
 import org.eclipse.jetty.server.AbstractNetworkConnector;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.webapp.Configuration;
 import org.eclipse.jetty.webapp.WebAppContext;
 
 /**
@@ -34,10 +44,17 @@ import org.eclipse.jetty.webapp.WebAppContext;
  * 
  * @author Manfred Hantschel
  */
-public class Jetty9Adapter extends AbstractServerAdapter implements DumpableServerAdapter
+public class Jetty9Adapter extends AbstractServerAdapter implements DumpableServerAdapter,
+    StatisticsServerAdapter
 {
 
     private final Server server;
+    private final Map<ContextHandler, StatisticsHandler> statisticsHandlers =
+        new LinkedHashMap<ContextHandler, StatisticsHandler>();
+    private final Map<ContextHandler, LatencyHandler> latencyHandlers =
+        new LinkedHashMap<ContextHandler, LatencyHandler>();
+
+    private boolean statisticsEnabled = false;
 
     public Jetty9Adapter(Server server)
     {
@@ -65,7 +82,130 @@ public class Jetty9Adapter extends AbstractServerAdapter implements DumpableServ
     @Override
     public void start() throws Exception
     {
-        server.start();
+        if (statisticsEnabled)
+        {
+            insertStatisticsHandlers();
+        }
+
+        StartupTimer timer = getStartupTimer();
+
+        if (timer == null)
+        {
+            server.start();
+
+            return;
+        }
+
+        List<StartupTimerListener> listeners = new ArrayList<StartupTimerListener>();
+        List<WebAppContext> webAppContexts = new ArrayList<WebAppContext>();
+
+        for (Handler handler : server.getChildHandlersByClass(ContextHandler.class))
+        {
+            ContextHandler context = (ContextHandler) handler;
+
+            if (context instanceof WebAppContext)
+            {
+                WebAppContext webAppContext = (WebAppContext) context;
+
+                surroundAnnotationConfiguration(webAppContext);
+                webAppContext.setAttribute(StartupTimer.ATTRIBUTE, timer);
+                webAppContexts.add(webAppContext);
+            }
+
+            listeners.add(new StartupTimerListener(timer, context, String.format("Context %s",
+                context.getContextPath())));
+        }
+
+        Connector[] connectors = server.getConnectors();
+
+        if (connectors != null)
+        {
+            for (Connector connector : connectors)
+            {
+                listeners.add(new StartupTimerListener(timer, connector, String.format("Connector %s",
+                    getConnectorDescription(connector))));
+            }
+        }
+
+        try
+        {
+            server.start();
+        }
+        finally
+        {
+            for (StartupTimerListener listener : listeners)
+            {
+                listener.remove();
+            }
+
+            for (WebAppContext webAppContext : webAppContexts)
+            {
+                webAppContext.removeAttribute(StartupTimer.ATTRIBUTE);
+            }
+        }
+    }
+
+    /**
+     * Inserts a {@link StatisticsHandler} and a {@link LatencyHandler} into each context, that has none, yet. The
+     * handlers are inserted within the context, thus they measure the requests of this context only.
+     */
+    protected void insertStatisticsHandlers()
+    {
+        for (Handler handler : server.getChildHandlersByClass(ContextHandler.class))
+        {
+            ContextHandler context = (ContextHandler) handler;
+
+            if (!statisticsHandlers.containsKey(context))
+            {
+                StatisticsHandler statisticsHandler = new StatisticsHandler();
+                LatencyHandler latencyHandler = new LatencyHandler();
+
+                context.insertHandler(statisticsHandler);
+                context.insertHandler(latencyHandler);
+                statisticsHandlers.put(context, statisticsHandler);
+                latencyHandlers.put(context, latencyHandler);
+            }
+        }
+    }
+
+    /**
+     * Surrounds the annotation configuration of the context with the {@link StartupTimerConfiguration}, if the
+     * configurations have not been loaded, yet.
+     * 
+     * @param context the context
+     */
+    protected void surroundAnnotationConfiguration(WebAppContext context)
+    {
+        if (context.getConfigurations().length > 0)
+        {
+            return;
+        }
+
+        String[] configurationClasses = context.getConfigurationClasses();
+
+        if (configurationClasses.length == 0)
+        {
+            configurationClasses = Configuration.ClassList.serverDefault(server).toArray(new String[0]);
+        }
+
+        context.setConfigurationClasses(surroundAnnotationConfiguration(configurationClasses,
+            StartupTimerConfiguration.Begin.class.getName(), StartupTimerConfiguration.End.class.getName()));
+    }
+
+    /**
+     * Describes the connector by its protocols and its port.
+     * 
+     * @param connector the connector
+     * @return the description
+     */
+    protected String getConnectorDescription(Connector connector)
+    {
+        if (connector instanceof NetworkConnector)
+        {
+            return String.format("%s %s", connector.getProtocols(), ((NetworkConnector) connector).getPort());
+        }
+
+        return String.format("%s %s", connector.getProtocols(), connector);
     }
 
     /**
@@ -101,6 +241,113 @@ public class Jetty9Adapter extends AbstractServerAdapter implements DumpableServ
         return server.dump();
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter#enableStatistics()
+     */
+    @Override
+    public void enableStatistics()
+    {
+        statisticsEnabled = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter#isStatisticsEnabled()
+     */
+    @Override
+    public boolean isStatisticsEnabled()
+    {
+        return statisticsEnabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter#getStatistics()
+     */
+    @Override
+    public Collection<RequestStatistics> getStatistics()
+    {
+        List<RequestStatistics> results = new ArrayList<RequestStatistics>();
+
+        for (Map.Entry<ContextHandler, StatisticsHandler> entry : statisticsHandlers.entrySet())
+        {
+            StatisticsHandler handler = entry.getValue();
+            LatencyHistogram histogram = latencyHandlers.get(entry.getKey()).getHistogram();
+            RequestStatistics statistics = new RequestStatistics();
+
+            statistics.setContextPath(entry.getKey().getContextPath());
+            statistics.setStatsOnMs(handler.getStatsOnMs());
+            statistics.setRequests(handler.getRequests());
+            statistics.setRequestsActive(handler.getRequestsActive());
+            statistics.setRequestsActiveMax(handler.getRequestsActiveMax());
+            statistics.setRequestTimeMean(handler.getRequestTimeMean());
+            statistics.setRequestTimeMax(handler.getRequestTimeMax());
+
+            if (histogram.getTotalCount() > 0)
+            {
+                double[] percentiles = new double[RequestStatistics.PERCENTILES.length];
+
+                for (int i = 0; i < percentiles.length; i += 1)
+                {
+                    percentiles[i] = histogram.getValueAtPercentile(RequestStatistics.PERCENTILES[i]) / 1000d;
+                }
+
+                statistics.setPercentiles(percentiles);
+            }
+
+            statistics.setResponses1xx(handler.getResponses1xx());
+            statistics.setResponses2xx(handler.getResponses2xx());
+            statistics.setResponses3xx(handler.getResponses3xx());
+            statistics.setResponses4xx(handler.getResponses4xx());
+            statistics.setResponses5xx(handler.getResponses5xx());
+
+            results.add(statistics);
+        }
+
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter#getLatencyHistograms()
+     */
+    @Override
+    public Map<String, LatencyHistogram> getLatencyHistograms()
+    {
+        Map<String, LatencyHistogram> results = new LinkedHashMap<String, LatencyHistogram>();
+
+        for (Map.Entry<ContextHandler, LatencyHandler> entry : latencyHandlers.entrySet())
+        {
+            results.put(entry.getKey().getContextPath(), entry.getValue().getHistogram());
+        }
+
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @see net.sourceforge.eclipsejetty.starter.common.StatisticsServerAdapter#resetStatistics()
+     */
+    @Override
+    public void resetStatistics()
+    {
+        for (StatisticsHandler handler : statisticsHandlers.values())
+        {
+            handler.statsReset();
+        }
+
+        for (LatencyHandler handler : latencyHandlers.values())
+        {
+            handler.getHistogram().reset();
+        }
+    }
+
     /**
      * {@inheritDoc}
      * 
@@ -159,7 +406,7 @@ public class Jetty9Adapter extends AbstractServerAdapter implements DumpableServ
     @Override
     public Collection<String> getContextPaths()
     {
-        return getContextPaths(new LinkedHashSet<String>(), server.getHandler());
+        return getContextPaths(new LinkedHashSet<String>(), server.getChildHandlersByClass(ContextHandler.class));
     }
 
     protected Collection<String> getContextPaths(LinkedHashSet<String> results, Handler... handlers)
@@ -203,7 +450,8 @@ public class Jetty9Adapter extends AbstractServerAdapter implements DumpableServ
     {
         StringBuilder builder = new StringBuilder();
         List<String> classPathEntries =
-            new ArrayList<String>(getClassPathDescription(new LinkedHashSet<String>(), server.getHandler()));
+            new ArrayList<String>(getClassPathDescription(new LinkedHashSet<String>(),
+                server.getChildHandlersByClass(WebAppContext.class)));
 
         Collections.sort(classPathEntries);
 
@@ -245,4 +493,60 @@ public class Jetty9Adapter extends AbstractServerAdapter implements DumpableServ
 
         return classPath;
     }
+
+    /**
+     * Adds the starting of a lifecycle as phase to the timer.
+     */
+    private static class StartupTimerListener implements LifeCycle.Listener
+    {
+        private final StartupTimer timer;
+        private final LifeCycle lifeCycle;
+        private final String phase;
+
+        public StartupTimerListener(StartupTimer timer, LifeCycle lifeCycle, String phase)
+        {
+            super();
+
+            this.timer = timer;
+            this.lifeCycle = lifeCycle;
+            this.phase = phase;
+
+            lifeCycle.addLifeCycleListener(this);
+        }
+
+        @Override
+        public void lifeCycleStarting(LifeCycle event)
+        {
+            timer.begin(phase);
+        }
+
+        @Override
+        public void lifeCycleStarted(LifeCycle event)
+        {
+            timer.end(phase);
+        }
+
+        @Override
+        public void lifeCycleFailure(LifeCycle event, Throwable cause)
+        {
+            timer.end(phase);
+        }
+
+        @Override
+        public void lifeCycleStopping(LifeCycle event)
+        {
+            // intentionally left blank
+        }
+
+        @Override
+        public void lifeCycleStopped(LifeCycle event)
+        {
+            // intentionally left blank
+        }
+
+        public void remove()
+        {
+            lifeCycle.removeLifeCycleListener(this);
+        }
+    }
 }
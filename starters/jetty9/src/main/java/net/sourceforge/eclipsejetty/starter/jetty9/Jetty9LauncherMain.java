@@ -73,7 +73,8 @@ public class Jetty9LauncherMain extends AbstractJettyLauncherMain
 
         boolean success = false;
 
-        for (Handler handler : server.getHandlers())
+        // the contexts may be wrapped, e.g. by the GzipHandler
+        for (Handler handler : server.getChildHandlersByClass(type))
         {
             if (type.isInstance(handler))
             {
@@ -0,0 +1,227 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+package net.sourceforge.eclipsejetty.starter.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram for latencies, based on the bucket layout of the HdrHistogram: the values are recorded into buckets
+ * with exponentially growing ranges, each divided into linear sub-buckets, which results in a fixed relative
+ * precision over the whole range of values. Recording is lock-free and does not allocate any memory, thus it may be
+ * called concurrently by any number of threads. Values are recorded in microseconds by convention.
+ * 
+ * @author Manfred Hantschel
+ */
+public class LatencyHistogram
+{
+
+    /**
+     * The default highest trackable value: one hour in microseconds.
+     */
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = 60L * 60L * 1000L * 1000L;
+
+    /**
+     * The default number of significant decimal digits, resulting in a relative precision of 1 %.
+     */
+    public static final int DEFAULT_SIGNIFICANT_DIGITS = 2;
+
+    private final long highestTrackableValue;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public LatencyHistogram()
+    {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE, DEFAULT_SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Creates the histogram.
+     * 
+     * @param highestTrackableValue the highest value, that can be tracked, higher values are recorded as this value
+     * @param significantDigits the number of significant decimal digits (between 1 and 5)
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits)
+    {
+        super();
+
+        if (highestTrackableValue < 2)
+        {
+            throw new IllegalArgumentException("Highest trackable value must be >= 2");
+        }
+
+        if ((significantDigits < 1) || (significantDigits > 5))
+        {
+            throw new IllegalArgumentException("Significant digits must be between 1 and 5");
+        }
+
+        this.highestTrackableValue = highestTrackableValue;
+
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude =
+            (int) Math.ceil(Math.log(largestValueWithSingleUnitResolution) / Math.log(2));
+        int subBucketCount = 1 << subBucketCountMagnitude;
+
+        subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        subBucketHalfCount = subBucketCount / 2;
+        subBucketMask = subBucketCount - 1;
+        leadingZeroCountBase = 64 - subBucketHalfCountMagnitude - 1;
+
+        long smallestUntrackableValue = subBucketCount;
+        int bucketCount = 1;
+
+        while (smallestUntrackableValue <= highestTrackableValue)
+        {
+            smallestUntrackableValue <<= 1;
+            bucketCount += 1;
+        }
+
+        counts = new AtomicLongArray((bucketCount + 1) * subBucketHalfCount);
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0, values above the highest trackable value as the highest
+     * trackable value.
+     * 
+     * @param value the value
+     */
+    public void record(long value)
+    {
+        value = Math.max(0, Math.min(value, highestTrackableValue));
+
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(value);
+
+        long max = maxValue.get();
+
+        while ((value > max) && (!maxValue.compareAndSet(max, value)))
+        {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Resets the histogram. Values, that are recorded concurrently, may get lost or may be counted partially.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < counts.length(); i += 1)
+        {
+            counts.set(i, 0);
+        }
+
+        totalCount.set(0);
+        totalValue.set(0);
+        maxValue.set(0);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     * 
+     * @return the number of recorded values
+     */
+    public long getTotalCount()
+    {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     * 
+     * @return the mean, 0 if there are no values
+     */
+    public double getMean()
+    {
+        long count = totalCount.get();
+
+        return (count > 0) ? (double) totalValue.get() / count : 0;
+    }
+
+    /**
+     * Returns the highest recorded value.
+     * 
+     * @return the highest value, 0 if there are no values
+     */
+    public long getMax()
+    {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the value at the specified percentile. The result is the highest value, that is equivalent to the
+     * recorded values at the percentile within the precision of the histogram.
+     * 
+     * @param percentile the percentile (between 0 and 100)
+     * @return the value, 0 if there are no values
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        long count = 0;
+
+        for (int i = 0; i < counts.length(); i += 1)
+        {
+            count += counts.get(i);
+        }
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil((Math.min(100, Math.max(0, percentile)) / 100d) * count));
+        long sum = 0;
+
+        for (int i = 0; i < counts.length(); i += 1)
+        {
+            sum += counts.get(i);
+
+            if (sum >= rank)
+            {
+                return Math.min(highestEquivalentValueOf(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    private int indexOf(long value)
+    {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    private long highestEquivalentValueOf(int index)
+    {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+
+        if (bucketIndex < 0)
+        {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+
+        long lowestEquivalentValue = ((long) subBucketIndex) << bucketIndex;
+
+        return lowestEquivalentValue + (1L << bucketIndex) - 1;
+    }
+
+}